@@ -0,0 +1,33 @@
+-- content_statistics 유니크 키 마이그레이션
+-- - 기존에는 (content_post_id, period, statistics_date) 에 일반 인덱스만 있어 배치를 다시 실행할 때마다 중복 행이 쌓임
+-- - 중복이 남아 있으면 유니크 키 추가가 실패하고, 그 상태에서는 ON DUPLICATE KEY UPDATE 경로가 계속 중복을 만듦
+-- - 애플리케이션(배치)을 멈춘 뒤 실행하고, 완료 후 새 버전을 배포
+-- - 같은 키의 행 중 가장 마지막에 저장된 행(content_statistics_id 최대)을 남김
+
+-- 1. 중복 확인 (0 이면 2 단계 생략 가능)
+SELECT COUNT(*) AS duplicated_keys
+FROM (
+    SELECT 1
+    FROM content_statistics
+    GROUP BY content_post_id, period, statistics_date
+    HAVING COUNT(*) > 1
+) dup;
+
+-- 2. 중복 제거
+DELETE cs
+FROM content_statistics cs
+JOIN (
+    SELECT content_post_id, period, statistics_date, MAX(content_statistics_id) AS keep_id
+    FROM content_statistics
+    GROUP BY content_post_id, period, statistics_date
+    HAVING COUNT(*) > 1
+) dup ON dup.content_post_id = cs.content_post_id
+     AND dup.period = cs.period
+     AND dup.statistics_date = cs.statistics_date
+WHERE cs.content_statistics_id < dup.keep_id;
+
+-- 3. 유니크 키 추가, 같은 컬럼의 일반 인덱스 제거
+ALTER TABLE content_statistics
+    ADD CONSTRAINT uk_content_statistics_content_period_date
+        UNIQUE (content_post_id, period, statistics_date),
+    DROP INDEX idx_content_statistics_composite;
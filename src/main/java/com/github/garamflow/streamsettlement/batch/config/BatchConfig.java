@@ -1,38 +1,63 @@
 package com.github.garamflow.streamsettlement.batch.config;
 
+import com.github.garamflow.streamsettlement.batch.dimension.ContentDimension;
 import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
 import com.github.garamflow.streamsettlement.batch.dto.StatisticsAndCumulativeSettlementDto;
 import com.github.garamflow.streamsettlement.batch.incrementer.CustomJobParameterIncrementer;
 import com.github.garamflow.streamsettlement.batch.listener.DailyLogAggregationStepListener;
+import com.github.garamflow.streamsettlement.batch.listener.LockConflictMetricsListener;
+import com.github.garamflow.streamsettlement.batch.partition.HotContentPartitioner;
 import com.github.garamflow.streamsettlement.batch.partition.SettlementPartitioner;
 import com.github.garamflow.streamsettlement.batch.partition.StatisticsPartitioner;
 import com.github.garamflow.streamsettlement.batch.processor.SettlementItemProcessor;
 import com.github.garamflow.streamsettlement.batch.processor.StatisticsItemProcessor;
+import com.github.garamflow.streamsettlement.batch.reader.HotContentCombineItemReader;
 import com.github.garamflow.streamsettlement.batch.reader.SettlementItemReader;
+import com.github.garamflow.streamsettlement.batch.reader.StatisticsCounterItemReader;
+import com.github.garamflow.streamsettlement.batch.reader.StatisticsCursorItemReader;
 import com.github.garamflow.streamsettlement.batch.reader.StatisticsItemReader;
+import com.github.garamflow.streamsettlement.batch.reader.support.HeapOccupancyMonitor;
+import com.github.garamflow.streamsettlement.batch.tasklet.ContentLeaderboardTasklet;
+import com.github.garamflow.streamsettlement.batch.tasklet.HotContentDetectTasklet;
+import com.github.garamflow.streamsettlement.batch.tasklet.HotContentSliceTasklet;
+import com.github.garamflow.streamsettlement.batch.tasklet.StagingPrepareTasklet;
+import com.github.garamflow.streamsettlement.batch.tasklet.StagingPublishTasklet;
+import com.github.garamflow.streamsettlement.batch.tasklet.StatisticsCloseTasklet;
+import com.github.garamflow.streamsettlement.batch.tasklet.StatisticsRollupTasklet;
+import com.github.garamflow.streamsettlement.batch.writer.FusedStatisticsSettlementItemWriter;
 import com.github.garamflow.streamsettlement.batch.writer.SettlementItemWriter;
 import com.github.garamflow.streamsettlement.batch.writer.StatisticsItemWriter;
 import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersValidator;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.CompositeJobParametersValidator;
 import org.springframework.batch.core.job.DefaultJobParametersValidator;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Arrays;
 
@@ -42,6 +67,7 @@ import java.util.Arrays;
  * - 일일 통계 및 정산 작업의 Job, Step, Partitioner 등을 구성
  * - 병렬 처리를 위한 ThreadPool 설정 포함
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class BatchConfig {
@@ -49,39 +75,111 @@ public class BatchConfig {
     private static final String JOB_NAME = "daily-statistics-settlement-job";
     private static final String STATISTICS_MASTER_STEP_NAME = "daily-statistics-master-step";
     private static final String STATISTICS_STEP_NAME = "daily-statistics-step";
+    private static final String STATISTICS_CLOSE_STEP_NAME = "daily-statistics-close-step";
+    private static final String STATISTICS_ROLLUP_STEP_NAME = "daily-statistics-rollup-step";
+    private static final String HOT_CONTENT_DETECT_STEP_NAME = "daily-hot-content-detect-step";
+    private static final String HOT_CONTENT_MASTER_STEP_NAME = "daily-hot-content-master-step";
+    private static final String HOT_CONTENT_COMBINE_STEP_NAME = "daily-hot-content-combine-step";
     private static final String SETTLEMENT_MASTER_STEP_NAME = "daily-settlement-master-step";
     private static final String SETTLEMENT_STEP_NAME = "daily-settlement-step";
+    private static final String STAGING_PREPARE_STEP_NAME = "daily-staging-prepare-step";
+    private static final String STAGING_PUBLISH_STEP_NAME = "daily-staging-publish-step";
+    private static final String LEADERBOARD_STEP_NAME = "daily-leaderboard-step";
+    // 파티션 워커 하나가 동시에 점유하는 커넥션 수 (청크 트랜잭션 + 선조회 생산자 또는 스트리밍 커서)
+    private static final int CONNECTIONS_PER_PARTITION = 2;
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final StatisticsPartitioner statisticsPartitioner;
     private final StatisticsItemReader statisticsItemReader;
+    private final StatisticsCursorItemReader statisticsCursorItemReader;
+    private final StatisticsCounterItemReader statisticsCounterItemReader;
     private final StatisticsItemProcessor statisticsItemProcessor;
+    private final ContentDimension contentDimension;
     private final StatisticsItemWriter statisticsItemWriter;
+    private final FusedStatisticsSettlementItemWriter fusedStatisticsSettlementItemWriter;
     private final DailyLogAggregationStepListener dailyLogAggregationStepListener;
+    private final LockConflictMetricsListener lockConflictMetricsListener;
+    private final StatisticsCloseTasklet statisticsCloseTasklet;
+    private final StatisticsRollupTasklet statisticsRollupTasklet;
+    private final ContentLeaderboardTasklet contentLeaderboardTasklet;
+    private final StagingPrepareTasklet stagingPrepareTasklet;
+    private final StagingPublishTasklet stagingPublishTasklet;
+    private final HotContentDetectTasklet hotContentDetectTasklet;
+    private final HotContentPartitioner hotContentPartitioner;
+    private final HotContentSliceTasklet hotContentSliceTasklet;
+    private final HotContentCombineItemReader hotContentCombineItemReader;
     private final SettlementPartitioner settlementPartitioner;
     private final SettlementItemReader settlementItemReader;
     private final SettlementItemProcessor settlementItemProcessor;
     private final SettlementItemWriter settlementItemWriter;
     private final BatchProperties batchProperties;
+    private final Environment environment;
+    private final DataSource dataSource;
 
     /**
      * 메인 배치 Job 구성
-     * 1. 통계 처리 Step (statisticsMasterStep)
+     * 1. 통계 처리 Step (statisticsMasterStep, 증분 집계 모드에서는 statisticsCloseStep)
+     *    - 핫 컨텐츠 분할 사용 시: 탐지 -> 일반 파티션 -> 핫 컨텐츠 구간 파티션 -> 부분 합계 결합
      * 2. 정산 처리 Step (settlementMasterStep)
+     *    - 통계-정산 결합 모드에서는 통계 Step 이 정산까지 저장하므로 생략
+     * 스테이징 모드에서는 처음에 스테이징 준비, 마지막에 라이브 테이블 반영 Step 실행
+     * 롤업 사용 시 통계 Step 직후 (스테이징 모드에서는 반영 Step 이후) 주/월/연 롤업 Step 실행
+     * 리더보드 사용 시 마지막에 기간별 리더보드 갱신 Step 실행
      * 순차적으로 실행
      */
     @Bean
     public Job dailyStatisticsAndSettlementJob(
             CustomJobParameterIncrementer incrementer,
             @Qualifier("statisticsMasterStep") Step statisticsMasterStep,
-            @Qualifier("settlementMasterStep") Step settlementMasterStep) {
-        return new JobBuilder(JOB_NAME, jobRepository)
+            @Qualifier("statisticsCloseStep") Step statisticsCloseStep,
+            @Qualifier("hotContentDetectStep") Step hotContentDetectStep,
+            @Qualifier("hotContentMasterStep") Step hotContentMasterStep,
+            @Qualifier("hotContentCombineStep") Step hotContentCombineStep,
+            @Qualifier("settlementMasterStep") Step settlementMasterStep,
+            @Qualifier("stagingPrepareStep") Step stagingPrepareStep,
+            @Qualifier("stagingPublishStep") Step stagingPublishStep,
+            @Qualifier("statisticsRollupStep") Step statisticsRollupStep,
+            @Qualifier("leaderboardStep") Step leaderboardStep) {
+        JobBuilder jobBuilder = new JobBuilder(JOB_NAME, jobRepository)
                 .incrementer(incrementer)
-                .validator(validator())
-                .start(statisticsMasterStep)
-                .next(settlementMasterStep)
-                .build();
+                .validator(validator());
+
+        SimpleJobBuilder simpleJobBuilder;
+        if (batchProperties.getMicroBatch().isEnabled()) {
+            simpleJobBuilder = jobBuilder.start(statisticsCloseStep);
+        } else {
+            // 통계 처리기가 사용하는 컨텐츠 차원 데이터를 Job 시작 시 적재, 종료 시 제거
+            jobBuilder.listener(contentDimension);
+            boolean hotContentEnabled = batchProperties.getPartition().isHotContentEnabled();
+            Step firstStep = hotContentEnabled ? hotContentDetectStep : statisticsMasterStep;
+            simpleJobBuilder = isStagingPublish()
+                    ? jobBuilder.start(stagingPrepareStep).next(firstStep)
+                    : jobBuilder.start(firstStep);
+            if (hotContentEnabled) {
+                simpleJobBuilder.next(statisticsMasterStep)
+                        .next(hotContentMasterStep)
+                        .next(hotContentCombineStep);
+            }
+        }
+
+        boolean rollupEnabled = batchProperties.getRollup().isEnabled();
+        if (rollupEnabled && !isStagingPublish()) {
+            simpleJobBuilder.next(statisticsRollupStep);
+        }
+        if (!isFusedSettlement()) {
+            simpleJobBuilder.next(settlementMasterStep);
+        }
+        if (isStagingPublish()) {
+            simpleJobBuilder.next(stagingPublishStep);
+            if (rollupEnabled) {
+                simpleJobBuilder.next(statisticsRollupStep);
+            }
+        }
+        if (batchProperties.getLeaderboard().isEnabled()) {
+            simpleJobBuilder.next(leaderboardStep);
+        }
+        return simpleJobBuilder.build();
     }
 
     /**
@@ -97,6 +195,113 @@ public class BatchConfig {
                 .build();
     }
 
+    /**
+     * 증분 집계 모드의 통계 마감 Step 구성
+     * - 일중 증분 집계 이후 남은 변경분만 반영
+     */
+    @Bean(name = "statisticsCloseStep")
+    public Step dailyStatisticsCloseStep() {
+        return new StepBuilder(STATISTICS_CLOSE_STEP_NAME, jobRepository)
+                .tasklet(statisticsCloseTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 주간/월간/연간 통계 롤업 Step 구성
+     * - 대상 날짜의 DAILY 통계 차이만 주/월/연 행에 더함
+     */
+    @Bean(name = "statisticsRollupStep")
+    public Step dailyStatisticsRollupStep() {
+        return new StepBuilder(STATISTICS_ROLLUP_STEP_NAME, jobRepository)
+                .tasklet(statisticsRollupTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 기간별 리더보드 갱신 Step 구성
+     * - 통계/롤업 저장이 끝난 뒤 기간 슬롯별 상위 K 개를 교체
+     */
+    @Bean(name = "leaderboardStep")
+    public Step dailyLeaderboardStep() {
+        return new StepBuilder(LEADERBOARD_STEP_NAME, jobRepository)
+                .tasklet(contentLeaderboardTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 스테이징 준비 Step 구성
+     * - 스테이징 테이블 생성 및 대상 날짜 잔여 행 삭제
+     */
+    @Bean(name = "stagingPrepareStep")
+    public Step dailyStagingPrepareStep() {
+        return new StepBuilder(STAGING_PREPARE_STEP_NAME, jobRepository)
+                .tasklet(stagingPrepareTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 스테이징 반영 Step 구성
+     * - 대상 날짜의 통계/정산을 한 트랜잭션으로 라이브 테이블에 교체
+     */
+    @Bean(name = "stagingPublishStep")
+    public Step dailyStagingPublishStep() {
+        return new StepBuilder(STAGING_PUBLISH_STEP_NAME, jobRepository)
+                .tasklet(stagingPublishTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 핫 컨텐츠 탐지 Step 구성
+     * - 탐지 결과를 Job ExecutionContext 에 저장
+     */
+    @Bean(name = "hotContentDetectStep")
+    public Step dailyHotContentDetectStep() {
+        return new StepBuilder(HOT_CONTENT_DETECT_STEP_NAME, jobRepository)
+                .tasklet(hotContentDetectTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 핫 컨텐츠 구간 분할 마스터 Step 구성
+     * - 핫 컨텐츠 하나의 로그를 여러 로그 ID 구간으로 나누어 병렬로 부분 합계 계산
+     */
+    @Bean(name = "hotContentMasterStep")
+    public Step dailyHotContentPartitionMasterStep() {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(dailyHotContentSliceStep());
+        partitionHandler.setTaskExecutor(executor());
+        partitionHandler.setGridSize(batchProperties.getPartition().getHotContentSlices());
+
+        return new StepBuilder(HOT_CONTENT_MASTER_STEP_NAME, jobRepository)
+                .partitioner(HotContentSliceTasklet.STEP_NAME, hotContentPartitioner)
+                .partitionHandler(partitionHandler)
+                .build();
+    }
+
+    /**
+     * 핫 컨텐츠 구간 워커 Step 구성
+     */
+    @Bean(name = "hotContentSliceStep")
+    public Step dailyHotContentSliceStep() {
+        return new StepBuilder(HotContentSliceTasklet.STEP_NAME, jobRepository)
+                .tasklet(hotContentSliceTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 핫 컨텐츠 부분 합계 결합 Step 구성
+     * - 구간별 부분 합계를 컨텐츠별로 합산한 뒤 일반 통계와 같은 Processor/Writer 로 저장
+     */
+    @Bean(name = "hotContentCombineStep")
+    public Step dailyHotContentCombineStep() {
+        return new StepBuilder(HOT_CONTENT_COMBINE_STEP_NAME, jobRepository)
+                .<CumulativeStatisticsDto, ContentStatistics>chunk(batchProperties.getChunkSize(), transactionManager)
+                .reader(hotContentCombineItemReader)
+                .processor(statisticsItemProcessor)
+                .writer(statisticsWriter())
+                .build();
+    }
+
     /**
      * 정산 처리를 위한 마스터 Step 구성
      * - 정산 데이터를 파티션 단위로 분할하여 병렬 처리
@@ -141,9 +346,19 @@ public class BatchConfig {
     /**
      * 배치 작업 실행을 위한 스레드풀 구성
      * - 코어 풀 사이즈, 최대 풀 사이즈, 큐 용량 등 설정
+     * - 가상 스레드 활성화 시 파티션마다 가상 스레드를 생성하고 동시 실행 수만 커넥션 풀 크기로 제한
      */
     @Bean
     public TaskExecutor executor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(batchProperties.getPool().getThreadNamePrefix());
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(resolveVirtualConcurrencyLimit());
+            executor.setTaskTerminationTimeout(60_000L);
+            log.info("Batch partitions run on virtual threads - concurrency limit: {}", executor.getConcurrencyLimit());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(batchProperties.getPool().getCoreSize());
         executor.setMaxPoolSize(batchProperties.getPool().getMaxSize());
@@ -154,29 +369,113 @@ public class BatchConfig {
         return executor;
     }
 
+    /**
+     * 페이징 Reader 조회 크기 조절용 GC 직후 힙 점유율 모니터
+     * - 힙 풀의 collection usage threshold(JVM 전역)는 여기서 한 번만 설정
+     */
+    @Bean
+    public HeapOccupancyMonitor heapOccupancyMonitor() {
+        return new HeapOccupancyMonitor(batchProperties.getReader().getHighMemoryThreshold());
+    }
+
+    /**
+     * 가상 스레드 모드의 동시 실행 수 결정
+     * - 파티션마다 커넥션 2개를 쓰므로 (청크 트랜잭션 + 선조회 생산자 스레드 또는 JdbcCursorItemReader 커서)
+     *   (Hikari 최대 커넥션 수 - 1) / 2 로 제한 (JobRepository 갱신용 커넥션 1개 확보)
+     * - 설정값이 있으면 그대로 사용하되 커넥션 풀을 넘으면 경고
+     */
+    private int resolveVirtualConcurrencyLimit() {
+        int configured = batchProperties.getPool().getVirtualConcurrencyLimit();
+        int poolSize = resolveConnectionPoolSize();
+        int poolLimit = poolSize > 0 ? Math.max(1, (poolSize - 1) / CONNECTIONS_PER_PARTITION) : 0;
+
+        if (configured > 0) {
+            if (poolLimit > 0 && configured > poolLimit) {
+                log.warn("pool.virtual-concurrency-limit {} needs {} connections but the pool has {} "
+                                + "(each partition holds {} connections), expect connection acquisition timeouts",
+                        configured, configured * CONNECTIONS_PER_PARTITION + 1, poolSize, CONNECTIONS_PER_PARTITION);
+            }
+            return configured;
+        }
+        return poolLimit > 0 ? poolLimit : batchProperties.getPool().getMaxSize();
+    }
+
+    /**
+     * Hikari 최대 커넥션 수 조회 (알 수 없으면 0)
+     */
+    private int resolveConnectionPoolSize() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to resolve connection pool size, falling back to pool.maxSize", e);
+        }
+        return 0;
+    }
+
     /**
      * 통계 처리를 위한 파티션 Step 구성
      * - 데이터를 여러 파티션으로 나누어 병렬 처리
+     * - 데드락/락 대기 타임아웃은 집계 후 재시도 (PessimisticLockingFailureException)
      */
     @Bean(name = "statisticsStep")
     public Step dailyStatisticsStep() {
         return new StepBuilder(STATISTICS_STEP_NAME, jobRepository)
                 .<CumulativeStatisticsDto, ContentStatistics>chunk(batchProperties.getChunkSize(), transactionManager)
-                .reader(statisticsItemReader)
+                .reader(statisticsReader())
                 .processor(statisticsItemProcessor)
-                .writer(statisticsItemWriter)
+                .writer(statisticsWriter())
                 .listener(dailyLogAggregationStepListener)
+                .listener(lockConflictMetricsListener)
                 .faultTolerant()
                 .retryLimit(3)
-                .retry(CannotAcquireLockException.class)
+                .retry(PessimisticLockingFailureException.class)
                 .backOffPolicy(new ExponentialBackOffPolicy())
                 .build();
     }
 
+    /**
+     * 설정에 따른 통계 Reader 선택
+     * - PAGING: 컨텐츠 ID 페이지 단위 조회 (기본)
+     * - CURSOR: 파티션 범위 단일 스트리밍 커서
+     * - COUNTER: 수집 시점 카운터 (SQL 집계 대체 경로 포함)
+     */
+    private ItemReader<CumulativeStatisticsDto> statisticsReader() {
+        return switch (batchProperties.getReader().getStatisticsType()) {
+            case CURSOR -> statisticsCursorItemReader;
+            case COUNTER -> statisticsCounterItemReader;
+            case PAGING -> statisticsItemReader;
+        };
+    }
+
+    /**
+     * 설정에 따른 통계 Writer 선택
+     * - 결합 모드: 통계 저장 후 같은 청크로 정산까지 저장
+     * - 기본: 통계만 저장
+     */
+    private ItemWriter<ContentStatistics> statisticsWriter() {
+        return isFusedSettlement() ? fusedStatisticsSettlementItemWriter : statisticsItemWriter;
+    }
+
+    /**
+     * 통계-정산 결합 모드 여부
+     * - 증분 집계 모드는 통계 청크가 없으므로 결합하지 않음
+     * - 스테이징 모드는 정산 Step 이 읽을 라이브 통계가 아직 없으므로 항상 결합
+     */
+    private boolean isFusedSettlement() {
+        return (batchProperties.getSettlement().isFused() || batchProperties.getStaging().isEnabled())
+                && !batchProperties.getMicroBatch().isEnabled();
+    }
+
+    private boolean isStagingPublish() {
+        return batchProperties.usesStagingPublish();
+    }
+
     /**
      * 정산 처리를 위한 워커 Step 구성
      * - 청크 단위로 데이터 처리
-     * - 재시도 및 오류 처리 정책 포함
+     * - 재시도 및 오류 처리 정책 포함 (데드락/락 대기 타임아웃은 집계 후 재시도)
      */
     @Bean(name = "settlementStep")
     public Step dailySettlementStep() {
@@ -185,9 +484,10 @@ public class BatchConfig {
                 .reader(settlementItemReader)
                 .processor(settlementItemProcessor)
                 .writer(settlementItemWriter)
+                .listener(lockConflictMetricsListener)
                 .faultTolerant()
                 .retryLimit(3)
-                .retry(CannotAcquireLockException.class)
+                .retry(PessimisticLockingFailureException.class)
                 .backOffPolicy(new ExponentialBackOffPolicy())
                 .build();
     }
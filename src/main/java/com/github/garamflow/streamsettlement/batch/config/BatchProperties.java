@@ -19,11 +19,28 @@ public class BatchProperties {
     private int gridSize = 8;      // 기본 파티션 수 (8코어 시스템 기준)
     private Pool pool = new Pool();
     private Reader reader = new Reader();
+    private Writer writer = new Writer();
+    private Partition partition = new Partition();
+    private MicroBatch microBatch = new MicroBatch();
+    private Settlement settlement = new Settlement();
+    private Staging staging = new Staging();
+    private Rollup rollup = new Rollup();
+    private Leaderboard leaderboard = new Leaderboard();
 
+    /**
+     * 스테이징 적재 후 일괄 반영 모드 여부
+     * - 증분 집계 모드는 마감 Step 이 라이브 테이블을 직접 갱신하므로 사용하지 않음
+     */
+    public boolean usesStagingPublish() {
+        return staging.isEnabled() && !microBatch.isEnabled();
+    }
 
     /**
      * 스레드 풀 설정
      * - 병렬 처리를 위한 스레드 풀 크기 및 설정
+     * - spring.threads.virtual.enabled=true 이면 톰캣 요청 처리와 파티션 워커 모두 가상 스레드로 실행
+     * - 가상 스레드 모드의 동시 실행 수는 DB 커넥션 풀 크기로 제한 (virtualConcurrencyLimit 으로 재정의 가능)
+     *   파티션마다 청크 트랜잭션 커넥션과 선조회/커서 커넥션을 함께 점유하므로 파티션당 커넥션 2개로 계산
      */
     @Getter
     @Setter
@@ -32,20 +49,118 @@ public class BatchProperties {
         private int maxSize = 4;
         private int queueCapacity = 25;
         private String threadNamePrefix = "batch-";
+        private int virtualConcurrencyLimit = 0;     // 0 이하면 (커넥션 풀 크기 - 1) / 2 로 자동 설정
     }
 
     /**
      * 데이터 읽기 관련 설정
      * - 메모리 사용량 제어 및 성능 최적화를 위한 설정
+     * - 페이징 Reader 는 GC 직후 힙 점유율과 조회 시간에 따라 min/maxFetchSize 사이에서 페이지 크기 조절
      */
     @Getter
     @Setter
     public static class Reader {
-        private int queueCapacity = 5000;        // 큐 최대 용량
+        private int queueCapacity = 5000;        // 큐 최대 용량 (선조회 페이지 수 = queueCapacity / chunkSize)
         private int maxFetchSize = 5000;         // 최대 fetch 크기
         private int minFetchSize = 100;          // 최소 fetch 크기
         private long backPressureDelay = 50L;    // 백프레셔 대기 시간 (ms)
         private int highMemoryThreshold = 80;    // 높은 메모리 사용량 기준 (%)
         private int mediumMemoryThreshold = 60;  // 중간 메모리 사용량 기준 (%)
+        private long targetFetchLatencyMs = 500L;  // 페이지 조회 목표 시간 (ms, 초과 시 fetch 크기 축소)
+        private StatisticsReaderType statisticsType = StatisticsReaderType.PAGING;  // 통계 Reader 종류
+        private int cursorFetchSize = Integer.MIN_VALUE;  // 커서 fetch 크기 (MIN_VALUE: 행 단위 스트리밍, 양수: useCursorFetch=true 필요)
+    }
+
+    /**
+     * 데이터 저장 관련 설정
+     * - LOAD_DATA 사용 시 JDBC URL 에 allowLoadLocalInfile=true, MySQL 서버에 local_infile=ON 설정 필요
+     */
+    @Getter
+    @Setter
+    public static class Writer {
+        private WriterStrategyType strategy = WriterStrategyType.JDBC_BATCH;  // 통계/정산 벌크 저장 방식
+    }
+
+    /**
+     * 통계 파티션 분할 설정
+     * - QUANTILE 분할 시 일일 카운터(시청 로그 수)가 신뢰 가능하면 로그 수로 가중치 부여
+     * - 카운터가 없는 컨텐츠는 카운터가 있는 컨텐츠의 평균 로그 수로 간주
+     * - hotContent: 로그 수가 임계치 이상인 컨텐츠는 일반 파티션에서 제외하고 로그 ID 구간으로 쪼개 여러 워커가 부분 합계 계산
+     */
+    @Getter
+    @Setter
+    public static class Partition {
+        private PartitionStrategy strategy = PartitionStrategy.RANGE;  // 분할 방식
+        private PartitionStrategy settlementStrategy = PartitionStrategy.RANGE;  // 정산 파티션 분할 방식 (QUANTILE: 행 수 균등)
+        private boolean weightByLogCount = true;     // 로그 수 가중치 사용 여부
+        private int counterLookupBatchSize = 10000;  // 가중치 조회 시 HMGET 한 번에 조회할 컨텐츠 수
+        private boolean hotContentEnabled = false;   // 핫 컨텐츠 분할 사용 여부
+        private long hotContentThreshold = 1_000_000L;  // 핫 컨텐츠 판정 기준 로그 수
+        private int hotContentMaxCount = 16;         // 분할 대상 핫 컨텐츠 최대 수
+        private int hotContentSlices = 8;            // 핫 컨텐츠 하나를 나눌 로그 ID 구간 수
+    }
+
+    /**
+     * 일중 증분 통계 집계 설정
+     * - 주기적으로 (updated_at, id) 워터마크 이후 변경된 시청 로그만 DAILY 통계에 반영
+     * - 활성화 시 야간 배치는 로그 전체 재집계 대신 남은 변경분만 반영하는 마감 Step 실행
+     */
+    @Getter
+    @Setter
+    public static class MicroBatch {
+        private boolean enabled = false;         // 증분 집계 사용 여부
+        private long intervalMs = 300_000L;      // 실행 간격 (ms)
+        private int pageSize = 5000;             // 한 번에 읽을 변경 로그 수
+        private int maxPagesPerRun = 100;        // 주기 실행 1회당 최대 페이지 수
+        private long safetyLagSeconds = 10L;     // 커밋 지연을 고려해 최근 N초 내 변경분은 다음 실행으로 미룸
+        private long closeLockWaitMs = 60_000L;  // 마감 Step 의 락 대기 시간 (ms)
+    }
+
+    /**
+     * 정산 처리 설정
+     * - fused: 통계 Step 의 Writer 가 메모리의 통계 청크로 정산까지 저장하고 별도 정산 Step 은 생략
+     * - 증분 집계 모드는 통계를 청크로 만들지 않으므로 fused 설정과 무관하게 정산 Step 실행
+     * - 이전 누적 정산은 settlement_latest 에서 PK 로 조회 (기존 정산 이력은 백필 API 로 반영)
+     */
+    @Getter
+    @Setter
+    public static class Settlement {
+        private boolean fused = false;           // 통계-정산 결합 처리 사용 여부
+        private int latestBackfillBatchSize = 10_000;  // settlement_latest 백필 시 한 번에 처리할 컨텐츠 ID 구간 크기
+    }
+
+    /**
+     * 스테이징 적재 후 일괄 반영 설정
+     * - 통계/정산을 스테이징 테이블(*_staged)에 적재하고 Job 마지막에 대상 날짜를 한 트랜잭션으로 교체 (삭제 후 INSERT ... SELECT)
+     * - 재실행 시 날짜 단위로 통째로 교체하므로 누적 upsert 로 인한 중복 집계가 없고, API 는 반쯤 쓰인 날짜를 보지 않음
+     * - 정산 Step 은 라이브 통계를 읽으므로 스테이징 모드에서는 통계-정산 결합(fused) 경로로 처리
+     * - 증분 집계 모드에서는 사용하지 않음
+     */
+    @Getter
+    @Setter
+    public static class Staging {
+        private boolean enabled = false;         // 스테이징 적재 후 일괄 반영 사용 여부
+    }
+
+    /**
+     * 주간/월간/연간 통계 롤업 설정
+     * - 통계 Step(스테이징 모드에서는 반영 Step) 이후 대상 날짜의 DAILY 통계를 주/월/연 행에 증분 반영
+     */
+    @Getter
+    @Setter
+    public static class Rollup {
+        private boolean enabled = true;          // 롤업 Step 사용 여부
+    }
+
+    /**
+     * 기간별 리더보드 설정
+     * - Job 마지막에 대상 날짜가 속한 기간 슬롯의 상위 K 개를 content_leaderboard 에 저장
+     * - 조회 API 는 리더보드를 우선 읽고, 슬롯이 비어 있으면 content_statistics 정렬 조회로 대체
+     */
+    @Getter
+    @Setter
+    public static class Leaderboard {
+        private boolean enabled = true;          // 리더보드 Step 사용 여부
+        private int size = 10;                   // 슬롯당 보관할 순위 수 (K)
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.github.garamflow.streamsettlement.batch.config;
+
+/**
+ * 파티션 분할 방식
+ * - RANGE: ID 최소/최대 구간을 숫자 범위로 균등 분할 (기본)
+ * - QUANTILE: 실제 ID 분포의 분위수로 잘라 파티션마다 처리 건수를 균등하게 분배
+ *   - 통계: 당일 컨텐츠 ID 집합 기준 (로그 수 가중치 가능)
+ *   - 정산: 당일 통계 ID 를 키셋으로 N 번째마다 샘플링한 경계 기준
+ */
+public enum PartitionStrategy {
+    RANGE,
+    QUANTILE
+}
@@ -0,0 +1,13 @@
+package com.github.garamflow.streamsettlement.batch.config;
+
+/**
+ * 통계 Step 에서 사용할 Reader 종류
+ * - PAGING: 컨텐츠 ID 페이지 단위 GROUP BY 조회 (기본)
+ * - CURSOR: 파티션 범위 전체를 하나의 스트리밍 커서로 읽으며 컨텐츠 경계마다 집계
+ * - COUNTER: 수집 시점 Redis 카운터를 직접 사용하고, 없거나 검증 실패 시 SQL 집계로 대체
+ */
+public enum StatisticsReaderType {
+    PAGING,
+    CURSOR,
+    COUNTER
+}
@@ -0,0 +1,12 @@
+package com.github.garamflow.streamsettlement.batch.config;
+
+/**
+ * 통계/정산 벌크 저장 방식
+ * - JDBC_BATCH: INSERT ... ON DUPLICATE KEY UPDATE 를 JDBC batchUpdate 로 실행 (기본)
+ * - LOAD_DATA: 청크를 메모리 TSV 스트림으로 만들어 LOAD DATA LOCAL INFILE 로 임시 스테이징 테이블에 적재한 뒤
+ *   INSERT ... SELECT 한 번으로 병합 (allowLoadLocalInfile=true, 서버 local_infile=ON 필요)
+ */
+public enum WriterStrategyType {
+    JDBC_BATCH,
+    LOAD_DATA
+}
@@ -0,0 +1,191 @@
+package com.github.garamflow.streamsettlement.batch.dimension;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨텐츠 차원 데이터 (contentId -> totalViews)
+ * - Job 실행 시작 시 한 번, 프로젝션 쿼리 하나를 스트리밍으로 읽어 정렬된 long 배열 두 개에 적재
+ * - 싱글톤 보관소로 JobExecution ID 별 스냅샷을 보관하고 Job 종료 시 제거
+ * - 조회 시 현재 스레드의 StepContext 에서 JobExecution ID 를 찾음
+ *   (Job 컨텍스트는 Job 실행 스레드에만 있으므로 @JobScope 는 파티션 워커 스레드에서 사용할 수 없음)
+ * - 모든 파티션 워커가 같은 스냅샷을 읽기 전용으로 공유 (엔티티/연관관계 로딩 없음)
+ * - 조회는 이진 탐색, 적재 이후 생성된 컨텐츠만 단건 조회 후 별도 보관
+ * - 적재 크기와 추정 메모리 사용량을 로그와 메트릭으로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentDimension implements JobExecutionListener {
+
+    private static final String CONTENT_SQL = """
+            SELECT content_post_id, COALESCE(total_views, 0) AS total_views
+            FROM content_post
+            ORDER BY content_post_id
+            """;
+
+    private static final String SINGLE_CONTENT_SQL = """
+            SELECT COALESCE(total_views, 0)
+            FROM content_post
+            WHERE content_post_id = ?
+            """;
+
+    // 배열 헤더를 포함한 long 배열 하나의 고정 크기 (byte)
+    private static final long ARRAY_HEADER_BYTES = 16L;
+
+    private final DataSource dataSource;
+    private final BatchProperties batchProperties;
+    private final MeterRegistry meterRegistry;
+
+    // JobExecution ID -> 적재 스냅샷
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Job 시작 시 컨텐츠 차원 데이터 적재
+     */
+    @Override
+    public void beforeJob(@NonNull JobExecution jobExecution) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(batchProperties.getReader().getCursorFetchSize());
+
+        long startTime = System.currentTimeMillis();
+        long[][] buffer = {new long[1024], new long[1024]};
+        int[] size = {0};
+        streamingTemplate.query(CONTENT_SQL, rs -> {
+            if (size[0] == buffer[0].length) {
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+                buffer[1] = Arrays.copyOf(buffer[1], size[0] * 2);
+            }
+            buffer[0][size[0]] = rs.getLong(1);
+            buffer[1][size[0]] = rs.getLong(2);
+            size[0]++;
+        });
+        Snapshot snapshot = load(jobExecution.getId(),
+                Arrays.copyOf(buffer[0], size[0]), Arrays.copyOf(buffer[1], size[0]));
+
+        log.info("Content dimension loaded for job execution {} - {} contents, ~{} KB, {} ms",
+                jobExecution.getId(), snapshot.size(), snapshot.footprintBytes() / 1024,
+                System.currentTimeMillis() - startTime);
+        meterRegistry.summary("batch.content-dimension.bytes").record(snapshot.footprintBytes());
+    }
+
+    /**
+     * Job 종료 시 스냅샷 제거 (성공/실패 무관)
+     */
+    @Override
+    public void afterJob(@NonNull JobExecution jobExecution) {
+        snapshots.remove(jobExecution.getId());
+    }
+
+    /**
+     * 정렬된 배열 적재
+     *
+     * @param jobExecutionId   스냅샷을 사용할 JobExecution ID
+     * @param sortedContentIds 오름차순 컨텐츠 ID
+     * @param views            같은 순서의 누적 조회수
+     */
+    Snapshot load(long jobExecutionId, long[] sortedContentIds, long[] views) {
+        Snapshot snapshot = new Snapshot(sortedContentIds, views);
+        snapshots.put(jobExecutionId, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 컨텐츠 누적 조회수 조회
+     *
+     * @throws NoSuchElementException 적재 데이터와 DB 모두에 컨텐츠가 없는 경우
+     * @throws IllegalStateException  Step 밖에서 호출되었거나 현재 Job 의 스냅샷이 없는 경우
+     */
+    public long getTotalViews(long contentId) {
+        Snapshot snapshot = currentSnapshot();
+        int index = Arrays.binarySearch(snapshot.contentIds, contentId);
+        if (index >= 0) {
+            return snapshot.totalViews[index];
+        }
+        return snapshot.lateContents.computeIfAbsent(contentId, this::loadLateContent);
+    }
+
+    public int size() {
+        return currentSnapshot().size();
+    }
+
+    /**
+     * 추정 메모리 사용량 (byte)
+     */
+    public long footprintBytes() {
+        return currentSnapshot().footprintBytes();
+    }
+
+    private Snapshot currentSnapshot() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            throw new IllegalStateException("Content dimension is only available inside a step execution");
+        }
+        Long jobExecutionId = context.getStepExecution().getJobExecutionId();
+        Snapshot snapshot = snapshots.get(jobExecutionId);
+        if (snapshot == null) {
+            throw new IllegalStateException(
+                    String.format("Content dimension not loaded for job execution: %d", jobExecutionId));
+        }
+        return snapshot;
+    }
+
+    private Long loadLateContent(Long contentId) {
+        log.debug("Content {} not in dimension. Loading from database...", contentId);
+        List<Long> views = jdbcTemplate.queryForList(SINGLE_CONTENT_SQL, Long.class, contentId);
+        if (views.isEmpty()) {
+            throw new NoSuchElementException(
+                    String.format("ContentPost not found in cache or database for id: %d", contentId));
+        }
+        return views.get(0);
+    }
+
+    /**
+     * Job 실행 하나의 적재 스냅샷
+     */
+    static final class Snapshot {
+
+        private final long[] contentIds;
+        private final long[] totalViews;
+
+        // 적재 이후 생성된 컨텐츠 (단건 조회 결과)
+        private final Map<Long, Long> lateContents = new ConcurrentHashMap<>();
+
+        private Snapshot(long[] contentIds, long[] totalViews) {
+            this.contentIds = contentIds;
+            this.totalViews = totalViews;
+        }
+
+        int size() {
+            return contentIds.length;
+        }
+
+        long footprintBytes() {
+            return 2 * ARRAY_HEADER_BYTES + (long) Long.BYTES * (contentIds.length + totalViews.length);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.garamflow.streamsettlement.batch.dto;
+
+import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+
+/**
+ * 정산 계산에 필요한 통계 컬럼만 담은 전달 객체
+ * - content_statistics 에서 프로젝션으로 조회하여 엔티티/영속성 컨텍스트를 거치지 않음
+ */
+public record SettlementSourceDto(
+        Long statisticsId,      // 통계 ID
+        Long contentId,         // 콘텐츠 ID
+        Long accumulatedViews,  // 누적 조회수
+        Long watchTime          // 해당 날짜의 총 시청시간(초)
+) {
+    /**
+     * 메모리에 있는 통계 엔티티로부터 생성 (통계-정산 결합 모드)
+     */
+    public static SettlementSourceDto from(ContentStatistics statistics) {
+        return new SettlementSourceDto(
+                statistics.getId(),
+                statistics.getContentPost().getId(),
+                statistics.getAccumulatedViews(),
+                statistics.getWatchTime()
+        );
+    }
+}
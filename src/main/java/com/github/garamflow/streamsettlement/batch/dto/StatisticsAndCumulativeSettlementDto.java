@@ -1,15 +1,39 @@
 package com.github.garamflow.streamsettlement.batch.dto;
 
-import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+import com.github.garamflow.streamsettlement.domain.AdRevenueRange;
+import com.github.garamflow.streamsettlement.domain.ContentRevenueRange;
 
 /**
  * 통계와 정산 정보를 함께 처리하기 위한 복합 DTO
- * - ContentStatistics: 일일 시청 통계 엔티티
+ * - SettlementSourceDto: 정산 계산에 필요한 일일 시청 통계 컬럼
  * - SettlementCalculationDto: 해당 콘텐츠의 정산 계산 정보
  * - Settlement 엔티티 생성을 위한 중간 데이터 전달 역할
  */
 public record StatisticsAndCumulativeSettlementDto(
-        ContentStatistics statistics,                // 일일 시청 통계 정보
+        SettlementSourceDto statistics,              // 일일 시청 통계 정보
         SettlementCalculationDto cumulativeSettlementDto // 누적 정산 계산 정보
 ) {
+
+    /**
+     * 통계와 이전 누적 정산으로 정산 계산 정보 생성
+     * - 현재 누적 수익은 누적 조회수/시청시간 기준으로 계산
+     * - 이전 정산이 없으면 이전 누적 수익 0
+     */
+    public static StatisticsAndCumulativeSettlementDto of(SettlementSourceDto stat, SettlementCalculationDto previous) {
+        Long contentId = stat.contentId();
+
+        long currentContentRevenue = ContentRevenueRange.calculateTotalRevenue(stat.accumulatedViews());
+        long currentAdRevenue = AdRevenueRange.calculateTotalRevenue(stat.watchTime());
+
+        SettlementCalculationDto calculationDto = new SettlementCalculationDto(
+                null,
+                contentId,
+                currentContentRevenue,
+                currentAdRevenue,
+                previous != null ? previous.totalContentRevenue() : 0L,
+                previous != null ? previous.totalAdRevenue() : 0L
+        );
+
+        return new StatisticsAndCumulativeSettlementDto(stat, calculationDto);
+    }
 }
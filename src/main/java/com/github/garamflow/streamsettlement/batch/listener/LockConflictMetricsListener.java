@@ -0,0 +1,87 @@
+package com.github.garamflow.streamsettlement.batch.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * 쓰기 락 충돌 계측 리스너
+ * - 청크 쓰기 실패 원인에서 MySQL 데드락(1213)과 락 대기 타임아웃(1205)을 구분하여 집계
+ * - Micrometer 카운터 batch.lock.conflicts (step, type 태그) 로 노출 (파티션 접미사를 뗀 Step 이름 사용)
+ * - Step 실행 컨텍스트에도 누적하여 Step(파티션) 별 발생 건수를 확인할 수 있음
+ * - 재시도 대상 오류는 시도마다 호출되므로 재시도로 회복된 충돌도 집계됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockConflictMetricsListener implements ItemWriteListener<Object> {
+
+    public static final String DEADLOCK_COUNT_KEY = "lockDeadlockCount";
+    public static final String LOCK_WAIT_TIMEOUT_COUNT_KEY = "lockWaitTimeoutCount";
+
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<?> items) {
+        int errorCode = lockErrorCode(exception);
+        if (errorCode == MYSQL_DEADLOCK) {
+            record("deadlock", DEADLOCK_COUNT_KEY, items);
+        } else if (errorCode == MYSQL_LOCK_WAIT_TIMEOUT) {
+            record("lock_wait_timeout", LOCK_WAIT_TIMEOUT_COUNT_KEY, items);
+        }
+    }
+
+    private void record(String type, String countKey, Chunk<?> items) {
+        StepContext context = StepSynchronizationManager.getContext();
+        String stepName = context != null ? context.getStepName() : "unknown";
+        Counter.builder("batch.lock.conflicts")
+                .tag("step", baseStepName(stepName))
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+
+        if (context != null) {
+            StepExecution stepExecution = context.getStepExecution();
+            long count = stepExecution.getExecutionContext().getLong(countKey, 0L) + 1;
+            stepExecution.getExecutionContext().putLong(countKey, count);
+        }
+        log.warn("Lock conflict ({}) while writing {} items in step {}", type, items.size(), stepName);
+    }
+
+    /**
+     * 원인 체인에서 MySQL 락 오류 코드 추출 (없으면 0)
+     */
+    static int lockErrorCode(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                for (SQLException e = sqlException; e != null; e = e.getNextException()) {
+                    int code = e.getErrorCode();
+                    if (code == MYSQL_DEADLOCK || code == MYSQL_LOCK_WAIT_TIMEOUT) {
+                        return code;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 파티션 워커 Step 이름("step:partitionN")에서 파티션 접미사 제거
+     */
+    private static String baseStepName(String stepName) {
+        int separator = stepName.indexOf(':');
+        return separator < 0 ? stepName : stepName.substring(0, separator);
+    }
+}
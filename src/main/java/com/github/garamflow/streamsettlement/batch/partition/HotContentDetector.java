@@ -0,0 +1,93 @@
+package com.github.garamflow.streamsettlement.batch.partition;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsQuerydslRepository;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService.DailyCounter;
+import com.github.garamflow.streamsettlement.service.cache.DailyStreamingContentCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 통계 파티션의 작업량을 치우치게 만드는 핫 컨텐츠 탐지
+ * - 대상 날짜의 일일 카운터를 신뢰할 수 있으면 카운터의 로그 수 기준
+ * - 아니면 전날 DAILY 통계의 조회수(로그 수) 기준
+ * - 탐지 결과는 Job ExecutionContext 에 CSV 로 저장되어 일반 파티션 Reader 가 제외 대상으로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotContentDetector {
+
+    public static final String HOT_CONTENT_IDS_KEY = "hotContentIds";
+
+    private final DailyStatisticsCounterService dailyStatisticsCounterService;
+    private final DailyStreamingContentCacheService dailyStreamingContentCacheService;
+    private final ContentStatisticsQuerydslRepository contentStatisticsQuerydslRepository;
+    private final BatchProperties batchProperties;
+
+    /**
+     * @return 핫 컨텐츠 ID (오름차순)
+     */
+    public List<Long> detect(LocalDate targetDate) {
+        BatchProperties.Partition config = batchProperties.getPartition();
+        if (!config.isHotContentEnabled()) {
+            return List.of();
+        }
+
+        List<Long> hotContentIds = dailyStatisticsCounterService.isTrackedFor(targetDate)
+                ? detectFromCounters(targetDate, config)
+                : List.of();
+        if (hotContentIds.isEmpty()) {
+            hotContentIds = contentStatisticsQuerydslRepository.findContentIdsByViewCountAtLeast(
+                    StatisticsPeriod.DAILY, targetDate.minusDays(1),
+                    config.getHotContentThreshold(), config.getHotContentMaxCount());
+        }
+
+        List<Long> sorted = hotContentIds.stream().sorted().toList();
+        log.info("Detected {} hot contents for {}: {}", sorted.size(), targetDate, sorted);
+        return sorted;
+    }
+
+    private List<Long> detectFromCounters(LocalDate targetDate, BatchProperties.Partition config) {
+        List<Long> contentIds = new ArrayList<>(dailyStreamingContentCacheService.getContentIdsByDate(targetDate));
+        Map<Long, Long> heavy = new HashMap<>();
+        int batchSize = config.getCounterLookupBatchSize();
+
+        for (int from = 0; from < contentIds.size(); from += batchSize) {
+            List<Long> batch = contentIds.subList(from, Math.min(from + batchSize, contentIds.size()));
+            Map<Long, DailyCounter> counters = dailyStatisticsCounterService.getCounters(targetDate, batch);
+            counters.forEach((contentId, counter) -> {
+                if (counter.views() >= config.getHotContentThreshold()) {
+                    heavy.put(contentId, counter.views());
+                }
+            });
+        }
+
+        return heavy.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(config.getHotContentMaxCount())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public static String toCsv(Collection<Long> contentIds) {
+        return contentIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static Set<Long> parseContentIds(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .map(Long::parseLong)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
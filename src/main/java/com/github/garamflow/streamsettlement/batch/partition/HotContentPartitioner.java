@@ -0,0 +1,67 @@
+package com.github.garamflow.streamsettlement.batch.partition;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.tasklet.HotContentSliceTasklet;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import com.github.garamflow.streamsettlement.repository.log.WatchLogIdRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 핫 컨텐츠 분할 파티셔닝
+ * - 탐지된 핫 컨텐츠마다 당일 로그 ID 최소/최대 구간을 hotContentSlices 개로 균등 분할
+ * - 각 구간은 별도 워커에서 부분 합계를 계산
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class HotContentPartitioner implements Partitioner {
+
+    private final DailyWatchedContentQuerydslRepository dailyWatchedContentQuerydslRepository;
+    private final BatchProperties batchProperties;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Value("#{jobExecutionContext['hotContentIds']}")
+    private String hotContentIds;
+
+    @Override
+    @NonNull
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        int slices = Math.max(1, batchProperties.getPartition().getHotContentSlices());
+
+        for (Long contentId : HotContentDetector.parseContentIds(hotContentIds)) {
+            WatchLogIdRange range = dailyWatchedContentQuerydslRepository.findLogIdRange(targetDate, contentId);
+            if (range == null) {
+                continue;
+            }
+
+            long span = range.maxId() - range.minId() + 1;
+            long sliceSize = Math.max(1, (span + slices - 1) / slices);
+            int sliceNumber = 1;
+            for (long startId = range.minId(); startId <= range.maxId(); startId += sliceSize) {
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(HotContentSliceTasklet.HOT_CONTENT_ID_KEY, contentId);
+                context.putLong(HotContentSliceTasklet.START_LOG_ID_KEY, startId);
+                context.putLong(HotContentSliceTasklet.END_LOG_ID_KEY, Math.min(startId + sliceSize - 1, range.maxId()));
+                partitions.put("hot" + contentId + "-slice" + sliceNumber++, context);
+            }
+            log.info("Hot content {} split into {} slices over log id {} ~ {}",
+                    contentId, sliceNumber - 1, range.minId(), range.maxId());
+        }
+        return partitions;
+    }
+}
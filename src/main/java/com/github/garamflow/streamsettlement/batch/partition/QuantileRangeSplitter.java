@@ -0,0 +1,81 @@
+package com.github.garamflow.streamsettlement.batch.partition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정렬된 컨텐츠 ID 를 가중치 분위수로 나누는 분할기
+ * - 누적 가중치가 전체의 i/gridSize 지점을 넘을 때마다 경계를 만듦
+ * - 모든 가중치가 같으면 파티션마다 컨텐츠 수가 같아짐
+ * - 파티션 수는 컨텐츠 수를 넘지 않으며 빈 파티션을 만들지 않음
+ * - 구간은 빈틈 없이 이어짐 (다음 구간은 이전 구간 끝 + 1 에서 시작, 첫/마지막 구간은 하한/상한까지 확장)
+ *   목록에서 빠진 컨텐츠 ID 도 어느 한 파티션에서는 반드시 읽힘
+ */
+public final class QuantileRangeSplitter {
+
+    private QuantileRangeSplitter() {
+    }
+
+    /**
+     * 첫 컨텐츠 ID ~ 마지막 컨텐츠 ID 를 빈틈 없이 분할
+     */
+    public static List<ContentIdRange> split(long[] sortedIds, long[] weights, int gridSize) {
+        return split(sortedIds, weights, gridSize, Long.MAX_VALUE, Long.MIN_VALUE);
+    }
+
+    /**
+     * @param sortedIds  오름차순 정렬된 컨텐츠 ID
+     * @param weights    컨텐츠별 가중치 (sortedIds 와 같은 순서, 1 이상)
+     * @param gridSize   요청된 파티션 수
+     * @param lowerBound 첫 구간 시작 ID (첫 컨텐츠 ID 보다 크면 첫 컨텐츠 ID 사용)
+     * @param upperBound 마지막 구간 끝 ID (마지막 컨텐츠 ID 보다 작으면 마지막 컨텐츠 ID 사용)
+     * @return 빈틈 없이 이어지는 컨텐츠 ID 구간 목록 (ID 순)
+     */
+    public static List<ContentIdRange> split(long[] sortedIds, long[] weights, int gridSize,
+                                             long lowerBound, long upperBound) {
+        if (sortedIds.length != weights.length) {
+            throw new IllegalArgumentException("ids and weights must have the same length");
+        }
+        int size = sortedIds.length;
+        if (size == 0) {
+            return List.of();
+        }
+
+        int parts = Math.max(1, Math.min(gridSize, size));
+        long totalWeight = 0;
+        for (long weight : weights) {
+            totalWeight += weight;
+        }
+
+        List<ContentIdRange> ranges = new ArrayList<>(parts);
+        int startIndex = 0;
+        long startId = Math.min(lowerBound, sortedIds[0]);
+        long rangeWeight = 0;
+        long cumulativeWeight = 0;
+
+        for (int i = 0; i < size; i++) {
+            rangeWeight += weights[i];
+            cumulativeWeight += weights[i];
+
+            int remainingParts = parts - ranges.size() - 1;
+            if (remainingParts == 0) {
+                continue;
+            }
+
+            int remainingIds = size - i - 1;
+            boolean quantileReached = cumulativeWeight * parts >= totalWeight * (ranges.size() + 1);
+            if (quantileReached || remainingIds == remainingParts) {
+                ranges.add(new ContentIdRange(startId, sortedIds[i], i - startIndex + 1, rangeWeight));
+                startIndex = i + 1;
+                startId = sortedIds[i] + 1;
+                rangeWeight = 0;
+            }
+        }
+        long endId = Math.max(upperBound, sortedIds[size - 1]);
+        ranges.add(new ContentIdRange(startId, endId, size - startIndex, rangeWeight));
+        return ranges;
+    }
+
+    public record ContentIdRange(long startContentId, long endContentId, int contentCount, long weight) {
+    }
+}
@@ -1,23 +1,35 @@
 package com.github.garamflow.streamsettlement.batch.partition;
 
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.config.PartitionStrategy;
+import com.github.garamflow.streamsettlement.batch.partition.QuantileRangeSplitter.ContentIdRange;
 import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsQuerydslRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 정산 처리를 위한 데이터 파티셔닝 로직 구현
- * - 통계 데이터 ID 범위를 기준으로 파티션 분할
- * - 각 파티션별로 독립적인 정산 처리 수행
+ * - 당일 통계의 컨텐츠 ID 범위를 기준으로 파티션 분할
+ * - 정산(content_post_id, settlement_date)과 settlement_latest(content_post_id) 키가 컨텐츠 ID 로 시작하므로
+ *   워커마다 서로 겹치지 않는 인덱스 구간에만 쓰게 되어 갭/넥스트키 락이 교차하지 않음
+ * - QUANTILE 모드는 당일 컨텐츠 ID 를 키셋으로 한 번 훑어 분위수 지점마다 경계를 잡아 파티션별 행 수를 균등화
+ * - 분할 계획은 마스터 Step ExecutionContext 에 저장되어 재시작 시 그대로 재사용
  */
 @Slf4j
 @StepScope
@@ -25,16 +37,24 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SettlementPartitioner implements Partitioner {
 
+    // 마스터 Step ExecutionContext 에 저장하는 분할 계획 키 (컨텐츠 ID start:end,start:end,...)
+    static final String PARTITION_PLAN_KEY = "settlementContentPartitionPlan";
+
     // 처리 대상 날짜 (Job Parameter)
     @Value("#{jobParameters['targetDate']}")
     private LocalDate targetDate;
 
+    @Value("#{stepExecution}")
+    private StepExecution stepExecution;
+
     private final ContentStatisticsQuerydslRepository contentStatisticsQuerydslRepository;
+    private final BatchProperties batchProperties;
+    private final JobRepository jobRepository;
 
     /**
      * 파티션 생성 로직
-     * - 해당 날짜의 통계 데이터 ID 범위 조회
-     * - ID 범위를 기준으로 파티션 분할
+     * - 해당 날짜 통계의 컨텐츠 ID 범위 조회
+     * - 컨텐츠 ID 범위를 기준으로 파티션 분할
      * 
      * @param gridSize 요청된 파티션 수
      * @return 생성된 파티션 맵 (파티션명 -> 실행 컨텍스트)
@@ -42,9 +62,16 @@ public class SettlementPartitioner implements Partitioner {
     @Override
     @NonNull
     public Map<String, ExecutionContext> partition(int gridSize) {
-        // 데이터베이스에서 최소 및 최대 ID 조회
-        long minId = contentStatisticsQuerydslRepository.findMinIdByStatisticsDate(targetDate);
-        long maxId = contentStatisticsQuerydslRepository.findMaxIdByStatisticsDate(targetDate);
+        ExecutionContext masterContext = stepExecution.getExecutionContext();
+        if (masterContext.containsKey(PARTITION_PLAN_KEY)) {
+            String plan = masterContext.getString(PARTITION_PLAN_KEY);
+            log.info("Reusing settlement partition plan for {}: {}", targetDate, plan);
+            return createPartitions(parsePlan(plan));
+        }
+
+        // 데이터베이스에서 최소 및 최대 컨텐츠 ID 조회
+        long minId = contentStatisticsQuerydslRepository.findMinContentIdByStatisticsDate(targetDate);
+        long maxId = contentStatisticsQuerydslRepository.findMaxContentIdByStatisticsDate(targetDate);
 
         // 데이터가 없는 경우 빈 파티션 생성
         if (minId == 0 || maxId == 0) {
@@ -52,11 +79,17 @@ public class SettlementPartitioner implements Partitioner {
             return createEmptyPartition();
         }
 
-        // Partition 크기 계산
-        long partitionSize = calculatePartitionSize(minId, maxId, gridSize);
+        List<long[]> ranges = batchProperties.getPartition().getSettlementStrategy() == PartitionStrategy.QUANTILE
+                ? planBalancedRanges(minId, maxId, gridSize)
+                : planIdRanges(minId, maxId, calculatePartitionSize(minId, maxId, gridSize));
 
-        // Partition 생성
-        return createPartitions(minId, maxId, partitionSize);
+        // 재시작 시 같은 경계를 쓰도록 계획을 즉시 저장
+        String plan = toPlan(ranges);
+        log.info("Settlement partition plan for {}: {}", targetDate, plan);
+        masterContext.putString(PARTITION_PLAN_KEY, plan);
+        jobRepository.updateExecutionContext(stepExecution);
+
+        return createPartitions(ranges);
     }
 
     /**
@@ -68,33 +101,93 @@ public class SettlementPartitioner implements Partitioner {
         return Math.max((maxId - minId) / gridSize + 1, 1);
     }
 
+    /**
+     * ID 범위 기준 분할 계획
+     * - ID 범위를 partitionSize 간격으로 분할
+     */
+    private List<long[]> planIdRanges(long minId, long maxId, long partitionSize) {
+        List<long[]> ranges = new ArrayList<>();
+        for (long startId = minId; startId <= maxId; startId += partitionSize) {
+            ranges.add(new long[]{startId, Math.min(startId + partitionSize - 1, maxId)});
+        }
+        return ranges;
+    }
+
+    /**
+     * 행 수 균등 분할 계획
+     * - 당일 통계의 컨텐츠 ID 를 (period, statistics_date, content_post_id) 인덱스 키셋으로 한 번만 훑음
+     *   (경계마다 OFFSET 으로 다시 세지 않음)
+     * - 유니크 키상 컨텐츠당 당일 DAILY 행은 하나이므로 컨텐츠 수 분위수가 곧 행 수 분위수
+     * - 구간은 minId ~ maxId 를 빈틈 없이 덮음 (한 컨텐츠는 한 파티션에만 속함)
+     */
+    private List<long[]> planBalancedRanges(long minId, long maxId, int gridSize) {
+        long[] contentIds = loadSortedContentIds();
+        long[] weights = new long[contentIds.length];
+        Arrays.fill(weights, 1L);
+
+        List<long[]> ranges = new ArrayList<>();
+        for (ContentIdRange range : QuantileRangeSplitter.split(contentIds, weights, gridSize, minId, maxId)) {
+            ranges.add(new long[]{range.startContentId(), range.endContentId()});
+        }
+        if (ranges.isEmpty()) {
+            ranges.add(new long[]{minId, maxId});
+        }
+        return ranges;
+    }
+
+    /**
+     * 당일 통계 컨텐츠 ID 정렬 배열 조회 (키셋 페이지)
+     */
+    private long[] loadSortedContentIds() {
+        List<Long> contentIds = new ArrayList<>();
+        Long lastContentId = null;
+        while (true) {
+            List<Long> page = contentStatisticsQuerydslRepository.findContentIdsByStatisticsDate(
+                    targetDate, lastContentId, batchProperties.getChunkSize());
+            if (page.isEmpty()) {
+                break;
+            }
+            contentIds.addAll(page);
+            lastContentId = page.get(page.size() - 1);
+        }
+        return contentIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
     /**
      * Partition 생성
-     * - ID 범위를 기준으로 파티션 분할
-     * - 각 파티션에 시작/종료 ID와 처리 날짜 할당
+     * - 분할 계획의 각 구간에 시작/종료 컨텐츠 ID와 처리 날짜 할당
      */
-    private Map<String, ExecutionContext> createPartitions(long minId, long maxId, long partitionSize) {
+    private Map<String, ExecutionContext> createPartitions(List<long[]> ranges) {
         Map<String, ExecutionContext> partitions = new HashMap<>();
         int partitionNumber = 1;
-        long currentStartId = minId;
-
-        while (currentStartId <= maxId) {
-            long currentEndId = Math.min(currentStartId + partitionSize - 1, maxId);
 
+        for (long[] range : ranges) {
             ExecutionContext context = new ExecutionContext();
-            context.putLong("startStatisticsId", currentStartId);
-            context.putLong("endStatisticsId", currentEndId);
+            context.putLong("startContentId", range[0]);
+            context.putLong("endContentId", range[1]);
             context.putString("targetDate", targetDate.toString());
 
-            partitions.put("settlement-partition" + partitionNumber, context);
-
-            currentStartId += partitionSize;
-            partitionNumber++;
+            partitions.put("settlement-partition" + partitionNumber++, context);
         }
 
         return partitions;
     }
 
+    private String toPlan(List<long[]> ranges) {
+        return ranges.stream()
+                .map(range -> range[0] + ":" + range[1])
+                .collect(Collectors.joining(","));
+    }
+
+    private List<long[]> parsePlan(String plan) {
+        List<long[]> ranges = new ArrayList<>();
+        for (String range : plan.split(",")) {
+            String[] bounds = range.split(":");
+            ranges.add(new long[]{Long.parseLong(bounds[0]), Long.parseLong(bounds[1])});
+        }
+        return ranges;
+    }
+
     /**
      * 빈 Partition 생성
      * - 처리할 데이터가 없는 경우 사용
@@ -103,8 +196,8 @@ public class SettlementPartitioner implements Partitioner {
     private Map<String, ExecutionContext> createEmptyPartition() {
         Map<String, ExecutionContext> partitions = new HashMap<>();
         ExecutionContext context = new ExecutionContext();
-        context.putLong("startStatisticsId", 0L);
-        context.putLong("endStatisticsId", 0L);
+        context.putLong("startContentId", 0L);
+        context.putLong("endContentId", 0L);
         context.putString("targetDate", targetDate != null ? targetDate.toString() : "unknown");
         partitions.put("settlement-partition0", context);
         return partitions;
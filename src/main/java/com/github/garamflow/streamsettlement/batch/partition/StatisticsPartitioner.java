@@ -1,6 +1,11 @@
 package com.github.garamflow.streamsettlement.batch.partition;
 
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.config.PartitionStrategy;
+import com.github.garamflow.streamsettlement.batch.partition.QuantileRangeSplitter.ContentIdRange;
 import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService.DailyCounter;
 import com.github.garamflow.streamsettlement.service.cache.DailyStreamingContentCacheService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -13,16 +18,14 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * 통계 처리를 위한 데이터 파티셔닝 로직 구현
  * - 컨텐츠 ID 범위를 기준으로 데이터를 분할
  * - 요청된 gridSize에 따라 유연하게 파티션 분할
  * - 캐시 우선 조회로 DB 부하 감소
+ * - QUANTILE 모드는 정렬된 ID 집합을 분위수로 잘라 파티션별 작업량을 균등화
  */
 @Component
 @StepScope
@@ -31,10 +34,18 @@ public class StatisticsPartitioner implements Partitioner {
 
     private final DailyStreamingContentCacheService dailyStreamingContentCacheService;
     private final DailyWatchedContentQuerydslRepository dailyWatchedContentQuerydslRepository;
+    private final DailyStatisticsCounterService dailyStatisticsCounterService;
+    private final BatchProperties batchProperties;
 
     @Value("#{jobParameters['targetDate']}")
     private LocalDate targetDate;
 
+    // 구간 분할 Step 에서 처리하는 핫 컨텐츠 ID (Job Context)
+    @Value("#{jobExecutionContext['hotContentIds']}")
+    private String hotContentIds;
+
+    private static final long MIN_CONTENT_ID = 1L;
+
     private static final Logger log = LoggerFactory.getLogger(StatisticsPartitioner.class);
 
     /**
@@ -49,6 +60,10 @@ public class StatisticsPartitioner implements Partitioner {
     @Override
     @NonNull
     public Map<String, ExecutionContext> partition(int gridSize) {
+        if (batchProperties.getPartition().getStrategy() == PartitionStrategy.QUANTILE) {
+            return partitionByQuantile(gridSize);
+        }
+
         Set<Long> contentIds = dailyStreamingContentCacheService.getContentIdsByDate(targetDate);
 
         Long minId;
@@ -75,6 +90,109 @@ public class StatisticsPartitioner implements Partitioner {
         return createPartitions(minId, maxId, partitionSize);
     }
 
+    /**
+     * 분위수 기반 파티션 생성
+     * - 당일 컨텐츠 ID 를 정렬하여 누적 가중치의 분위수 지점에서 분할
+     * - 가중치는 로그 수를 알 수 있으면 로그 수, 아니면 컨텐츠 수 (모두 1)
+     * - 구간은 1 ~ Long.MAX_VALUE 를 빈틈 없이 덮음 (캐시에서 빠진 컨텐츠도 누락되지 않도록)
+     */
+    private Map<String, ExecutionContext> partitionByQuantile(int gridSize) {
+        Set<Long> hotContents = HotContentDetector.parseContentIds(hotContentIds);
+        long[] contentIds = Arrays.stream(loadSortedContentIds())
+                .filter(id -> !hotContents.contains(id))
+                .toArray();
+        if (contentIds.length == 0) {
+            log.warn("No streamed content found for date: {}", targetDate);
+            return createEmptyPartition();
+        }
+
+        long[] weights = resolveWeights(contentIds);
+        List<ContentIdRange> ranges = QuantileRangeSplitter.split(
+                contentIds, weights, gridSize, MIN_CONTENT_ID, Long.MAX_VALUE);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        int partitionNumber = 1;
+        for (ContentIdRange range : ranges) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong("startContentId", range.startContentId());
+            context.putLong("endContentId", range.endContentId());
+            partitions.put("partition" + partitionNumber, context);
+            log.info("Statistics partition{}: content {} ~ {} ({} contents, weight {})",
+                    partitionNumber++, range.startContentId(), range.endContentId(),
+                    range.contentCount(), range.weight());
+        }
+        return partitions;
+    }
+
+    /**
+     * 당일 컨텐츠 ID 정렬 배열 조회
+     * - 캐시(Redis Set)가 비어있으면 일일 시청 컨텐츠 테이블을 컨텐츠 ID 순으로 페이지 조회
+     */
+    private long[] loadSortedContentIds() {
+        Set<Long> cached = dailyStreamingContentCacheService.getContentIdsByDate(targetDate);
+        if (!cached.isEmpty()) {
+            return cached.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+
+        List<Long> contentIds = new ArrayList<>();
+        Long lastContentId = null;
+        while (true) {
+            List<Long> page = dailyWatchedContentQuerydslRepository.findContentIdsByWatchedDate(
+                    targetDate, lastContentId, batchProperties.getChunkSize());
+            if (page.isEmpty()) {
+                break;
+            }
+            contentIds.addAll(page);
+            lastContentId = page.get(page.size() - 1);
+        }
+        return contentIds.stream().mapToLong(Long::longValue).distinct().toArray();
+    }
+
+    /**
+     * 컨텐츠별 가중치 결정
+     * - 일일 카운터를 신뢰할 수 있으면 조회수 카운터(신규 시청 로그 수)를 사용
+     * - 카운터가 없는 컨텐츠는 알려진 로그 수의 평균으로 간주
+     */
+    private long[] resolveWeights(long[] contentIds) {
+        long[] weights = new long[contentIds.length];
+        Arrays.fill(weights, 1L);
+
+        BatchProperties.Partition config = batchProperties.getPartition();
+        if (!config.isWeightByLogCount() || !dailyStatisticsCounterService.isTrackedFor(targetDate)) {
+            return weights;
+        }
+
+        boolean[] known = new boolean[contentIds.length];
+        long knownTotal = 0;
+        int knownCount = 0;
+        int batchSize = config.getCounterLookupBatchSize();
+
+        for (int from = 0; from < contentIds.length; from += batchSize) {
+            int to = Math.min(from + batchSize, contentIds.length);
+            List<Long> batch = Arrays.stream(contentIds, from, to).boxed().toList();
+            Map<Long, DailyCounter> counters = dailyStatisticsCounterService.getCounters(targetDate, batch);
+            for (int i = from; i < to; i++) {
+                DailyCounter counter = counters.get(contentIds[i]);
+                if (counter != null) {
+                    weights[i] = counter.views();
+                    known[i] = true;
+                    knownTotal += counter.views();
+                    knownCount++;
+                }
+            }
+        }
+
+        long defaultWeight = knownCount > 0 ? Math.max(1L, knownTotal / knownCount) : 1L;
+        for (int i = 0; i < weights.length; i++) {
+            if (!known[i]) {
+                weights[i] = defaultWeight;
+            }
+        }
+        log.info("Weighted {} of {} contents by log count (default weight {})",
+                knownCount, contentIds.length, defaultWeight);
+        return weights;
+    }
+
     /**
      * 각 파티션의 크기 계산
      * - 전체 ID 범위를 파티션 수로 균등 분할
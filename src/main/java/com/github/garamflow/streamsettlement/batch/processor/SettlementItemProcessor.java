@@ -1,9 +1,9 @@
 package com.github.garamflow.streamsettlement.batch.processor;
 
 import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
+import com.github.garamflow.streamsettlement.batch.dto.SettlementSourceDto;
 import com.github.garamflow.streamsettlement.batch.dto.StatisticsAndCumulativeSettlementDto;
 import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
-import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -37,17 +37,17 @@ public class SettlementItemProcessor implements ItemProcessor<StatisticsAndCumul
      */
     @Override
     public Settlement process(StatisticsAndCumulativeSettlementDto item) throws Exception {
-        ContentStatistics statistics = item.statistics();
+        SettlementSourceDto statistics = item.statistics();
         SettlementCalculationDto calculationDto = item.cumulativeSettlementDto();
 
         // 일일 정산액 계산
         long dailyContentRevenue = calculateDailyContentRevenue(calculationDto);
         long dailyAdRevenue = calculateDailyAdRevenue(calculationDto);
 
-        logSettlementProcessing(statistics.getContentPost().getId(), dailyContentRevenue, dailyAdRevenue);
+        logSettlementProcessing(statistics.contentId(), dailyContentRevenue, dailyAdRevenue);
 
         return createSettlement(
-                statistics.getContentPost().getId(),
+                statistics.contentId(),
                 dailyContentRevenue,
                 dailyAdRevenue,
                 calculationDto.totalContentRevenue(),
@@ -1,11 +1,10 @@
 package com.github.garamflow.streamsettlement.batch.processor;
 
+import com.github.garamflow.streamsettlement.batch.dimension.ContentDimension;
 import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
 import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
 import com.github.garamflow.streamsettlement.entity.stream.content.ContentPost;
-import com.github.garamflow.streamsettlement.repository.stream.ContentPostRepository;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -15,14 +14,12 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 통계 데이터 처리기
  * - 일일 시청 통계를 ContentStatistics 엔티티로 변환
- * - 콘텐츠 정보를 캐시하여 DB 조회 최소화
+ * - 누적 조회수는 Job 단위로 공유하는 컨텐츠 차원 데이터에서 조회하여 DB 조회 최소화
  */
 @Component
 @StepScope
@@ -30,35 +27,16 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class StatisticsItemProcessor implements ItemProcessor<CumulativeStatisticsDto, ContentStatistics> {
 
-    private final ContentPostRepository contentPostRepository;
-    // 콘텐츠 캐시 (ID -> ContentPost)
-    private final Map<Long, ContentPost> contentPostCache = new ConcurrentHashMap<>(1000);
+    private final ContentDimension contentDimension;
 
     // 처리 대상 날짜
     @Value("#{jobParameters['targetDate']}")
     private LocalDate targetDate;
 
-    /**
-     * 초기화: 콘텐츠 정보 캐싱
-     * - 모든 콘텐츠를 미리 로드하여 캐시
-     * - DB 조회 부하 감소를 위한 선처리
-     */
-    @PostConstruct
-    public void init() {
-        log.info("Initializing content post cache...");
-        contentPostRepository.findAll()
-                .forEach(content -> {
-                    contentPostCache.put(content.getId(), content);
-                    log.debug("Cached content: id={}, totalViews={}",
-                            content.getId(), content.getTotalViews());
-                });
-        log.info("Content post cache initialized with {} items", contentPostCache.size());
-    }
-
     /**
      * 통계 데이터 처리
-     * - 캐시된 콘텐츠 정보 조회 (없으면 DB에서 로드)
-     * - ContentStatistics 엔티티 생성
+     * - 컨텐츠 차원 데이터에서 누적 조회수 조회
+     * - ContentStatistics 엔티티 생성 (ContentPost 는 ID 참조용, 벌크 인서트는 ID 만 사용)
      * 
      * @param dto 일일 시청 통계 데이터
      * @return 생성된 ContentStatistics 엔티티
@@ -66,12 +44,12 @@ public class StatisticsItemProcessor implements ItemProcessor<CumulativeStatisti
      */
     @Override
     public ContentStatistics process(@NonNull CumulativeStatisticsDto dto) {
-        ContentPost contentPost = contentPostCache.computeIfAbsent(dto.contentId(), id -> {
-            log.debug("Cache miss for content id: {}. Loading from database...", id);
-            return contentPostRepository.findById(id)
-                    .orElseThrow(() -> new NoSuchElementException(
-                            String.format("ContentPost not found in cache or database for id: %d", id)));
-        });
+        long accumulatedViews = contentDimension.getTotalViews(dto.contentId());
+
+        ContentPost contentPost = ContentPost.existingBuilder()
+                .id(dto.contentId())
+                .totalViews(accumulatedViews)
+                .build();
 
         return ContentStatistics.existingBuilder()
                 .contentPost(contentPost)
@@ -79,8 +57,7 @@ public class StatisticsItemProcessor implements ItemProcessor<CumulativeStatisti
                 .period(StatisticsPeriod.DAILY)
                 .viewCount(dto.totalViews())
                 .watchTime(dto.totalWatchTime())
-                .accumulatedViews(contentPost.getTotalViews())
+                .accumulatedViews(accumulatedViews)
                 .build();
     }
 }
-
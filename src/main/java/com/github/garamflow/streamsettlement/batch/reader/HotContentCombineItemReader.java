@@ -0,0 +1,94 @@
+package com.github.garamflow.streamsettlement.batch.reader;
+
+import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.batch.partition.HotContentDetector;
+import com.github.garamflow.streamsettlement.batch.tasklet.HotContentSliceTasklet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 핫 컨텐츠 부분 합계 결합 Reader
+ * - 같은 JobInstance 의 모든 실행에서 완료된 구간 워커 Step 의 부분 합계를 모아 컨텐츠별로 합산
+ * - 재시작 시 이전 실행에서 완료된 구간도 포함되므로 구간이 누락되거나 중복되지 않음
+ * - 합산 결과는 일반 통계와 같은 Processor/Writer 로 저장
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class HotContentCombineItemReader implements ItemReader<CumulativeStatisticsDto> {
+
+    private final JobExplorer jobExplorer;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Value("#{jobExecutionContext['hotContentIds']}")
+    private String hotContentIds;
+
+    @Value("#{stepExecution}")
+    private StepExecution stepExecution;
+
+    private Deque<CumulativeStatisticsDto> combined;
+
+    @Override
+    public CumulativeStatisticsDto read() {
+        if (combined == null) {
+            combined = new ArrayDeque<>(combinePartials());
+        }
+        return combined.poll();
+    }
+
+    private List<CumulativeStatisticsDto> combinePartials() {
+        Set<Long> plannedContentIds = HotContentDetector.parseContentIds(hotContentIds);
+        if (plannedContentIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 구간 워커 Step 이름별 가장 최근에 완료된 실행
+        Map<String, StepExecution> completedSlices = new HashMap<>();
+        String slicePrefix = HotContentSliceTasklet.STEP_NAME + ":";
+        for (JobExecution execution : jobExplorer.getJobExecutions(stepExecution.getJobExecution().getJobInstance())) {
+            for (StepExecution slice : execution.getStepExecutions()) {
+                if (slice.getStepName().startsWith(slicePrefix) && slice.getStatus() == BatchStatus.COMPLETED) {
+                    completedSlices.merge(slice.getStepName(), slice,
+                            (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+                }
+            }
+        }
+
+        Map<Long, long[]> sums = new TreeMap<>();
+        for (StepExecution slice : completedSlices.values()) {
+            ExecutionContext context = slice.getExecutionContext();
+            long contentId = context.getLong(HotContentSliceTasklet.HOT_CONTENT_ID_KEY);
+            if (!plannedContentIds.contains(contentId)) {
+                continue;
+            }
+            long[] sum = sums.computeIfAbsent(contentId, id -> new long[]{0L, 0L, Long.MAX_VALUE});
+            sum[0] += context.getLong(HotContentSliceTasklet.PARTIAL_VIEWS_KEY);
+            sum[1] += context.getLong(HotContentSliceTasklet.PARTIAL_WATCH_TIME_KEY);
+            sum[2] = Math.min(sum[2], context.getLong(HotContentSliceTasklet.PARTIAL_MIN_LOG_ID_KEY));
+        }
+
+        List<CumulativeStatisticsDto> statistics = new ArrayList<>(sums.size());
+        sums.forEach((contentId, sum) -> {
+            if (sum[0] > 0) {
+                statistics.add(new CumulativeStatisticsDto(sum[2], contentId, sum[0], sum[1], targetDate));
+            }
+        });
+        log.info("Combined {} slices into statistics for {} hot contents", completedSlices.size(), statistics.size());
+        return statistics;
+    }
+}
@@ -2,11 +2,11 @@ package com.github.garamflow.streamsettlement.batch.reader;
 
 import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
 import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
+import com.github.garamflow.streamsettlement.batch.dto.SettlementSourceDto;
 import com.github.garamflow.streamsettlement.batch.dto.StatisticsAndCumulativeSettlementDto;
-import com.github.garamflow.streamsettlement.domain.AdRevenueRange;
-import com.github.garamflow.streamsettlement.domain.ContentRevenueRange;
-import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
-import com.github.garamflow.streamsettlement.exception.BatchProcessingException;
+import com.github.garamflow.streamsettlement.batch.reader.support.AdaptiveFetchSizeController;
+import com.github.garamflow.streamsettlement.batch.reader.support.HeapOccupancyMonitor;
+import com.github.garamflow.streamsettlement.batch.reader.support.PrefetchingPageFetcher;
 import com.github.garamflow.streamsettlement.repository.settlement.SettlementQuerydslRepository;
 import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsQuerydslRepository;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -15,117 +15,155 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * 정산 처리를 위한 데이터 읽기 구현
  * - 통계 데이터를 기반으로 정산 데이터 생성
- * - 백프레셔가 적용된 비동기 큐 사용
+ * - 백그라운드 스레드가 다음 페이지를 미리 조회하고, 큐 용량으로 선조회량 제한 (백프레셔)
  * - 성능 모니터링을 위한 메트릭 수집
+ * - 파티션에 할당된 컨텐츠 ID 범위만 (content_post_id, statistics_id) 순서로 읽음 (범위가 없으면 해당 날짜 전체)
+ * - 정산에 필요한 컬럼만 프로젝션으로 조회하여 엔티티 로딩/영속성 컨텍스트 증가 없이 일정한 메모리 유지
  */
 @Slf4j
 @Component
 @StepScope
 @RequiredArgsConstructor
-public class SettlementItemReader implements ItemReader<StatisticsAndCumulativeSettlementDto> {
+public class SettlementItemReader implements ItemStreamReader<StatisticsAndCumulativeSettlementDto> {
 
     private final ContentStatisticsQuerydslRepository contentStatisticsQuerydslRepository;
     private final SettlementQuerydslRepository settlementQuerydslRepository;
     private final BatchProperties batchProperties;
     private final MeterRegistry meterRegistry;
-    private BlockingQueue<StatisticsAndCumulativeSettlementDto> statisticsQueue;
+    private final HeapOccupancyMonitor heapOccupancyMonitor;
 
     @Value("#{jobParameters['targetDate']}")
     private LocalDate targetDate;
 
-    private Long lastStatisticsId = 0L;
+    // 파티션에 할당된 컨텐츠 ID 범위 (Partition Context)
+    @Value("#{stepExecutionContext['startContentId']}")
+    private Long startContentId;
+
+    @Value("#{stepExecutionContext['endContentId']}")
+    private Long endContentId;
+
+    // 마지막으로 조회한 (컨텐츠 ID, 통계 ID) 키셋 위치 (생산자 스레드 전용)
+    // - 통계 ID 를 최대값으로 두면 lastContentId 자신의 행은 제외되고 다음 컨텐츠부터 조회됨
+    private long lastContentId;
+    private long lastStatisticsId;
+    private long lastContentIdInPartition;
+    private boolean exhausted;
+
+    private PrefetchingPageFetcher<StatisticsAndCumulativeSettlementDto> fetcher;
+    private AdaptiveFetchSizeController fetchSizeController;
 
     /**
-     * 큐 초기화
-     * - 설정된 용량의 ArrayBlockingQueue 생성
+     * 초기화
+     * - 파티션 시작/종료 컨텐츠 ID 설정
+     * - 큐 용량 이내로 페이지를 선조회하는 선조회기 생성 (생산자 스레드는 open 또는 첫 read 에서 시작)
+     * - 페이지 크기는 청크 크기에서 시작해 메모리/조회 시간에 따라 조절
      */
     @PostConstruct
     public void init() {
-        this.statisticsQueue = new ArrayBlockingQueue<>(batchProperties.getReader().getQueueCapacity());
+        if (fetcher != null) {
+            fetcher.close();
+        }
+        boolean partitioned = startContentId != null && endContentId != null;
+        this.lastContentId = partitioned ? startContentId - 1 : 0L;
+        this.lastStatisticsId = Long.MAX_VALUE;
+        this.lastContentIdInPartition = partitioned ? endContentId : Long.MAX_VALUE;
+        this.exhausted = false;
+        this.fetchSizeController = new AdaptiveFetchSizeController("settlement-reader",
+                batchProperties.getReader(), batchProperties.getChunkSize(), meterRegistry,
+                heapOccupancyMonitor::occupancyAfterGc);
+        this.fetcher = new PrefetchingPageFetcher<>("settlement-reader", this::fetchNextBatch,
+                PrefetchingPageFetcher.pagesFor(batchProperties.getReader().getQueueCapacity(),
+                        batchProperties.getChunkSize()),
+                meterRegistry);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        fetcher.start();
     }
 
     /**
      * 데이터 읽기 구현
-     * - 큐가 비어있으면 다음 배치 데이터 로드
-     * - 큐에서 하나의 아이템 반환
+     * - 선조회된 페이지에서 아이템을 하나씩 반환
      */
     @Override
     public StatisticsAndCumulativeSettlementDto read() throws Exception {
-        if (statisticsQueue.isEmpty()) {
-            fetchNextBatch();
-        }
-        return statisticsQueue.poll();
+        return fetcher.next();
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        fetcher.close();
     }
 
     /**
-     * 다음 배치 데이터 로드
+     * 다음 배치 데이터 로드 (생산자 스레드)
      * - 통계 데이터 조회
      * - 이전 정산 정보 조회
-     * - DTO 생성 및 큐 적재
+     * - DTO 생성
      * - 성능 측정 및 로깅
+     *
+     * @return 다음 페이지, 파티션 끝이면 빈 목록
      */
-    private void fetchNextBatch() {
+    private List<StatisticsAndCumulativeSettlementDto> fetchNextBatch() throws InterruptedException {
+        if (exhausted) {
+            return List.of();
+        }
+
+        long fetchStart = System.nanoTime();
         Timer.Sample fetchTimer = Timer.start(meterRegistry);
-        try {
-            List<ContentStatistics> statistics = contentStatisticsQuerydslRepository
-                    .findByIdGreaterThanAndStatisticsDate(
-                            lastStatisticsId,
-                            targetDate,
-                            batchProperties.getChunkSize()
-                    );
-
-            if (statistics.isEmpty()) {
-                return;
-            }
-
-            lastStatisticsId = statistics.getLast().getId();
-
-            List<Long> contentIds = extractContentIds(statistics);
-            Map<Long, SettlementCalculationDto> prevSettlementMap = fetchPreviousSettlements(contentIds);
-
-            List<StatisticsAndCumulativeSettlementDto> results = createStatisticsAndSettlementDtos(
-                    statistics,
-                    prevSettlementMap
-            );
-
-            // 백프레셔가 적용된 큐 적재
-            for (StatisticsAndCumulativeSettlementDto result : results) {
-                while (!statisticsQueue.offer(result, 100, TimeUnit.MILLISECONDS)) {
-                    log.warn("Queue is full, waiting for space...");
-                    meterRegistry.counter("batch.reader.queue.full").increment();
-                }
-            }
-
-            fetchTimer.stop(meterRegistry.timer("batch.reader.fetch.time"));
-            log.debug("Fetched {} settlement records, last ID: {}", results.size(), lastStatisticsId);
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new BatchProcessingException("Interrupted while filling queue", e);
+        List<SettlementSourceDto> statistics = contentStatisticsQuerydslRepository
+                .findSettlementSources(
+                        lastContentId,
+                        lastStatisticsId,
+                        lastContentIdInPartition,
+                        targetDate,
+                        fetchSizeController.currentFetchSize()
+                );
+
+        if (statistics.isEmpty()) {
+            exhausted = true;
+            return List.of();
         }
+
+        SettlementSourceDto last = statistics.getLast();
+        lastContentId = last.contentId();
+        lastStatisticsId = last.statisticsId();
+
+        List<Long> contentIds = extractContentIds(statistics);
+        Map<Long, SettlementCalculationDto> prevSettlementMap = fetchPreviousSettlements(contentIds);
+
+        List<StatisticsAndCumulativeSettlementDto> results = createStatisticsAndSettlementDtos(
+                statistics,
+                prevSettlementMap
+        );
+
+        fetchTimer.stop(meterRegistry.timer("batch.reader.fetch.time"));
+        fetchSizeController.afterFetch(System.nanoTime() - fetchStart);
+        log.debug("Fetched {} settlement records, last content ID: {}", results.size(), lastContentId);
+        return results;
     }
 
     /**
      * 통계 데이터에서 콘텐츠 ID 추출
      */
-    private List<Long> extractContentIds(List<ContentStatistics> statistics) {
+    private List<Long> extractContentIds(List<SettlementSourceDto> statistics) {
         return statistics.stream()
-                .map(stat -> stat.getContentPost().getId())
+                .map(SettlementSourceDto::contentId)
                 .toList();
     }
 
@@ -150,44 +188,11 @@ public class SettlementItemReader implements ItemReader<StatisticsAndCumulativeS
      * - 통계 데이터와 이전 정산 정보를 결합하여 DTO 생성
      */
     private List<StatisticsAndCumulativeSettlementDto> createStatisticsAndSettlementDtos(
-            List<ContentStatistics> statistics,
+            List<SettlementSourceDto> statistics,
             Map<Long, SettlementCalculationDto> prevSettlementMap) {
 
         return statistics.stream()
-                .map(stat -> createStatisticsAndSettlementDto(stat, prevSettlementMap))
+                .map(stat -> StatisticsAndCumulativeSettlementDto.of(stat, prevSettlementMap.get(stat.contentId())))
                 .toList();
     }
-
-    /**
-     * 단일 정산 DTO 생성
-     * - 현재 통계 기반 수익 계산
-     * - 이전 정산 정보와 결합
-     */
-    private StatisticsAndCumulativeSettlementDto createStatisticsAndSettlementDto(
-            ContentStatistics stat,
-            Map<Long, SettlementCalculationDto> prevSettlementMap) {
-
-        Long contentId = stat.getContentPost().getId();
-
-        long currentContentRevenue = ContentRevenueRange.calculateTotalRevenue(stat.getAccumulatedViews());
-        long currentAdRevenue = AdRevenueRange.calculateTotalRevenue(stat.getWatchTime());
-
-        SettlementCalculationDto prevSettlement = prevSettlementMap.getOrDefault(
-                contentId,
-                new SettlementCalculationDto(
-                        null, contentId, 0L, 0L, 0L, 0L
-                )
-        );
-
-        SettlementCalculationDto calculationDto = new SettlementCalculationDto(
-                null,
-                contentId,
-                currentContentRevenue,
-                currentAdRevenue,
-                prevSettlement.totalContentRevenue(),
-                prevSettlement.totalAdRevenue()
-        );
-
-        return new StatisticsAndCumulativeSettlementDto(stat, calculationDto);
-    }
 }
\ No newline at end of file
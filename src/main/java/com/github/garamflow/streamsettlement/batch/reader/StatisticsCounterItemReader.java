@@ -0,0 +1,127 @@
+package com.github.garamflow.streamsettlement.batch.reader;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.batch.partition.HotContentDetector;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService.DailyCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 수집 시점 카운터 기반 통계 Reader
+ * - 파티션의 컨텐츠 ID 를 페이지 단위로 조회한 뒤 Redis 카운터(HMGET)로 조회수/시청시간을 채움
+ * - 시청 로그를 재집계하지 않으므로 처리량이 로그 수가 아닌 컨텐츠 수에 비례
+ * - 날짜 단위 검증 실패 시 전체, 카운터가 없는 컨텐츠는 개별적으로 SQL 집계로 대체
+ * - 핫 컨텐츠는 별도 구간 분할 Step 에서 처리하므로 제외
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class StatisticsCounterItemReader implements ItemReader<CumulativeStatisticsDto> {
+
+    private final DailyWatchedContentQuerydslRepository dailyWatchedContentRepository;
+    private final DailyStatisticsCounterService dailyStatisticsCounterService;
+    private final BatchProperties batchProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Value("#{stepExecutionContext['startContentId']}")
+    private Long startContentId;
+
+    @Value("#{stepExecutionContext['endContentId']}")
+    private Long endContentId;
+
+    @Value("#{jobExecutionContext['hotContentIds']}")
+    private String hotContentIds;
+
+    private final Deque<CumulativeStatisticsDto> buffer = new ArrayDeque<>();
+    private Set<Long> excludedContentIds;
+    private Long lastContentId;
+    private boolean countersTrusted;
+
+    @PostConstruct
+    public void init() {
+        this.lastContentId = startContentId - 1;
+        this.excludedContentIds = HotContentDetector.parseContentIds(hotContentIds);
+        this.countersTrusted = dailyStatisticsCounterService.isTrackedFor(targetDate);
+        if (!countersTrusted) {
+            log.warn("Daily counters for {} failed validation, falling back to SQL aggregation", targetDate);
+        }
+    }
+
+    @Override
+    public CumulativeStatisticsDto read() {
+        if (buffer.isEmpty()) {
+            loadNextPage();
+        }
+        return buffer.poll();
+    }
+
+    private void loadNextPage() {
+        while (buffer.isEmpty() && lastContentId < endContentId) {
+            List<Long> contentIds = dailyWatchedContentRepository
+                    .findContentIdsByWatchedDate(
+                            targetDate,
+                            lastContentId,
+                            (int) Math.min(endContentId - lastContentId, batchProperties.getChunkSize())
+                    )
+                    .stream()
+                    .filter(id -> id <= endContentId)
+                    .toList();
+
+            if (contentIds.isEmpty()) {
+                lastContentId = endContentId;
+                return;
+            }
+            lastContentId = contentIds.get(contentIds.size() - 1);
+
+            List<Long> targetIds = contentIds.stream()
+                    .filter(id -> !excludedContentIds.contains(id))
+                    .toList();
+            if (!targetIds.isEmpty()) {
+                buffer.addAll(fetchStatistics(targetIds));
+            }
+        }
+    }
+
+    private List<CumulativeStatisticsDto> fetchStatistics(List<Long> contentIds) {
+        if (!countersTrusted) {
+            return dailyWatchedContentRepository.findDailyWatchedContentForStatistics(contentIds, targetDate);
+        }
+
+        Map<Long, DailyCounter> counters = dailyStatisticsCounterService.getCounters(targetDate, contentIds);
+        List<CumulativeStatisticsDto> statistics = new ArrayList<>(contentIds.size());
+        List<Long> missingIds = new ArrayList<>();
+
+        for (Long contentId : contentIds) {
+            DailyCounter counter = counters.get(contentId);
+            if (counter == null) {
+                missingIds.add(contentId);
+                continue;
+            }
+            statistics.add(new CumulativeStatisticsDto(
+                    null, contentId, counter.views(), counter.watchTime(), targetDate));
+        }
+
+        if (!missingIds.isEmpty()) {
+            meterRegistry.counter("batch.reader.counter.fallback").increment(missingIds.size());
+            statistics.addAll(dailyWatchedContentRepository.findDailyWatchedContentForStatistics(missingIds, targetDate));
+            statistics.sort(Comparator.comparing(CumulativeStatisticsDto::contentId));
+        }
+        return statistics;
+    }
+}
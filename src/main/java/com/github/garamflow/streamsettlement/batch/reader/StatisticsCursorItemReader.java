@@ -0,0 +1,140 @@
+package com.github.garamflow.streamsettlement.batch.reader;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.batch.partition.HotContentDetector;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스트리밍 커서 기반 통계 Reader
+ * - 파티션의 컨텐츠 ID 범위에 해당하는 하루치 시청 로그를 하나의 서버 측 커서로 순방향 조회
+ * - content_post_id 순으로 정렬된 로그를 읽으며 조회수/시청시간을 즉시 집계
+ * - 컨텐츠 경계마다 CumulativeStatisticsDto 하나를 반환 (메모리 사용량 일정)
+ * - (watched_date, content_post_id, total_playback_time) 커버링 인덱스 사용 전제
+ * - 핫 컨텐츠는 NOT IN 조건으로 인덱스 범위에서 제외
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class StatisticsCursorItemReader implements ItemStreamReader<CumulativeStatisticsDto> {
+
+    private static final String WATCH_LOG_SQL = """
+            SELECT id, content_post_id, total_playback_time
+            FROM member_content_watch_log
+            WHERE watched_date = ?
+              AND content_post_id BETWEEN ? AND ?
+              %s
+            ORDER BY content_post_id
+            """;
+
+    private final DataSource dataSource;
+    private final BatchProperties batchProperties;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Value("#{stepExecutionContext['startContentId']}")
+    private Long startContentId;
+
+    @Value("#{stepExecutionContext['endContentId']}")
+    private Long endContentId;
+
+    @Value("#{jobExecutionContext['hotContentIds']}")
+    private String hotContentIds;
+
+    private JdbcCursorItemReader<WatchLogRow> delegate;
+
+    // 다음 컨텐츠의 첫 번째 로그 (경계 판단용으로 미리 읽어둔 행)
+    private WatchLogRow pendingRow;
+
+    @PostConstruct
+    public void init() {
+        delegate = new JdbcCursorItemReader<>();
+        delegate.setName("statisticsCursorReader");
+        delegate.setDataSource(dataSource);
+        List<Long> excludedContentIds = HotContentDetector.parseContentIds(hotContentIds).stream().sorted().toList();
+        delegate.setSql(WATCH_LOG_SQL.formatted(excludedContentIds.isEmpty() ? ""
+                : "AND content_post_id NOT IN (" + String.join(",", Collections.nCopies(excludedContentIds.size(), "?")) + ")"));
+        delegate.setPreparedStatementSetter(ps -> {
+            ps.setObject(1, targetDate);
+            ps.setLong(2, startContentId);
+            ps.setLong(3, endContentId);
+            for (int i = 0; i < excludedContentIds.size(); i++) {
+                ps.setLong(4 + i, excludedContentIds.get(i));
+            }
+        });
+        delegate.setRowMapper((rs, rowNum) -> new WatchLogRow(
+                rs.getLong("id"),
+                rs.getLong("content_post_id"),
+                rs.getLong("total_playback_time")
+        ));
+        delegate.setFetchSize(batchProperties.getReader().getCursorFetchSize());
+        delegate.setVerifyCursorPosition(false);
+        // 집계 결과 단위 재시작은 지원하지 않으므로 커서 위치를 저장하지 않음
+        delegate.setSaveState(false);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        log.debug("Opening statistics cursor for content {} ~ {} on {}", startContentId, endContentId, targetDate);
+        delegate.open(executionContext);
+    }
+
+    /**
+     * 한 컨텐츠의 로그를 모두 읽어 집계 결과를 반환
+     *
+     * @return 컨텐츠별 집계 데이터, 더 이상 로그가 없으면 null
+     */
+    @Override
+    public CumulativeStatisticsDto read() throws Exception {
+        WatchLogRow row = pendingRow != null ? pendingRow : delegate.read();
+        pendingRow = null;
+        if (row == null) {
+            return null;
+        }
+
+        long contentId = row.contentId();
+        long minLogId = row.id();
+        long views = 0;
+        long watchTime = 0;
+
+        while (row != null && row.contentId() == contentId) {
+            views++;
+            watchTime += row.playbackTime();
+            minLogId = Math.min(minLogId, row.id());
+            row = delegate.read();
+        }
+        pendingRow = row;
+
+        return new CumulativeStatisticsDto(minLogId, contentId, views, watchTime, targetDate);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        pendingRow = null;
+        delegate.close();
+    }
+
+    record WatchLogRow(long id, long contentId, long playbackTime) {
+    }
+}
@@ -2,36 +2,43 @@ package com.github.garamflow.streamsettlement.batch.reader;
 
 import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
 import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
-import com.github.garamflow.streamsettlement.exception.BatchProcessingException;
+import com.github.garamflow.streamsettlement.batch.partition.HotContentDetector;
+import com.github.garamflow.streamsettlement.batch.reader.support.AdaptiveFetchSizeController;
+import com.github.garamflow.streamsettlement.batch.reader.support.HeapOccupancyMonitor;
+import com.github.garamflow.streamsettlement.batch.reader.support.PrefetchingPageFetcher;
 import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
 
 /**
  * 통계 처리를 위한 데이터 읽기 구현
  * - 파티션별로 할당된 컨텐츠 ID 범위의 데이터를 읽음
- * - 블로킹 큐를 사용하여 메모리 사용량 제어
+ * - 백그라운드 스레드가 다음 페이지를 미리 조회하여 조회와 처리/저장을 겹쳐서 진행
+ * - 선조회 페이지 수를 제한하여 메모리 사용량 제어
+ * - 핫 컨텐츠는 별도 구간 분할 Step 에서 처리하므로 제외
  */
 @Slf4j
 @Component
 @StepScope
 @RequiredArgsConstructor
-public class StatisticsItemReader implements ItemReader<CumulativeStatisticsDto> {
+public class StatisticsItemReader implements ItemStreamReader<CumulativeStatisticsDto> {
 
     private final DailyWatchedContentQuerydslRepository dailyWatchedContentRepository;
     private final BatchProperties batchProperties;
-    private BlockingQueue<CumulativeStatisticsDto> statisticsQueue;
+    private final MeterRegistry meterRegistry;
+    private final HeapOccupancyMonitor heapOccupancyMonitor;
 
     // 처리 대상 날짜 (Job Parameter)
     @Value("#{jobParameters['targetDate']}")
@@ -44,79 +51,123 @@ public class StatisticsItemReader implements ItemReader<CumulativeStatisticsDto>
     @Value("#{stepExecutionContext['endContentId']}")
     private Long endContentId;
 
-    // 마지막으로 처리한 컨텐츠 ID
+    // 구간 분할 Step 에서 처리하는 핫 컨텐츠 ID (Job Context)
+    @Value("#{jobExecutionContext['hotContentIds']}")
+    private String hotContentIds;
+
+    private Set<Long> excludedContentIds;
+
+    // 마지막으로 조회한 컨텐츠 ID (생산자 스레드 전용)
     private Long lastContentId;
 
+    private PrefetchingPageFetcher<CumulativeStatisticsDto> fetcher;
+    private AdaptiveFetchSizeController fetchSizeController;
+
     /**
      * 초기화
-     * - 블로킹 큐 생성
      * - 시작 컨텐츠 ID 설정
+     * - 선조회기 생성 (생산자 스레드는 open 또는 첫 read 에서 시작)
+     * - 페이지 크기는 청크 크기에서 시작해 메모리/조회 시간에 따라 조절
      */
     @PostConstruct
     public void init() {
-        this.statisticsQueue = new ArrayBlockingQueue<>(batchProperties.getReader().getQueueCapacity());
+        if (fetcher != null) {
+            fetcher.close();
+        }
         this.lastContentId = startContentId - 1;
+        this.excludedContentIds = HotContentDetector.parseContentIds(hotContentIds);
+        this.fetchSizeController = new AdaptiveFetchSizeController("statistics-reader",
+                batchProperties.getReader(), batchProperties.getChunkSize(), meterRegistry,
+                heapOccupancyMonitor::occupancyAfterGc);
+        this.fetcher = new PrefetchingPageFetcher<>("statistics-reader", this::fetchNextPage,
+                PrefetchingPageFetcher.pagesFor(batchProperties.getReader().getQueueCapacity(),
+                        batchProperties.getChunkSize()),
+                meterRegistry);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        fetcher.start();
     }
 
     /**
      * 데이터 읽기 로직
-     * - 할당된 ID 범위 내의 컨텐츠 데이터를 청크 단위로 조회
-     * - 블로킹 큐를 통한 백프레셔 구현
-     * - 메모리 부하 방지를 위한 페이징 처리
-     * 
+     * - 선조회된 페이지에서 아이템을 하나씩 반환
+     *
      * @return 다음 처리할 통계 데이터, 더 이상 처리할 데이터가 없으면 null
      */
     @Override
     public CumulativeStatisticsDto read() throws Exception {
-        // 큐가 비어있으면 다음 청크 데이터 로드
-        if (statisticsQueue.isEmpty()) {
-            // 파티션의 끝에 도달했는지 확인
-            if (lastContentId >= endContentId) {
-                return null;
-            }
+        return fetcher.next();
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        fetcher.close();
+    }
 
-            // 다음 청크 크기만큼의 컨텐츠 ID 조회
+    /**
+     * 다음 페이지 조회 (생산자 스레드)
+     * - 할당된 ID 범위 내의 컨텐츠 ID 를 현재 조회 크기만큼 조회한 뒤 통계 데이터 로드
+     * - 핫 컨텐츠만 있는 페이지는 건너뜀
+     *
+     * @return 다음 페이지, 파티션 끝이면 빈 목록
+     */
+    private List<CumulativeStatisticsDto> fetchNextPage() throws InterruptedException {
+        while (lastContentId < endContentId) {
+            long fetchStart = System.nanoTime();
+            // 다음 조회 크기만큼의 컨텐츠 ID 조회
             List<Long> contentIds = dailyWatchedContentRepository
                     .findContentIdsByWatchedDate(
                             targetDate,
                             lastContentId,
-                            (int) Math.min(Integer.MAX_VALUE, 
-                                Math.min(endContentId - lastContentId, 
-                                    batchProperties.getChunkSize()))
+                            (int) Math.min(Integer.MAX_VALUE,
+                                Math.min(endContentId - lastContentId,
+                                    fetchSizeController.currentFetchSize()))
                     );
 
             if (contentIds.isEmpty()) {
-                return null;
+                return List.of();
+            }
+
+            Long lastFetchedId = contentIds.get(contentIds.size() - 1);
+            if (lastFetchedId <= lastContentId) {
+                log.warn("Content ID page did not advance past {}, stopping partition", lastContentId);
+                return List.of();
+            }
+            lastContentId = lastFetchedId;
+
+            if (!excludedContentIds.isEmpty()) {
+                contentIds = contentIds.stream()
+                        .filter(id -> !excludedContentIds.contains(id))
+                        .toList();
+                if (contentIds.isEmpty()) {
+                    continue;
+                }
             }
 
-            log.debug("Reading contents from ID {} to {} for date {}",
-                    lastContentId, endContentId, targetDate);
+            log.debug("Reading contents up to ID {} (partition end {}) for date {}",
+                    lastFetchedId, endContentId, targetDate);
 
-            // 조회된 ID들의 통계 데이터 로드
+            // 조회된 ID들의 통계 데이터 로드 (파티션 범위 밖은 제외)
             List<CumulativeStatisticsDto> statistics = dailyWatchedContentRepository
-                    .findDailyWatchedContentForStatistics(contentIds, targetDate);
-
-            // 통계 데이터를 큐에 적재
-            statistics.forEach(stat -> {
-                try {
-                    // 파티션 범위 체크
-                    if (stat.contentId() > endContentId) {
-                        log.warn("Content ID {} is beyond partition end ID {}",
-                                stat.contentId(), endContentId);
-                        return;
-                    }
-
-                    // 백프레셔 구현: 타임아웃을 통한 큐 적재 제어
-                    if (!statisticsQueue.offer(stat, 100, TimeUnit.MILLISECONDS)) {
-                        throw new BatchProcessingException("Failed to add item to queue: timeout occurred");
-                    }
-                    lastContentId = stat.contentId();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new BatchProcessingException("Queue operation interrupted", e);
-                }
-            });
+                    .findDailyWatchedContentForStatistics(contentIds, targetDate)
+                    .stream()
+                    .filter(stat -> {
+                        if (stat.contentId() > endContentId) {
+                            log.warn("Content ID {} is beyond partition end ID {}",
+                                    stat.contentId(), endContentId);
+                            return false;
+                        }
+                        return true;
+                    })
+                    .toList();
+            fetchSizeController.afterFetch(System.nanoTime() - fetchStart);
+
+            if (!statistics.isEmpty()) {
+                return statistics;
+            }
         }
-        return statisticsQueue.poll();
+        return List.of();
     }
-}
\ No newline at end of file
+}
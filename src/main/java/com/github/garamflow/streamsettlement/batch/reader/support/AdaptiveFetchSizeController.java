@@ -0,0 +1,141 @@
+package com.github.garamflow.streamsettlement.batch.reader.support;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 메모리/지연 시간 기반 조회 크기 조절기
+ * - GC 직후 힙 점유율(메모리 풀 collection usage)과 페이지 조회 시간을 보고 다음 페이지 크기를 결정
+ * - 높은 메모리 기준 이상: 조회 크기 절반으로 축소 후 backPressureDelay 만큼 대기
+ * - 중간 메모리 기준 이상 또는 조회 시간이 목표 초과: 조회 크기 25% 축소
+ * - 여유가 있고 조회 시간이 목표의 절반 미만: 조회 크기 25% 확대 (maxFetchSize 까지)
+ * - 조절할 때마다 로그를 남기고 Reader/파티션 별 현재 조회 크기를 게이지(batch.reader.fetch-size)로 노출
+ *   (파티션 태그는 워커 Step 이름 "step:partitionN" 의 접미사, 같은 파티션을 다시 만들면 게이지를 새로 등록)
+ * - 힙 점유율은 HeapOccupancyMonitor 처럼 호출 측이 넘겨준 값을 사용 (JVM 전역 설정은 변경하지 않음)
+ */
+@Slf4j
+public class AdaptiveFetchSizeController {
+
+    private static final String FETCH_SIZE_METRIC = "batch.reader.fetch-size";
+
+    private final String name;
+    private final int minFetchSize;
+    private final int maxFetchSize;
+    private final long backPressureDelay;
+    private final int highMemoryThreshold;
+    private final int mediumMemoryThreshold;
+    private final long targetFetchLatencyNanos;
+    private final DoubleSupplier heapOccupancy;
+    private final AtomicInteger gauge;
+    private final MeterRegistry meterRegistry;
+
+    private int fetchSize;
+
+    /**
+     * @param heapOccupancy GC 직후 힙 점유율 (%) 공급자
+     */
+    public AdaptiveFetchSizeController(String name, BatchProperties.Reader properties, int initialFetchSize,
+                                       MeterRegistry meterRegistry, DoubleSupplier heapOccupancy) {
+        this.name = name;
+        this.minFetchSize = Math.max(1, properties.getMinFetchSize());
+        this.maxFetchSize = Math.max(minFetchSize, properties.getMaxFetchSize());
+        this.backPressureDelay = properties.getBackPressureDelay();
+        this.highMemoryThreshold = properties.getHighMemoryThreshold();
+        this.mediumMemoryThreshold = properties.getMediumMemoryThreshold();
+        this.targetFetchLatencyNanos = properties.getTargetFetchLatencyMs() * 1_000_000L;
+        this.heapOccupancy = heapOccupancy;
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = clamp(initialFetchSize);
+        this.gauge = new AtomicInteger(fetchSize);
+        registerGauge(Tags.of("reader", name, "partition", currentPartition()));
+    }
+
+    /**
+     * 현재 레지스트리에 게이지 등록 (같은 태그의 이전 게이지는 제거하고 이 조절기에 다시 바인딩)
+     */
+    private void registerGauge(Tags tags) {
+        Gauge previous = meterRegistry.find(FETCH_SIZE_METRIC).tags(tags).gauge();
+        if (previous != null) {
+            meterRegistry.remove(previous);
+        }
+        Gauge.builder(FETCH_SIZE_METRIC, gauge, AtomicInteger::get)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 워커 Step 의 파티션 이름 ("step:partitionN" 의 접미사, 파티션이 아니면 none)
+     */
+    private static String currentPartition() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return "none";
+        }
+        String stepName = context.getStepName();
+        int separator = stepName.indexOf(':');
+        return separator < 0 ? "none" : stepName.substring(separator + 1);
+    }
+
+    /**
+     * 다음 페이지 조회 크기
+     */
+    public int currentFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * 페이지 조회 후 호출하여 다음 조회 크기 결정
+     * - 메모리가 높은 기준을 넘으면 backPressureDelay 만큼 호출 스레드(생산자)를 대기시킴
+     *
+     * @param fetchNanos 이번 페이지 조회에 걸린 시간 (ns)
+     * @return 다음 조회 크기
+     * @throws InterruptedException 백프레셔 대기 중 인터럽트된 경우
+     */
+    public int afterFetch(long fetchNanos) throws InterruptedException {
+        double occupancy = heapOccupancy.getAsDouble();
+        boolean slow = targetFetchLatencyNanos > 0 && fetchNanos > targetFetchLatencyNanos;
+
+        int next;
+        String reason;
+        if (occupancy >= highMemoryThreshold) {
+            next = clamp(fetchSize / 2);
+            reason = "high memory";
+        } else if (occupancy >= mediumMemoryThreshold || slow) {
+            next = clamp(fetchSize - fetchSize / 4);
+            reason = slow ? "slow fetch" : "medium memory";
+        } else if (targetFetchLatencyNanos <= 0 || fetchNanos < targetFetchLatencyNanos / 2) {
+            next = clamp(fetchSize + Math.max(1, fetchSize / 4));
+            reason = "headroom";
+        } else {
+            next = fetchSize;
+            reason = null;
+        }
+
+        if (next != fetchSize) {
+            log.info("Adjusting {} fetch size {} -> {} ({}, heap after GC {}%, fetch {} ms)",
+                    name, fetchSize, next, reason, Math.round(occupancy), fetchNanos / 1_000_000);
+            meterRegistry.counter("batch.reader.fetch-size.adjustments",
+                    "reader", name, "direction", next < fetchSize ? "shrink" : "grow").increment();
+            fetchSize = next;
+            gauge.set(next);
+        }
+
+        if (occupancy >= highMemoryThreshold && backPressureDelay > 0) {
+            meterRegistry.counter("batch.reader.backpressure", "reader", name).increment();
+            Thread.sleep(backPressureDelay);
+        }
+        return fetchSize;
+    }
+
+    private int clamp(int size) {
+        return Math.max(minFetchSize, Math.min(maxFetchSize, size));
+    }
+}
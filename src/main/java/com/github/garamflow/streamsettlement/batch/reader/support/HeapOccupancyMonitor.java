@@ -0,0 +1,51 @@
+package com.github.garamflow.streamsettlement.batch.reader.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+
+/**
+ * GC 직후 힙 점유율 모니터 (BatchConfig 에서 빈으로 한 번만 생성)
+ * - collection usage 를 지원하는 힙 풀에 높은 메모리 기준을 collection usage threshold 로 등록
+ *   (JVM 전역 설정이므로 Reader 마다 설정하지 않음, 이미 설정된 풀은 그대로 둠)
+ * - 기준 초과 시 100% 로 간주, 그 외에는 풀 중 가장 높은 GC 직후 점유율 사용 (GC 가 아직 없으면 0)
+ */
+@Slf4j
+public class HeapOccupancyMonitor {
+
+    private final List<MemoryPoolMXBean> pools;
+
+    public HeapOccupancyMonitor(int highMemoryThreshold) {
+        this.pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+                .toList();
+        for (MemoryPoolMXBean pool : pools) {
+            long max = pool.getUsage().getMax();
+            if (max > 0 && pool.getCollectionUsageThreshold() == 0) {
+                pool.setCollectionUsageThreshold(max / 100 * highMemoryThreshold);
+                log.info("Registered {}% collection usage threshold on heap pool {}", highMemoryThreshold, pool.getName());
+            }
+        }
+    }
+
+    /**
+     * GC 직후 힙 점유율 (%)
+     */
+    public double occupancyAfterGc() {
+        double occupancy = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            if (pool.getCollectionUsageThreshold() > 0 && pool.isCollectionUsageThresholdExceeded()) {
+                return 100.0;
+            }
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage != null && usage.getMax() > 0) {
+                occupancy = Math.max(occupancy, usage.getUsed() * 100.0 / usage.getMax());
+            }
+        }
+        return occupancy;
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.garamflow.streamsettlement.batch.reader.support;
+
+import com.github.garamflow.streamsettlement.exception.BatchProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 백그라운드 페이지 선조회기
+ * - 생산자 스레드가 다음 페이지를 미리 조회하여 최대 maxPrefetchedPages 개까지 큐에 적재
+ * - 워커 스레드가 현재 페이지를 처리/저장하는 동안 다음 페이지 조회가 겹쳐서 진행
+ * - 데이터 끝은 빈 페이지로, 조회 실패는 예외를 담은 페이지로 전달하여 소비 측에서 다시 던짐
+ * - 큐가 비어 소비자가 기다린 시간(stall)과 큐가 가득 차 생산자가 기다린 시간(full)을 메트릭으로 기록
+ * - 생산자 스레드는 워커의 청크 트랜잭션과 별도로 커넥션을 하나 더 점유함 (파티션 동시 실행 수 산정에 반영)
+ *
+ * @param <T> 아이템 타입
+ */
+@Slf4j
+public class PrefetchingPageFetcher<T> implements AutoCloseable {
+
+    /**
+     * 페이지 조회 함수
+     * - 생산자 스레드에서만 호출되므로 내부 상태(마지막 ID 등)는 동기화 없이 유지 가능
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+        /**
+         * @return 다음 페이지, 더 이상 데이터가 없으면 빈 목록
+         */
+        List<T> fetchNextPage() throws Exception;
+    }
+
+    private record Page<T>(List<T> items, Throwable error) {
+        boolean isEnd() {
+            return error == null && items.isEmpty();
+        }
+    }
+
+    private final String name;
+    private final PageSource<T> source;
+    private final BlockingQueue<Page<T>> pages;
+    private final Timer stallTimer;
+    private final Timer fullWaitTimer;
+
+    private Thread producer;
+    private Iterator<T> current;
+    private boolean finished;
+    private volatile boolean closed;
+
+    public PrefetchingPageFetcher(String name, PageSource<T> source, int maxPrefetchedPages, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.source = source;
+        this.pages = new ArrayBlockingQueue<>(Math.max(1, maxPrefetchedPages));
+        this.stallTimer = meterRegistry.timer("batch.reader.prefetch.stall", "reader", name);
+        this.fullWaitTimer = meterRegistry.timer("batch.reader.prefetch.full-wait", "reader", name);
+    }
+
+    /**
+     * 아이템 수 기준 큐 용량을 선조회 페이지 수로 환산 (최소 1)
+     */
+    public static int pagesFor(int queueCapacity, int pageSize) {
+        return Math.max(1, queueCapacity / Math.max(1, pageSize));
+    }
+
+    /**
+     * 생산자 스레드 시작 (이미 시작했으면 무시)
+     */
+    public synchronized void start() {
+        if (producer != null) {
+            return;
+        }
+        producer = new Thread(this::produce, name + "-prefetch");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * 다음 아이템 반환
+     * - 현재 페이지를 다 읽으면 다음 페이지를 큐에서 꺼냄 (비어 있으면 대기)
+     *
+     * @return 다음 아이템, 데이터가 끝났으면 null
+     * @throws BatchProcessingException 생산자의 조회가 실패했거나 대기 중 인터럽트된 경우
+     */
+    public T next() {
+        while (current == null || !current.hasNext()) {
+            if (finished) {
+                return null;
+            }
+            Page<T> page = takePage();
+            if (page.error() != null) {
+                finished = true;
+                Throwable error = page.error();
+                if (error instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new BatchProcessingException("Prefetch failed in " + name, error);
+            }
+            if (page.isEnd()) {
+                finished = true;
+                return null;
+            }
+            current = page.items().iterator();
+        }
+        return current.next();
+    }
+
+    /**
+     * 생산자 중단 및 큐 정리
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (producer != null) {
+            producer.interrupt();
+        }
+        pages.clear();
+    }
+
+    private Page<T> takePage() {
+        start();
+        Page<T> page = pages.poll();
+        if (page != null) {
+            return page;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            return pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchProcessingException("Interrupted while waiting for prefetched page in " + name, e);
+        } finally {
+            sample.stop(stallTimer);
+        }
+    }
+
+    private void produce() {
+        try {
+            while (!closed) {
+                List<T> items = source.fetchNextPage();
+                put(new Page<>(List.copyOf(items), null));
+                if (items.isEmpty()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            if (!closed) {
+                log.error("Prefetch failed in {}", name, e);
+                pages.clear();
+                pages.offer(new Page<>(List.of(), e));
+            }
+        }
+    }
+
+    private void put(Page<T> page) throws InterruptedException {
+        if (pages.offer(page)) {
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            pages.put(page);
+        } finally {
+            sample.stop(fullWaitTimer);
+        }
+    }
+}
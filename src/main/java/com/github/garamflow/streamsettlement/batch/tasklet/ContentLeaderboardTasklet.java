@@ -0,0 +1,62 @@
+package com.github.garamflow.streamsettlement.batch.tasklet;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.entity.statistics.LeaderboardMetric;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentLeaderboardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기간별 리더보드 갱신 Tasklet
+ * - 대상 날짜의 DAILY 와 (롤업 사용 시) 그 날짜가 속한 주/월/연 슬롯을 조회수/시청시간 기준 상위 K 개로 교체
+ * - 슬롯마다 인덱스로 상위 K 행만 읽으므로 전체 통계를 정렬하지 않음
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class ContentLeaderboardTasklet implements Tasklet {
+
+    private final ContentLeaderboardRepository contentLeaderboardRepository;
+    private final BatchProperties batchProperties;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        int size = batchProperties.getLeaderboard().getSize();
+        int saved = 0;
+        for (StatisticsPeriod period : periods()) {
+            LocalDate periodDate = period.startOf(targetDate);
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                saved += contentLeaderboardRepository.refresh(period, periodDate, metric, size);
+            }
+        }
+        contribution.incrementWriteCount(saved);
+        log.info("Refreshed leaderboards for {} ({} rows)", targetDate, saved);
+        return RepeatStatus.FINISHED;
+    }
+
+    private List<StatisticsPeriod> periods() {
+        List<StatisticsPeriod> periods = new ArrayList<>();
+        periods.add(StatisticsPeriod.DAILY);
+        if (batchProperties.getRollup().isEnabled()) {
+            periods.addAll(StatisticsPeriod.getRollupPeriods());
+        }
+        return periods;
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.garamflow.streamsettlement.batch.tasklet;
+
+import com.github.garamflow.streamsettlement.batch.partition.HotContentDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 핫 컨텐츠 탐지 Tasklet
+ * - 탐지 결과를 Job ExecutionContext 에 저장하여 이후 Step 과 재시작 시 같은 분할 계획을 사용
+ */
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class HotContentDetectTasklet implements Tasklet {
+
+    private final HotContentDetector hotContentDetector;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        List<Long> hotContentIds = hotContentDetector.detect(targetDate);
+        contribution.getStepExecution().getJobExecution().getExecutionContext()
+                .putString(HotContentDetector.HOT_CONTENT_IDS_KEY, HotContentDetector.toCsv(hotContentIds));
+        return RepeatStatus.FINISHED;
+    }
+}
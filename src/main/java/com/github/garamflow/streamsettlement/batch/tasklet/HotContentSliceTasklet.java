@@ -0,0 +1,67 @@
+package com.github.garamflow.streamsettlement.batch.tasklet;
+
+import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 핫 컨텐츠 로그 ID 구간의 부분 합계 계산 Tasklet
+ * - 파티션(구간)마다 조회수/시청시간 부분 합계를 워커 Step ExecutionContext 에 저장
+ * - 저장된 부분 합계는 결합 Step 에서 컨텐츠별로 합산된 뒤 통계 Writer 로 저장
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class HotContentSliceTasklet implements Tasklet {
+
+    public static final String STEP_NAME = "daily-hot-content-slice-step";
+    public static final String HOT_CONTENT_ID_KEY = "hotContentId";
+    public static final String START_LOG_ID_KEY = "startLogId";
+    public static final String END_LOG_ID_KEY = "endLogId";
+    public static final String PARTIAL_VIEWS_KEY = "partialViews";
+    public static final String PARTIAL_WATCH_TIME_KEY = "partialWatchTime";
+    public static final String PARTIAL_MIN_LOG_ID_KEY = "partialMinLogId";
+
+    private final DailyWatchedContentQuerydslRepository dailyWatchedContentRepository;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Value("#{stepExecutionContext['hotContentId']}")
+    private Long hotContentId;
+
+    @Value("#{stepExecutionContext['startLogId']}")
+    private Long startLogId;
+
+    @Value("#{stepExecutionContext['endLogId']}")
+    private Long endLogId;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        CumulativeStatisticsDto partial = dailyWatchedContentRepository.findPartialStatisticsByLogIdRange(
+                targetDate, hotContentId, startLogId, endLogId);
+
+        ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+        context.putLong(PARTIAL_VIEWS_KEY, partial != null ? partial.totalViews() : 0L);
+        context.putLong(PARTIAL_WATCH_TIME_KEY,
+                partial != null && partial.totalWatchTime() != null ? partial.totalWatchTime() : 0L);
+        context.putLong(PARTIAL_MIN_LOG_ID_KEY, partial != null ? partial.id() : Long.MAX_VALUE);
+
+        log.debug("Hot content {} log {} ~ {}: {} views",
+                hotContentId, startLogId, endLogId, context.getLong(PARTIAL_VIEWS_KEY));
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.garamflow.streamsettlement.batch.tasklet;
+
+import com.github.garamflow.streamsettlement.repository.settlement.SettlementRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 스테이징 준비 Tasklet
+ * - 스테이징 모드에서 Job 첫 Step 으로 실행
+ * - 통계/정산 스테이징 테이블을 만들고(없으면) 대상 날짜의 이전 실행 잔여 행을 삭제
+ * - 재시작 시에는 완료된 Step 이므로 다시 실행되지 않아 이미 적재된 파티션 결과가 유지됨
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class StagingPrepareTasklet implements Tasklet {
+
+    private final ContentStatisticsRepository contentStatisticsRepository;
+    private final SettlementRepository settlementRepository;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        int statistics = contentStatisticsRepository.prepareStaging(targetDate);
+        int settlements = settlementRepository.prepareStaging(targetDate);
+        log.info("Prepared staging tables for {} (cleared {} statistics, {} settlements)",
+                targetDate, statistics, settlements);
+        return RepeatStatus.FINISHED;
+    }
+}
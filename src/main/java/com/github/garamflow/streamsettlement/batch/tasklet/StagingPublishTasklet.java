@@ -0,0 +1,44 @@
+package com.github.garamflow.streamsettlement.batch.tasklet;
+
+import com.github.garamflow.streamsettlement.repository.settlement.SettlementRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 스테이징 반영 Tasklet
+ * - 스테이징 모드에서 Job 마지막 Step 으로 실행
+ * - Step 트랜잭션 하나에서 대상 날짜의 통계와 정산을 라이브 테이블로 교체하고 settlement_latest 갱신
+ * - 실패 시 전체가 롤백되므로 라이브 테이블은 이전 결과를 유지하고 재시작 시 이 Step 만 다시 실행됨
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class StagingPublishTasklet implements Tasklet {
+
+    private final ContentStatisticsRepository contentStatisticsRepository;
+    private final SettlementRepository settlementRepository;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        int statistics = contentStatisticsRepository.publishStaging(targetDate);
+        int settlements = settlementRepository.publishStaging(targetDate);
+        contribution.incrementWriteCount(statistics + settlements);
+        log.info("Published {} statistics and {} settlements for {}", statistics, settlements, targetDate);
+        return RepeatStatus.FINISHED;
+    }
+}
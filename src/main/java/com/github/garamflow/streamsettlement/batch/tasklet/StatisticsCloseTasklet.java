@@ -0,0 +1,39 @@
+package com.github.garamflow.streamsettlement.batch.tasklet;
+
+import com.github.garamflow.streamsettlement.service.statistics.StatisticsMicroBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 통계 마감 Tasklet
+ * - 증분 집계 모드에서 통계 파티션 Step 대신 실행
+ * - 워터마크 이후 남은 변경분만 반영하여 대상 날짜의 DAILY 통계를 확정
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class StatisticsCloseTasklet implements Tasklet {
+
+    private final StatisticsMicroBatchService statisticsMicroBatchService;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        log.info("Closing daily statistics for {} from micro-batch results", targetDate);
+        statisticsMicroBatchService.closeDay(targetDate);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.garamflow.streamsettlement.batch.tasklet;
+
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 주간/월간/연간 통계 롤업 Tasklet
+ * - 대상 날짜의 DAILY 통계만 읽어 그 날짜가 속한 주/월/연 통계 행에 더함
+ * - 이미 반영한 값은 스냅샷으로 관리하므로 같은 날짜를 다시 실행해도 중복 집계되지 않음
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class StatisticsRollupTasklet implements Tasklet {
+
+    private final ContentStatisticsRepository contentStatisticsRepository;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        int affected = contentStatisticsRepository.rollupDaily(targetDate);
+        contribution.incrementWriteCount(affected);
+        log.info("Rolled up daily statistics of {} into weekly/monthly/yearly rows ({} rows affected)",
+                targetDate, affected);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.garamflow.streamsettlement.batch.test;
 
+import com.github.garamflow.streamsettlement.service.settlement.SettlementLatestBackfillService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -22,6 +23,7 @@ public class BatchController {
 
     private final JobLauncher jobLauncher;
     private final Job dailyStatisticsAndSettlementJob;
+    private final SettlementLatestBackfillService settlementLatestBackfillService;
 
     /**
      * 일일 통계 및 정산 배치 작업 실행
@@ -52,6 +54,23 @@ public class BatchController {
         }
     }
 
+    /**
+     * 최신 누적 정산(settlement_latest) 백필
+     * - 기존 정산 이력으로 컨텐츠별 최신/직전 누적 정산을 재구성
+     *
+     * @return 영향받은 행 수
+     */
+    @PostMapping("/settlement-latest/backfill")
+    public ResponseEntity<Map<String, Long>> backfillSettlementLatest() {
+        try {
+            long affectedRows = settlementLatestBackfillService.backfill();
+            return ResponseEntity.ok(Map.of("affectedRows", affectedRows));
+        } catch (Exception e) {
+            log.error("최신 누적 정산 백필 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 배치 작업 상태 조회
      *
@@ -0,0 +1,90 @@
+package com.github.garamflow.streamsettlement.batch.writer;
+
+import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
+import com.github.garamflow.streamsettlement.batch.dto.SettlementSourceDto;
+import com.github.garamflow.streamsettlement.batch.dto.StatisticsAndCumulativeSettlementDto;
+import com.github.garamflow.streamsettlement.batch.processor.SettlementItemProcessor;
+import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
+import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+import com.github.garamflow.streamsettlement.repository.settlement.SettlementQuerydslRepository;
+import com.github.garamflow.streamsettlement.repository.settlement.SettlementRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 통계 저장과 정산 계산을 한 번에 처리하는 Writer 구현
+ * - 통계 청크를 벌크 인서트한 뒤 메모리에 있는 같은 청크로 정산 데이터를 계산하여 저장
+ * - 정산 Step 이 content_statistics 를 다시 읽고 엔티티/ContentPost 를 로드하는 과정을 생략
+ * - 통계와 정산이 같은 청크 트랜잭션에서 커밋되므로 재시작 시 둘이 어긋나지 않음
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class FusedStatisticsSettlementItemWriter implements ItemWriter<ContentStatistics> {
+
+    private final ContentStatisticsRepository contentStatisticsRepository;
+    private final SettlementQuerydslRepository settlementQuerydslRepository;
+    private final SettlementRepository settlementRepository;
+    private final SettlementItemProcessor settlementItemProcessor;
+
+    @Value("#{jobParameters['targetDate']}")
+    private LocalDate targetDate;
+
+    /**
+     * 통계 및 정산 데이터 저장 로직
+     * - 통계 벌크 인서트
+     * - 청크의 컨텐츠 ID 로 이전 누적 정산 일괄 조회
+     * - 정산 Processor 와 같은 계산으로 정산 엔티티 생성 후 벌크 인서트
+     */
+    @Override
+    public void write(@NonNull Chunk<? extends ContentStatistics> chunk) throws Exception {
+        List<ContentStatistics> statistics = new ArrayList<>(chunk.getItems());
+        contentStatisticsRepository.bulkInsert(statistics);
+        if (statistics.isEmpty()) {
+            return;
+        }
+
+        Map<Long, SettlementCalculationDto> prevSettlementMap = fetchPreviousSettlements(statistics);
+
+        List<Settlement> settlements = new ArrayList<>(statistics.size());
+        for (ContentStatistics stat : statistics) {
+            StatisticsAndCumulativeSettlementDto item = StatisticsAndCumulativeSettlementDto.of(
+                    SettlementSourceDto.from(stat), prevSettlementMap.get(stat.getContentPost().getId()));
+            settlements.add(settlementItemProcessor.process(item));
+        }
+        settlementRepository.bulkInsert(settlements);
+
+        log.debug("Fused write - {} statistics and settlements", statistics.size());
+    }
+
+    /**
+     * 이전 정산 정보 조회
+     * - 콘텐츠 ID 목록에 대한 누적 정산 정보 조회
+     */
+    private Map<Long, SettlementCalculationDto> fetchPreviousSettlements(List<ContentStatistics> statistics) {
+        List<Long> contentIds = statistics.stream()
+                .map(stat -> stat.getContentPost().getId())
+                .toList();
+
+        return settlementQuerydslRepository.findCumulativeSettlementsByContentIds(contentIds, targetDate).stream()
+                .collect(Collectors.toMap(
+                        SettlementCalculationDto::contentId,
+                        dto -> dto,
+                        (existing, replacement) -> existing
+                ));
+    }
+}
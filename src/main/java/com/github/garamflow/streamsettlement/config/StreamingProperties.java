@@ -0,0 +1,117 @@
+package com.github.garamflow.streamsettlement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트리밍(재생) 요청 처리 관련 설정값들을 관리하는 클래스
+ * application.yml 또는 properties 파일의 'streaming' prefix 설정을 매핑
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "streaming")
+public class StreamingProperties {
+
+    private WriteBehind writeBehind = new WriteBehind();
+    private StartScript startScript = new StartScript();
+    private Abuse abuse = new Abuse();
+    private ViewCount viewCount = new ViewCount();
+    private MetadataCache metadataCache = new MetadataCache();
+    private DailyCounter dailyCounter = new DailyCounter();
+    private Trending trending = new Trending();
+
+
+    /**
+     * 시청 로그 write-behind 버퍼 설정
+     * - 재생 시작 시 시청 로그를 메모리에 모았다가 일괄 저장
+     * - 크기(flushSize) 또는 시간(flushIntervalMs) 조건 중 먼저 도달한 쪽으로 flush
+     * - 대기 중인 로그는 노드 로컬이므로 같은 회원/컨텐츠의 재생 요청은 같은 노드로 라우팅 필요 (sticky session)
+     */
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        private boolean enabled = false;        // write-behind 모드 사용 여부
+        private int capacity = 10000;           // 버퍼 최대 용량 (초과 시 호출 스레드에서 즉시 flush, 실패 시 직접 저장)
+        private int flushSize = 500;            // 비동기 flush 를 트리거하는 적재 건수
+        private long flushIntervalMs = 1000L;   // 주기적 flush 간격 (ms)
+    }
+
+    /**
+     * 재생 시작 Lua 스크립트 설정
+     * - 어뷰징 체크/조회수 증가/일일 컨텐츠 등록을 한 번의 Redis 왕복으로 처리
+     */
+    @Getter
+    @Setter
+    public static class StartScript {
+        private boolean enabled = false;        // 단일 스크립트 모드 사용 여부
+    }
+
+    /**
+     * 어뷰징 체크 설정
+     * - lockFree: 분산 락 없이 SET NX PX 한 번으로 체크와 기록을 원자적으로 수행
+     * - 로컬 캐시: 이미 어뷰징으로 판정된 키를 짧게 기억하여 Redis 호출 생략
+     */
+    @Getter
+    @Setter
+    public static class Abuse {
+        private boolean lockFree = false;           // SET NX PX 기반 락 없는 모드 사용 여부
+        private long localCacheTtlMs = 5000L;       // 로컬 어뷰징 캐시 TTL (ms, 어뷰징 윈도우보다 짧게)
+        private int localCacheMaxSize = 100000;     // 로컬 캐시 최대 엔트리 수
+    }
+
+    /**
+     * 조회수 집계 설정
+     * - localAggregation: 노드 로컬 LongAdder 로 집계 후 주기적으로 파이프라인 flush
+     * - flushIntervalMs 는 동기화 스케줄러 실행 시점(매분 5초)보다 충분히 짧아야 함
+     */
+    @Getter
+    @Setter
+    public static class ViewCount {
+        private boolean localAggregation = false;   // 노드 로컬 집계 모드 사용 여부
+        private long flushIntervalMs = 200L;        // 로컬 집계 flush 간격 (ms)
+    }
+
+    /**
+     * 컨텐츠 재생 메타데이터 near-cache 설정
+     * - 빈도 기반(W-TinyLFU) 교체 정책의 크기 제한 로컬 캐시
+     * - 기동 시 조회수 상위 컨텐츠로 워밍업
+     */
+    @Getter
+    @Setter
+    public static class MetadataCache {
+        private boolean enabled = false;            // near-cache 사용 여부
+        private long maximumSize = 10000L;          // 최대 캐시 항목 수
+        private long expireAfterWriteMinutes = 60L; // 안전장치용 만료 시간 (분)
+        private int warmUpSize = 1000;              // 워밍업 대상 상위 컨텐츠 수
+    }
+
+    /**
+     * 일일 통계 카운터 설정
+     * - 수집 시점에 날짜/컨텐츠별 조회수, 시청시간을 Redis Hash 로 사전 집계
+     * - 통계 배치(COUNTER Reader)가 로그 재집계 대신 카운터를 직접 사용
+     * - 기능을 끄고 다시 켤 경우 trackingSince 키를 삭제해야 누락 구간이 검증에서 제외됨
+     */
+    @Getter
+    @Setter
+    public static class DailyCounter {
+        private boolean enabled = false;            // 수집 시점 카운터 사용 여부
+        private long retentionDays = 3L;            // 카운터 보관 기간 (일)
+    }
+
+    /**
+     * 실시간 인기 컨텐츠 설정
+     * - 조회수 동기화 스케줄러가 분 단위 조회수를 지수 감쇠 점수에 누적
+     * - 점수는 최대 capacity 개 컨텐츠만 메모리에 유지하고 상위 size 개를 조회 API 로 제공
+     */
+    @Getter
+    @Setter
+    public static class Trending {
+        private boolean enabled = true;             // 인기 점수 집계 사용 여부
+        private double halfLifeMinutes = 30.0;      // 점수 반감기 (분)
+        private int size = 20;                      // 조회 API 로 제공할 상위 컨텐츠 수
+        private int capacity = 1000;                // 점수를 유지할 최대 컨텐츠 수 (size 보다 충분히 크게)
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.garamflow.streamsettlement.controller.dto.statistics;
 
+import com.github.garamflow.streamsettlement.entity.statistics.ContentLeaderboard;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
 
 public record ContentStatisticsResponse(
@@ -16,4 +17,13 @@ public record ContentStatisticsResponse(
                 statistics.getWatchTime()
         );
     }
-}
\ No newline at end of file
+
+    public static ContentStatisticsResponse from(ContentLeaderboard leaderboard) {
+        return new ContentStatisticsResponse(
+                leaderboard.getContentPostId(),
+                leaderboard.getTitle(),
+                leaderboard.getViewCount(),
+                leaderboard.getWatchTime()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.garamflow.streamsettlement.controller.dto.statistics;
+
+/**
+ * 실시간 인기 컨텐츠 순위 항목
+ *
+ * @param contentPostId 컨텐츠 ID
+ * @param title         컨텐츠 제목 (메타데이터가 없으면 null)
+ * @param score         마지막 집계 시점 기준 지수 감쇠 조회수 점수
+ */
+public record TrendingContentResponse(
+        Long contentPostId,
+        String title,
+        double score
+) {
+}
@@ -1,8 +1,10 @@
 package com.github.garamflow.streamsettlement.controller.statistics;
 
 import com.github.garamflow.streamsettlement.controller.dto.statistics.ContentStatisticsResponse;
+import com.github.garamflow.streamsettlement.controller.dto.statistics.TrendingContentResponse;
 import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
 import com.github.garamflow.streamsettlement.service.statistics.ContentStatisticsService;
+import com.github.garamflow.streamsettlement.service.statistics.TrendingScoreService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +21,7 @@ import java.util.List;
 public class ContentStatisticsController {
 
     private final ContentStatisticsService contentStatisticsService;
+    private final TrendingScoreService trendingScoreService;
 
     // 기존 일간/주간/월간/연간 등 단일 targetDate 기반 Top5(조회수 기준)
     @GetMapping("/top-views")
@@ -38,6 +41,12 @@ public class ContentStatisticsController {
         return ResponseEntity.ok(responses);
     }
 
+    // 실시간 인기 컨텐츠 (분 단위 조회수의 지수 감쇠 점수, 메모리의 마지막 집계 순위)
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingContentResponse>> getTrending() {
+        return ResponseEntity.ok(trendingScoreService.getRanking());
+    }
+
     // 추가: 기간(From~To) 기반 조회수 Top5 조회
     @GetMapping("/top-views-range")
     public ResponseEntity<List<ContentStatisticsResponse>> getTopViewsInRange(
@@ -3,11 +3,7 @@ package com.github.garamflow.streamsettlement.controller.stream;
 import com.github.garamflow.streamsettlement.controller.dto.stream.ContentPlaybackInfo;
 import com.github.garamflow.streamsettlement.controller.dto.stream.request.StreamingEndRequest;
 import com.github.garamflow.streamsettlement.controller.dto.stream.response.StreamingStartResponse;
-import com.github.garamflow.streamsettlement.redis.dto.AbusingKey;
-import com.github.garamflow.streamsettlement.service.cache.DailyStreamingContentCacheService;
-import com.github.garamflow.streamsettlement.service.cache.ViewCountCacheServiceImpl;
 import com.github.garamflow.streamsettlement.service.stream.StreamingServiceImpl;
-import com.github.garamflow.streamsettlement.service.stream.ViewAbusingCacheService;
 import com.github.garamflow.streamsettlement.util.IpUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -24,9 +20,6 @@ import org.springframework.web.bind.annotation.*;
 public class StreamingController {
 
     private final StreamingServiceImpl streamingServiceImpl;
-    private final DailyStreamingContentCacheService dailyStreamingContentCacheService; // 여기를 수정
-    private final ViewAbusingCacheService viewAbusingCacheService;
-    private final ViewCountCacheServiceImpl viewCountCacheServiceImpl;
 
     @GetMapping("/contents/{contentId}")
     public ResponseEntity<StreamingStartResponse> startStreaming(
@@ -36,20 +29,9 @@ public class StreamingController {
     ) {
 
         try {
-            ContentPlaybackInfo playbackInfo = streamingServiceImpl.startPlayback(userId, contentId);
-
-            AbusingKey abusingKey = new AbusingKey(
-                    userId,
-                    contentId,
-                    playbackInfo.creatorId(),
-                    IpUtil.getClientIp(request)
-            );
-
-            if (!viewAbusingCacheService.isAbusing(abusingKey)) {
-                dailyStreamingContentCacheService.setContentId(contentId);
-                viewCountCacheServiceImpl.incrementViewCount(contentId);
-                viewAbusingCacheService.setAbusing(abusingKey);
-            }
+            // 어뷰징 체크, 조회수 증가, 일일 시청 컨텐츠 등록은 서비스에서 클라이언트 IP 기준으로 한 번만 수행
+            ContentPlaybackInfo playbackInfo = streamingServiceImpl.startPlayback(
+                    userId, contentId, IpUtil.getClientIp(request));
 
             StreamingStartResponse response = StreamingStartResponse.builder()
                     .contentPostId(playbackInfo.contentPostId())
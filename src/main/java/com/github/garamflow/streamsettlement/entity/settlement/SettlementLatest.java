@@ -0,0 +1,108 @@
+package com.github.garamflow.streamsettlement.entity.settlement;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 컨텐츠별 최신 누적 정산 프로젝션
+ * - 컨텐츠당 한 행으로 가장 최근 정산일과 그 직전 정산일의 누적 수익을 유지
+ * - 정산 벌크 인서트와 같은 트랜잭션에서 갱신되어 settlement 와 어긋나지 않음
+ * - 같은 날짜를 재처리해도 직전 정산일 값으로 이전 누적 수익을 구할 수 있음
+ * - 정산 이력 전체를 반영한 행(history_complete)만 신뢰, 배포 전 이력이 있는 컨텐츠는 백필 전까지 정산 이력 조회
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "settlement_latest")
+public class SettlementLatest {
+
+    @Id
+    @Column(name = "content_post_id")
+    private Long contentPostId;
+
+    @Column(name = "settlement_date", nullable = false)
+    private LocalDate settlementDate;
+
+    @Column(name = "total_content_revenue", nullable = false)
+    private Long totalContentRevenue;
+
+    @Column(name = "total_ad_revenue", nullable = false)
+    private Long totalAdRevenue;
+
+    // 직전 정산일 (정산이 한 번뿐이면 null)
+    @Column(name = "previous_settlement_date")
+    private LocalDate previousSettlementDate;
+
+    @Column(name = "previous_total_content_revenue")
+    private Long previousTotalContentRevenue;
+
+    @Column(name = "previous_total_ad_revenue")
+    private Long previousTotalAdRevenue;
+
+    // 정산 이력 전체를 반영했는지 여부 (백필로 재구성했거나 다른 날짜 정산이 없는 상태에서 생성)
+    @Column(name = "history_complete", nullable = false)
+    private boolean historyComplete;
+
+    @Builder(builderMethodName = "existingBuilder")
+    private SettlementLatest(Long contentPostId,
+                             LocalDate settlementDate,
+                             Long totalContentRevenue,
+                             Long totalAdRevenue,
+                             LocalDate previousSettlementDate,
+                             Long previousTotalContentRevenue,
+                             Long previousTotalAdRevenue,
+                             boolean historyComplete) {
+        this.contentPostId = contentPostId;
+        this.settlementDate = settlementDate;
+        this.totalContentRevenue = totalContentRevenue;
+        this.totalAdRevenue = totalAdRevenue;
+        this.previousSettlementDate = previousSettlementDate;
+        this.previousTotalContentRevenue = previousTotalContentRevenue;
+        this.previousTotalAdRevenue = previousTotalAdRevenue;
+        this.historyComplete = historyComplete;
+    }
+
+    /**
+     * date 이전 마지막 정산을 이 행만으로 알 수 있는지 여부
+     * - 정산 이력 전체를 반영하지 않은 행은 판단 불가 (직전 정산이 null 이어도 배포 전 이력이 있을 수 있음)
+     * - 최신 또는 직전 정산일이 date 이전이거나, 직전 정산이 없으면 판단 가능
+     * - 과거 날짜를 재처리하는 경우처럼 두 날짜 모두 date 이후면 정산 이력 조회 필요
+     */
+    public boolean coversBefore(LocalDate date) {
+        if (!historyComplete) {
+            return false;
+        }
+        return settlementDate.isBefore(date)
+                || previousSettlementDate == null
+                || previousSettlementDate.isBefore(date);
+    }
+
+    /**
+     * date 이전 마지막 정산의 누적 콘텐츠 수익 (없으면 0)
+     */
+    public long totalContentRevenueBefore(LocalDate date) {
+        if (settlementDate.isBefore(date)) {
+            return totalContentRevenue;
+        }
+        return hasPreviousBefore(date) ? previousTotalContentRevenue : 0L;
+    }
+
+    /**
+     * date 이전 마지막 정산의 누적 광고 수익 (없으면 0)
+     */
+    public long totalAdRevenueBefore(LocalDate date) {
+        if (settlementDate.isBefore(date)) {
+            return totalAdRevenue;
+        }
+        return hasPreviousBefore(date) ? previousTotalAdRevenue : 0L;
+    }
+
+    private boolean hasPreviousBefore(LocalDate date) {
+        return previousSettlementDate != null && previousSettlementDate.isBefore(date);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.garamflow.streamsettlement.entity.statistics;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기간별 컨텐츠 리더보드
+ * - (기간, 기간 시작일, 정렬 기준) 마다 상위 K 개 통계를 순위와 함께 보관
+ * - 컨텐츠 제목을 비정규화하여 조회 API 가 content_statistics 정렬이나 content_post 조인 없이 K 행만 읽음
+ * - 배치의 리더보드 Step 이 통계/롤업 저장 이후 슬롯 단위로 교체
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "content_leaderboard",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_content_leaderboard_slot_rank",
+                        columnNames = {"period", "period_date", "metric", "ranking"})
+        })
+public class ContentLeaderboard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "content_leaderboard_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false, length = 20)
+    private StatisticsPeriod period;
+
+    // 기간 시작일 (content_statistics.statistics_date 와 같은 기준)
+    @Column(name = "period_date", nullable = false)
+    private LocalDate periodDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private LeaderboardMetric metric;
+
+    // 1 부터 시작하는 순위
+    @Column(name = "ranking", nullable = false)
+    private Integer ranking;
+
+    @Column(name = "content_post_id", nullable = false)
+    private Long contentPostId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+
+    @Column(name = "watch_time", nullable = false)
+    private Long watchTime;
+
+    @Builder(builderMethodName = "existingBuilder")
+    private ContentLeaderboard(StatisticsPeriod period,
+                               LocalDate periodDate,
+                               LeaderboardMetric metric,
+                               Integer ranking,
+                               Long contentPostId,
+                               String title,
+                               Long viewCount,
+                               Long watchTime) {
+        this.period = period;
+        this.periodDate = periodDate;
+        this.metric = metric;
+        this.ranking = ranking;
+        this.contentPostId = contentPostId;
+        this.title = title;
+        this.viewCount = viewCount;
+        this.watchTime = watchTime;
+    }
+}
@@ -14,11 +14,21 @@ import java.util.Optional;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "content_statistics",
+uniqueConstraints = {
+  @UniqueConstraint(name = "uk_content_statistics_content_period_date",
+         columnNames = {"content_post_id", "period", "statistics_date"})
+},
 indexes = {
   @Index(name = "idx_content_statistics_id_date", 
          columnList = "content_statistics_id, statistics_date"),
-  @Index(name = "idx_content_statistics_composite", 
-         columnList = "content_post_id, period, statistics_date")
+  @Index(name = "idx_content_statistics_date_id",
+         columnList = "statistics_date, content_statistics_id"),
+  @Index(name = "idx_content_statistics_period_date_content",
+         columnList = "period, statistics_date, content_post_id"),
+  @Index(name = "idx_content_statistics_period_date_views",
+         columnList = "period, statistics_date, view_count"),
+  @Index(name = "idx_content_statistics_period_date_watch_time",
+         columnList = "period, statistics_date, watch_time")
 })
 public class ContentStatistics {
 
@@ -0,0 +1,45 @@
+package com.github.garamflow.streamsettlement.entity.statistics;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 롤업 반영 스냅샷
+ * - DAILY 통계 행마다 주간/월간/연간 롤업에 이미 더한 값을 보관
+ * - 같은 날짜를 다시 롤업하면 스냅샷과의 차이만 더하여 중복 집계를 막음
+ * - 롤업 SQL(ContentStatisticsCustomRepositoryImpl)에서만 읽고 씀
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ContentStatisticsRollupApplied.Key.class)
+@Table(name = "content_statistics_rollup_applied")
+public class ContentStatisticsRollupApplied {
+
+    @Id
+    @Column(name = "content_post_id")
+    private Long contentPostId;
+
+    @Id
+    @Column(name = "statistics_date")
+    private LocalDate statisticsDate;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+
+    @Column(name = "watch_time", nullable = false)
+    private Long watchTime;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long contentPostId;
+        private LocalDate statisticsDate;
+    }
+}
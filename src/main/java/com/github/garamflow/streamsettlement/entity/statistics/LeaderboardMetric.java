@@ -0,0 +1,21 @@
+package com.github.garamflow.streamsettlement.entity.statistics;
+
+/**
+ * 리더보드 정렬 기준
+ */
+public enum LeaderboardMetric {
+    VIEW_COUNT("view_count"), WATCH_TIME("watch_time");
+
+    private final String column;
+
+    LeaderboardMetric(String column) {
+        this.column = column;
+    }
+
+    /**
+     * content_statistics 정렬 컬럼명
+     */
+    public String column() {
+        return column;
+    }
+}
@@ -1,5 +1,8 @@
 package com.github.garamflow.streamsettlement.entity.statistics;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 
 public enum StatisticsPeriod {
@@ -14,4 +17,21 @@ public enum StatisticsPeriod {
     public static List<StatisticsPeriod> getAllPeriodsForDaily() {
         return List.of(DAILY, WEEKLY, MONTHLY, YEARLY);
     }
+
+    public static List<StatisticsPeriod> getRollupPeriods() {
+        return List.of(WEEKLY, MONTHLY, YEARLY);
+    }
+
+    /**
+     * 날짜가 속한 기간의 시작일 (통계 행의 statistics_date)
+     * - 주간: 월요일, 월간: 1일, 연간: 1월 1일
+     */
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+            case YEARLY -> date.withDayOfYear(1);
+        };
+    }
 }
@@ -0,0 +1,48 @@
+package com.github.garamflow.streamsettlement.entity.statistics;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 통계 집계 워터마크
+ * - 마지막으로 반영한 시청 로그의 (updated_at, id) 위치를 저장
+ * - 서버가 중단되어도 다음 실행이 저장된 위치부터 이어서 처리
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "statistics_watermark")
+public class StatisticsWatermark {
+
+    @Id
+    @Column(name = "watermark_name", length = 50)
+    private String name;
+
+    @Column(name = "last_updated_at", nullable = false)
+    private LocalDateTime lastUpdatedAt;
+
+    @Column(name = "last_log_id", nullable = false)
+    private Long lastLogId;
+
+    // 워터마크 추적 시작 시각 (이전 날짜는 증분 집계가 불완전)
+    @Column(name = "tracking_since", nullable = false)
+    private LocalDateTime trackingSince;
+
+    @Builder(builderMethodName = "createBuilder")
+    private StatisticsWatermark(String name, LocalDateTime trackingSince) {
+        this.name = name;
+        this.lastUpdatedAt = trackingSince;
+        this.lastLogId = 0L;
+        this.trackingSince = trackingSince;
+    }
+
+    public void advance(LocalDateTime lastUpdatedAt, Long lastLogId) {
+        this.lastUpdatedAt = lastUpdatedAt;
+        this.lastLogId = lastLogId;
+    }
+}
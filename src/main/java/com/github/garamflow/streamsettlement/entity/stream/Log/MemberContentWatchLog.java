@@ -14,6 +14,13 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_content_watch_log",
+        indexes = {
+                @Index(name = "idx_watch_log_date_content",
+                        columnList = "watched_date, content_post_id, total_playback_time"),
+                @Index(name = "idx_watch_log_updated_id",
+                        columnList = "updated_at, id")
+        })
 public class MemberContentWatchLog {
 
     @Id
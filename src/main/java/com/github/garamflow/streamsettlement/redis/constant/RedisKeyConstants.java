@@ -5,4 +5,10 @@ public class RedisKeyConstants {
     public static final String VIEW_COUNT_KEY_PREFIX = "content:viewCount:time:";
     public static final String DAILY_VIEWED_CONTENT_KEY_PREFIX = "viewed:content:date:";
     public static final String ABUSE_KEY_PREFIX = "abuse:";
+    public static final String DAILY_COUNTER_VIEWS_KEY_PREFIX = "statistics:counter:views:";
+    public static final String DAILY_COUNTER_WATCH_TIME_KEY_PREFIX = "statistics:counter:watchTime:";
+    public static final String DAILY_COUNTER_INVALID_KEY_PREFIX = "statistics:counter:invalid:";
+    public static final String DAILY_COUNTER_TRACKING_SINCE_KEY = "statistics:counter:trackingSince";
+    public static final String CONTENT_METADATA_INVALIDATION_TOPIC = "content:metadata:invalidation";
+    public static final String STATISTICS_MICRO_BATCH_LOCK_KEY = LOCK_PREFIX + "statistics:microBatch";
 } 
\ No newline at end of file
@@ -1,6 +1,14 @@
 package com.github.garamflow.streamsettlement.repository.common;
 
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 /**
  * 엔티티의 벌크 삽입 기능을 제공하는 인터페이스입니다.
@@ -11,8 +19,115 @@ import java.util.List;
 public interface BulkInsertable<T> {
     /**
      * 주어진 엔티티 목록을 데이터베이스에 벌크 삽입합니다.
-     * 
+     *
      * @param items 삽입할 엔티티 목록
      */
     void bulkInsert(List<T> items);
-}
\ No newline at end of file
+
+    /**
+     * 엔티티 필드를 PreparedStatement 위치 파라미터에 직접 바인딩하는 함수입니다.
+     *
+     * @param <T> 바인딩할 엔티티 타입
+     */
+    @FunctionalInterface
+    interface ParameterBinder<T> {
+        void bind(PreparedStatement ps, T item) throws SQLException;
+    }
+
+    /**
+     * 위치 파라미터(?) SQL 을 JDBC 배치로 실행합니다.
+     * 행마다 MapSqlParameterSource 와 파라미터 맵을 만들지 않고 엔티티 필드를 바로 바인딩합니다.
+     *
+     * @param jdbcOperations JDBC 연산
+     * @param sql            위치 파라미터 SQL
+     * @param items          바인딩할 엔티티 목록
+     * @param binder         엔티티 -> 위치 파라미터 바인딩
+     * @return 행별 영향받은 행 수
+     */
+    static <T> int[] batchUpdate(JdbcOperations jdbcOperations, String sql, List<T> items, ParameterBinder<T> binder) {
+        return jdbcOperations.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                binder.bind(ps, items.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return items.size();
+            }
+        });
+    }
+
+    /**
+     * 유니크 키 순서로 정렬된 목록을 반환합니다. (이미 정렬되어 있으면 원본 목록)
+     * 병렬 워커가 ON DUPLICATE KEY UPDATE 로 같은 인덱스에 쓸 때 행/갭 락을 항상 같은 순서로 잡게 하여
+     * 락 순서 역전으로 인한 데드락을 막습니다.
+     *
+     * @param items    정렬할 목록
+     * @param keyOrder 유니크 키 비교자
+     * @return 키 순서로 정렬된 목록
+     */
+    static <T> List<T> sortedByKey(List<T> items, Comparator<? super T> keyOrder) {
+        for (int i = 1; i < items.size(); i++) {
+            if (keyOrder.compare(items.get(i - 1), items.get(i)) > 0) {
+                List<T> sorted = new ArrayList<>(items);
+                sorted.sort(keyOrder);
+                return sorted;
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 두 long 값으로 이루어진 복합 키 기준으로 중복을 제거합니다. (먼저 나온 항목 유지, 순서 보존)
+     * 문자열 키나 박싱된 키 객체 없이 long 배열 기반 개방 주소 해시로 판별합니다.
+     *
+     * @param items  중복 제거할 목록
+     * @param first  복합 키의 첫 번째 값
+     * @param second 복합 키의 두 번째 값
+     * @return 중복이 제거된 목록 (중복이 없으면 원본 목록)
+     */
+    static <T> List<T> distinctByKey(List<T> items, ToLongFunction<? super T> first, ToLongFunction<? super T> second) {
+        int size = items.size();
+        if (size < 2) {
+            return items;
+        }
+        int capacity = Integer.highestOneBit(Math.max(4, size * 2 - 1)) << 1;
+        int mask = capacity - 1;
+        long[] firstKeys = new long[capacity];
+        long[] secondKeys = new long[capacity];
+        boolean[] used = new boolean[capacity];
+
+        List<T> distinct = null;
+        for (int i = 0; i < size; i++) {
+            T item = items.get(i);
+            long a = first.applyAsLong(item);
+            long b = second.applyAsLong(item);
+            long hash = a * 0x9E3779B97F4A7C15L + b;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+
+            boolean duplicate = false;
+            while (used[slot]) {
+                if (firstKeys[slot] == a && secondKeys[slot] == b) {
+                    duplicate = true;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            if (duplicate) {
+                if (distinct == null) {
+                    distinct = new ArrayList<>(items.subList(0, i));
+                }
+                continue;
+            }
+            used[slot] = true;
+            firstKeys[slot] = a;
+            secondKeys[slot] = b;
+            if (distinct != null) {
+                distinct.add(item);
+            }
+        }
+        return distinct == null ? items : distinct;
+    }
+}
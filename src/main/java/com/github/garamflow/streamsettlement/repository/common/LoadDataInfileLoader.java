@@ -0,0 +1,153 @@
+package com.github.garamflow.streamsettlement.repository.common;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * LOAD DATA LOCAL INFILE 기반 스테이징 적재기
+ * - 세션 임시 테이블을 만들고(없으면) 비운 뒤, 아이템 목록을 TSV 입력 스트림으로 변환하여 한 번의 LOAD DATA 로 적재
+ * - TSV 는 드라이버가 읽을 때 행 단위로 생성되므로 청크 전체를 문자열/바이트 배열로 만들지 않음
+ * - 호출 측 트랜잭션의 커넥션을 사용하므로 적재 후 같은 트랜잭션에서 INSERT ... SELECT 로 병합해야 함
+ * - 임시 테이블 생성/삭제는 암묵적 커밋을 일으키지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadDataInfileLoader {
+
+    /**
+     * 스테이징 테이블 정의
+     *
+     * @param name              임시 테이블 이름
+     * @param columnDefinitions 컬럼 정의 (CREATE TEMPORARY TABLE 본문)
+     * @param columns           LOAD DATA 컬럼 목록 (TSV 필드 순서)
+     */
+    public record StagingTable(String name, String columnDefinitions, String columns) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스테이징 테이블에 아이템 적재
+     *
+     * @param table     스테이징 테이블
+     * @param items     적재할 아이템 목록
+     * @param rowValues 아이템을 컬럼 순서의 값 배열로 변환하는 함수 (null 은 \N 으로 기록)
+     * @return 적재된 행 수
+     */
+    public <T> int load(StagingTable table, List<T> items, Function<T, Object[]> rowValues) {
+        Integer loaded = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMPORARY TABLE IF NOT EXISTS " + table.name()
+                        + " (" + table.columnDefinitions() + ")");
+                statement.execute("DELETE FROM " + table.name());
+
+                statement.unwrap(JdbcStatement.class)
+                        .setLocalInfileInputStream(new TsvInputStream<>(items.iterator(), rowValues));
+                return statement.executeUpdate("LOAD DATA LOCAL INFILE 'chunk.tsv' INTO TABLE " + table.name()
+                        + " CHARACTER SET utf8mb4"
+                        + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                        + " LINES TERMINATED BY '\\n'"
+                        + " (" + table.columns() + ")");
+            }
+        });
+        log.debug("Loaded {} rows into {}", loaded, table.name());
+        return loaded == null ? 0 : loaded;
+    }
+
+    /**
+     * 스테이징 테이블 비우기 (병합 후 호출)
+     */
+    public void clear(StagingTable table) {
+        jdbcTemplate.execute("DELETE FROM " + table.name());
+    }
+
+    /**
+     * 아이템을 읽는 만큼만 TSV 행으로 변환하는 입력 스트림
+     */
+    static final class TsvInputStream<T> extends InputStream {
+
+        private final Iterator<T> items;
+        private final Function<T, Object[]> rowValues;
+        private final StringBuilder line = new StringBuilder(128);
+        private byte[] buffer = new byte[0];
+        private int position;
+
+        TsvInputStream(Iterator<T> items, Function<T, Object[]> rowValues) {
+            this.items = items;
+            this.rowValues = rowValues;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int written = 0;
+            while (written < length && fill()) {
+                int count = Math.min(length - written, buffer.length - position);
+                System.arraycopy(buffer, position, target, offset + written, count);
+                position += count;
+                written += count;
+            }
+            return written == 0 ? -1 : written;
+        }
+
+        private boolean fill() {
+            while (position >= buffer.length) {
+                if (!items.hasNext()) {
+                    return false;
+                }
+                line.setLength(0);
+                Object[] values = rowValues.apply(items.next());
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        line.append('\t');
+                    }
+                    appendField(values[i]);
+                }
+                line.append('\n');
+                buffer = line.toString().getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return true;
+        }
+
+        private void appendField(Object value) {
+            if (value == null) {
+                line.append("\\N");
+                return;
+            }
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> line.append("\\\\");
+                    case '\t' -> line.append("\\t");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    default -> line.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.garamflow.streamsettlement.repository.log;
+
+/**
+ * 특정 날짜의 시청 로그 합계 (카운터 정합성 검증용)
+ */
+public record DailyLogTotals(
+        long contentCount,
+        long viewCount,
+        long watchTime
+) {
+}
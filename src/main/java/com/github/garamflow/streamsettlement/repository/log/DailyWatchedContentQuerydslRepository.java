@@ -1,6 +1,7 @@
 package com.github.garamflow.streamsettlement.repository.log;
 
 import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -70,6 +71,81 @@ public class DailyWatchedContentQuerydslRepository {
                 .fetch();
     }
 
+    /**
+     * 특정 날짜/컨텐츠의 시청 로그 ID 최소/최대값 조회
+     * - (watched_date, content_post_id) 인덱스 끝점만 읽음
+     *
+     * @return 로그가 없으면 null
+     */
+    public WatchLogIdRange findLogIdRange(LocalDate watchedDate, Long contentId) {
+        Tuple result = jpaQueryFactory
+                .select(memberContentWatchLog.id.min(), memberContentWatchLog.id.max())
+                .from(memberContentWatchLog)
+                .where(
+                        memberContentWatchLog.watchedDate.eq(watchedDate),
+                        memberContentWatchLog.contentPostId.eq(contentId)
+                )
+                .fetchOne();
+
+        if (result == null || result.get(0, Long.class) == null) {
+            return null;
+        }
+        return new WatchLogIdRange(result.get(0, Long.class), result.get(1, Long.class));
+    }
+
+    /**
+     * 특정 날짜의 시청 로그 합계 (컨텐츠 수, 로그 수, 시청시간 합)
+     * - (watched_date, content_post_id, total_playback_time) 인덱스만 읽음
+     */
+    public DailyLogTotals findLogTotalsByWatchedDate(LocalDate watchedDate) {
+        Tuple result = jpaQueryFactory
+                .select(memberContentWatchLog.contentPostId.countDistinct(),
+                        memberContentWatchLog.id.count(),
+                        memberContentWatchLog.totalPlaybackTime.sum())
+                .from(memberContentWatchLog)
+                .where(memberContentWatchLog.watchedDate.eq(watchedDate))
+                .fetchOne();
+
+        if (result == null) {
+            return new DailyLogTotals(0L, 0L, 0L);
+        }
+        Long watchTime = result.get(2, Long.class);
+        return new DailyLogTotals(
+                result.get(0, Long.class),
+                result.get(1, Long.class),
+                watchTime != null ? watchTime : 0L);
+    }
+
+    /**
+     * 특정 컨텐츠의 로그 ID 구간에 대한 부분 집계 (핫 컨텐츠 분할 처리용)
+     *
+     * @return 부분 집계 결과, 구간에 로그가 없으면 null
+     */
+    public CumulativeStatisticsDto findPartialStatisticsByLogIdRange(
+            LocalDate watchedDate,
+            Long contentId,
+            long startLogId,
+            long endLogId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(CumulativeStatisticsDto.class,
+                        memberContentWatchLog.id.min(),
+                        memberContentWatchLog.contentPostId,
+                        memberContentWatchLog.id.count(),
+                        memberContentWatchLog.totalPlaybackTime.sum(),
+                        memberContentWatchLog.watchedDate))
+                .from(memberContentWatchLog)
+                .where(
+                        memberContentWatchLog.watchedDate.eq(watchedDate),
+                        memberContentWatchLog.contentPostId.eq(contentId),
+                        memberContentWatchLog.id.between(startLogId, endLogId)
+                )
+                .groupBy(
+                        memberContentWatchLog.contentPostId,
+                        memberContentWatchLog.watchedDate
+                )
+                .fetchOne();
+    }
+
     private BooleanExpression watchedDateEq(LocalDate date) {
         return date != null ? dailyWatchedContent.watchedDate.eq(date) : null;
     }
@@ -2,8 +2,11 @@ package com.github.garamflow.streamsettlement.repository.log;
 
 import com.github.garamflow.streamsettlement.entity.stream.Log.MemberContentWatchLog;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MemberContentWatchLogCustomRepository {
     void bulkInsertLogs(List<MemberContentWatchLog> logs);
+
+    List<WatchLogChange> findChangedAfter(LocalDateTime lastUpdatedAt, Long lastLogId, LocalDateTime upperBound, int limit);
 }
@@ -1,12 +1,15 @@
 package com.github.garamflow.streamsettlement.repository.log;
 
 import com.github.garamflow.streamsettlement.entity.stream.Log.MemberContentWatchLog;
+import com.github.garamflow.streamsettlement.repository.common.BulkInsertable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -20,20 +23,48 @@ public class MemberContentWatchLogCustomRepositoryImpl implements MemberContentW
     public void bulkInsertLogs(List<MemberContentWatchLog> logs) {
         String sql = """
                 INSERT INTO member_content_watch_log (member_id, content_post_id, last_playback_position, 
-                                                      total_playback_time, watched_date, streaming_status)
-                VALUES (:memberId, :contentPostId, :lastPlaybackPosition, :totalPlaybackTime, :watchedDate, :streamingStatus)
+                                                      total_playback_time, watched_date, streaming_status,
+                                                      created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW())
                 """;
 
-        MapSqlParameterSource[] parameterSources = logs.stream().map(log ->
-                new MapSqlParameterSource()
-                        .addValue("memberId", log.getMemberId())
-                        .addValue("contentPostId", log.getContentPostId())
-                        .addValue("lastPlaybackPosition", log.getLastPlaybackPosition())
-                        .addValue("totalPlaybackTime", log.getTotalPlaybackTime())
-                        .addValue("watchedDate", log.getWatchedDate())
-                        .addValue("streamingStatus", log.getStreamingStatus().name())
-        ).toArray(MapSqlParameterSource[]::new);
-
-        namedParameterJdbcTemplate.batchUpdate(sql, parameterSources);
+        BulkInsertable.batchUpdate(namedParameterJdbcTemplate.getJdbcOperations(), sql, logs, (ps, log) -> {
+            ps.setLong(1, log.getMemberId());
+            ps.setLong(2, log.getContentPostId());
+            ps.setLong(3, log.getLastPlaybackPosition());
+            ps.setLong(4, log.getTotalPlaybackTime());
+            ps.setObject(5, log.getWatchedDate());
+            ps.setString(6, log.getStreamingStatus().name());
+        });
+    }
+
+    /**
+     * 워터마크 이후 생성/수정된 시청 로그를 (updated_at, id) 키셋 순서로 조회
+     * - upperBound 는 아직 커밋되지 않았을 수 있는 최근 행을 제외하기 위한 상한
+     */
+    @Override
+    public List<WatchLogChange> findChangedAfter(LocalDateTime lastUpdatedAt, Long lastLogId,
+                                                 LocalDateTime upperBound, int limit) {
+        String sql = """
+                SELECT id, content_post_id, watched_date, updated_at
+                FROM member_content_watch_log
+                WHERE (updated_at > :lastUpdatedAt OR (updated_at = :lastUpdatedAt AND id > :lastLogId))
+                  AND updated_at <= :upperBound
+                ORDER BY updated_at, id
+                LIMIT :limit
+                """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("lastUpdatedAt", lastUpdatedAt)
+                .addValue("lastLogId", lastLogId)
+                .addValue("upperBound", upperBound)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(sql, params, (rs, rowNum) -> new WatchLogChange(
+                rs.getLong("id"),
+                rs.getLong("content_post_id"),
+                rs.getObject("watched_date", LocalDate.class),
+                rs.getObject("updated_at", LocalDateTime.class)
+        ));
     }
 }
@@ -0,0 +1,16 @@
+package com.github.garamflow.streamsettlement.repository.log;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 증분 통계 집계용 시청 로그 변경 행
+ * - (updatedAt, id) 가 워터마크 키
+ */
+public record WatchLogChange(
+        Long id,
+        Long contentPostId,
+        LocalDate watchedDate,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.github.garamflow.streamsettlement.repository.log;
+
+/**
+ * 특정 날짜/컨텐츠의 시청 로그 ID 구간
+ */
+public record WatchLogIdRange(
+        long minId,
+        long maxId
+) {
+}
@@ -3,8 +3,17 @@ package com.github.garamflow.streamsettlement.repository.settlement;
 import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
 import com.github.garamflow.streamsettlement.repository.common.BulkInsertable;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * 정산 데이터의 벌크 삽입을 위한 커스텀 리포지토리 인터페이스입니다.
  */
 public interface SettlementCustomRepository extends BulkInsertable<Settlement> {
+
+    void bulkLoad(List<Settlement> settlements);
+
+    int prepareStaging(LocalDate settlementDate);
+
+    int publishStaging(LocalDate settlementDate);
 }
\ No newline at end of file
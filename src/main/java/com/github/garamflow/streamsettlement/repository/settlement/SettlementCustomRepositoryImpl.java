@@ -1,25 +1,151 @@
 package com.github.garamflow.streamsettlement.repository.settlement;
 
 
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.config.WriterStrategyType;
 import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
+import com.github.garamflow.streamsettlement.repository.common.BulkInsertable;
+import com.github.garamflow.streamsettlement.repository.common.LoadDataInfileLoader;
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class SettlementCustomRepositoryImpl implements SettlementCustomRepository {
+
+    private static final String LIVE_TABLE = "settlement";
+    private static final String STAGED_TABLE = "settlement_staged";
+
+    /**
+     * 최신 누적 정산 갱신
+     * - 더 최근 날짜: 기존 최신 값을 직전 값으로 옮긴 뒤 교체
+     * - 같은 날짜 재처리: 최신 값만 덮어씀
+     * - 최신과 직전 사이의 과거 날짜: 직전 값만 교체, 그보다 과거는 무시
+     * - MySQL 은 SET 절을 왼쪽부터 적용하므로 직전 값 -> 최신 수익 -> settlement_date 순서로 갱신
+     * - history_complete 는 갱신하지 않음 (백필만 true 로 바꿈)
+     */
+    private static final String LATEST_UPDATE_CLAUSE = """
+            ON DUPLICATE KEY UPDATE
+                previous_total_content_revenue = CASE
+                    WHEN VALUES(settlement_date) > settlement_date THEN total_content_revenue
+                    WHEN VALUES(settlement_date) < settlement_date
+                         AND (previous_settlement_date IS NULL OR VALUES(settlement_date) >= previous_settlement_date)
+                        THEN VALUES(total_content_revenue)
+                    ELSE previous_total_content_revenue END,
+                previous_total_ad_revenue = CASE
+                    WHEN VALUES(settlement_date) > settlement_date THEN total_ad_revenue
+                    WHEN VALUES(settlement_date) < settlement_date
+                         AND (previous_settlement_date IS NULL OR VALUES(settlement_date) >= previous_settlement_date)
+                        THEN VALUES(total_ad_revenue)
+                    ELSE previous_total_ad_revenue END,
+                previous_settlement_date = CASE
+                    WHEN VALUES(settlement_date) > settlement_date THEN settlement_date
+                    WHEN VALUES(settlement_date) < settlement_date
+                         AND (previous_settlement_date IS NULL OR VALUES(settlement_date) >= previous_settlement_date)
+                        THEN VALUES(settlement_date)
+                    ELSE previous_settlement_date END,
+                total_content_revenue = IF(VALUES(settlement_date) >= settlement_date,
+                        VALUES(total_content_revenue), total_content_revenue),
+                total_ad_revenue = IF(VALUES(settlement_date) >= settlement_date,
+                        VALUES(total_ad_revenue), total_ad_revenue),
+                settlement_date = GREATEST(settlement_date, VALUES(settlement_date))
+            """;
+
+    /**
+     * 새 settlement_latest 행의 history_complete 값
+     * - 해당 컨텐츠에 다른 날짜 정산이 없을 때만 이 행이 정산 이력 전체를 반영함
+     * - (content_post_id, settlement_date) 유니크 키 범위만 확인
+     */
+    private static final String HISTORY_COMPLETE_SQL = """
+            NOT EXISTS (SELECT 1 FROM settlement h
+                        WHERE h.content_post_id = %s AND h.settlement_date <> %s)""";
+
+    private static final String LATEST_UPSERT_SQL = """
+            INSERT INTO settlement_latest
+            (content_post_id, settlement_date, total_content_revenue, total_ad_revenue, history_complete)
+            VALUES (?, ?, ?, ?, %s)
+            """.formatted(HISTORY_COMPLETE_SQL.formatted("?", "?")) + LATEST_UPDATE_CLAUSE;
+
+    private static final LoadDataInfileLoader.StagingTable STAGING_TABLE = new LoadDataInfileLoader.StagingTable(
+            "settlement_load",
+            """
+                    content_post_id BIGINT NOT NULL, content_revenue BIGINT, ad_revenue BIGINT,
+                    total_content_revenue BIGINT, total_ad_revenue BIGINT, settlement_date DATE NOT NULL,
+                    status VARCHAR(20)
+                    """,
+            "content_post_id, content_revenue, ad_revenue, total_content_revenue, total_ad_revenue, "
+                    + "settlement_date, status");
+
+    /**
+     * 스테이징 테이블 병합
+     * - 파생 테이블 별칭으로 대상 테이블 컬럼과 이름이 겹치지 않게 함
+     * - 유니크 키 (content_post_id, settlement_date) 순서로 병합하여 병렬 워커 간 락 획득 순서를 맞춤
+     * - settlement_latest 는 컨텐츠 안에서 정산일 순서로 반영되므로 행 단위 갱신과 같은 결과
+     */
+    private static final String MERGE_SQL = """
+            INSERT INTO %s (content_post_id, content_revenue, ad_revenue,
+                            total_content_revenue, total_ad_revenue, settlement_date, status)
+            SELECT s.cid, s.crev, s.arev, s.tcrev, s.tarev, s.sdate, s.sstatus
+            FROM (SELECT content_post_id AS cid, content_revenue AS crev, ad_revenue AS arev,
+                         total_content_revenue AS tcrev, total_ad_revenue AS tarev,
+                         settlement_date AS sdate, status AS sstatus
+                  FROM settlement_load) s
+            ORDER BY s.cid, s.sdate
+            ON DUPLICATE KEY UPDATE
+                content_revenue = VALUES(content_revenue),
+                ad_revenue = VALUES(ad_revenue),
+                total_content_revenue = VALUES(total_content_revenue),
+                total_ad_revenue = VALUES(total_ad_revenue),
+                status = VALUES(status)
+            """;
+
+    private static final String LATEST_MERGE_SQL = """
+            INSERT INTO settlement_latest
+            (content_post_id, settlement_date, total_content_revenue, total_ad_revenue, history_complete)
+            SELECT s.cid, s.sdate, s.tcrev, s.tarev, %s
+            FROM (SELECT content_post_id AS cid, settlement_date AS sdate,
+                         total_content_revenue AS tcrev, total_ad_revenue AS tarev
+                  FROM settlement_load) s
+            ORDER BY s.cid, s.sdate
+            """.formatted(HISTORY_COMPLETE_SQL.formatted("s.cid", "s.sdate")) + LATEST_UPDATE_CLAUSE;
+
+    private static final String LATEST_PUBLISH_SQL = """
+            INSERT INTO settlement_latest
+            (content_post_id, settlement_date, total_content_revenue, total_ad_revenue, history_complete)
+            SELECT s.cid, s.sdate, s.tcrev, s.tarev, %s
+            FROM (SELECT content_post_id AS cid, settlement_date AS sdate,
+                         total_content_revenue AS tcrev, total_ad_revenue AS tarev
+                  FROM settlement_staged
+                  WHERE settlement_date = ?) s
+            ORDER BY s.cid
+            """.formatted(HISTORY_COMPLETE_SQL.formatted("s.cid", "s.sdate")) + LATEST_UPDATE_CLAUSE;
+
+    /**
+     * 유니크 키 (content_post_id, settlement_date) 순서
+     */
+    private static final Comparator<Settlement> UNIQUE_KEY_ORDER = Comparator
+            .comparingLong(Settlement::getContentPostId)
+            .thenComparing(Settlement::getSettlementDate);
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final LoadDataInfileLoader loadDataInfileLoader;
+    private final BatchProperties batchProperties;
 
     /**
      * 정산 데이터 목록을 데이터베이스에 벌크 삽입합니다.
      * 동일한 (contentPostId, settlementDate) 조합이 있는 경우 기존 데이터를 업데이트합니다.
+     * 같은 트랜잭션에서 컨텐츠별 최신 누적 정산(settlement_latest)도 함께 갱신합니다.
+     * 병렬 워커 간 데드락을 막기 위해 두 테이블 모두 유니크 키 순서로 정렬하여 전송합니다.
+     * batch.writer.strategy 가 LOAD_DATA 이면 {@link #bulkLoad(List)} 로 저장합니다.
+     * 스테이징 모드(batch.staging.enabled)이면 스테이징 테이블에만 저장하고 settlement_latest 는 {@link #publishStaging(LocalDate)} 에서 갱신합니다.
      *
      * @param settlements 삽입할 정산 데이터 목록
      */
@@ -27,48 +153,134 @@ public class SettlementCustomRepositoryImpl implements SettlementCustomRepositor
     @Transactional
     public void bulkInsert(List<Settlement> settlements) {
         String sql = """
-                INSERT INTO settlement (content_post_id, content_revenue, ad_revenue,
-                                        total_content_revenue, total_ad_revenue, settlement_date, status)
-                VALUES (:contentPostId, :contentRevenue, :adRevenue,
-                        :totalContentRevenue, :totalAdRevenue, :settlementDate, :status)
+                INSERT INTO %s (content_post_id, content_revenue, ad_revenue,
+                                total_content_revenue, total_ad_revenue, settlement_date, status)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
                 ON DUPLICATE KEY UPDATE
                     content_revenue = VALUES(content_revenue),
                     ad_revenue = VALUES(ad_revenue),
                     total_content_revenue = VALUES(total_content_revenue),
                     total_ad_revenue = VALUES(total_ad_revenue),
                     status = VALUES(status)
-                """;
+                """.formatted(targetTable());
+
+        if (batchProperties.getWriter().getStrategy() == WriterStrategyType.LOAD_DATA) {
+            bulkLoad(settlements);
+            return;
+        }
+
+        List<Settlement> uniqueSettlements = BulkInsertable.sortedByKey(deduplicate(settlements), UNIQUE_KEY_ORDER);
+        JdbcOperations jdbcOperations = namedParameterJdbcTemplate.getJdbcOperations();
 
-        // 동일한 (contentPostId, settlementDate) 중복 제거
-        Map<String, Settlement> uniqueSettlements = settlements.stream()
-                .collect(Collectors.toMap(
-                        s -> s.getContentPostId() + "_" + s.getSettlementDate(),
-                        s -> s,
-                        (existing, replacement) -> existing
-                ));
-
-        namedParameterJdbcTemplate.batchUpdate(
-                sql,
-                uniqueSettlements.values().stream()
-                        .map(this::getSettlementParameterSource)
-                        .toArray(MapSqlParameterSource[]::new)
-        );
+        BulkInsertable.batchUpdate(jdbcOperations, sql, uniqueSettlements, (ps, settlement) -> {
+            ps.setLong(1, settlement.getContentPostId());
+            ps.setLong(2, settlement.getContentRevenue());
+            ps.setLong(3, settlement.getAdRevenue());
+            ps.setLong(4, settlement.getTotalContentRevenue());
+            ps.setLong(5, settlement.getTotalAdRevenue());
+            ps.setObject(6, settlement.getSettlementDate());
+            ps.setString(7, settlement.getStatus().name());
+        });
+        if (isStaging()) {
+            return;
+        }
+        BulkInsertable.batchUpdate(jdbcOperations, LATEST_UPSERT_SQL, uniqueSettlements, (ps, settlement) -> {
+            ps.setLong(1, settlement.getContentPostId());
+            ps.setObject(2, settlement.getSettlementDate());
+            ps.setLong(3, settlement.getTotalContentRevenue());
+            ps.setLong(4, settlement.getTotalAdRevenue());
+            ps.setLong(5, settlement.getContentPostId());
+            ps.setObject(6, settlement.getSettlementDate());
+        });
     }
 
     /**
-     * 정산 데이터를 SQL 파라미터로 변환합니다.
+     * 정산 데이터 목록을 LOAD DATA LOCAL INFILE 로 스테이징 테이블에 적재한 뒤 한 번에 병합합니다.
+     * 병합 결과(settlement_latest 포함)는 JDBC 배치 경로와 같습니다.
      *
-     * @param settlement 변환할 정산 데이터
-     * @return SQL 파라미터
+     * @param settlements 저장할 정산 데이터 목록
+     */
+    @Override
+    @Transactional
+    public void bulkLoad(List<Settlement> settlements) {
+        if (settlements.isEmpty()) {
+            return;
+        }
+        loadDataInfileLoader.load(STAGING_TABLE, deduplicate(settlements), settlement -> new Object[]{
+                settlement.getContentPostId(),
+                settlement.getContentRevenue(),
+                settlement.getAdRevenue(),
+                settlement.getTotalContentRevenue(),
+                settlement.getTotalAdRevenue(),
+                settlement.getSettlementDate(),
+                settlement.getStatus().name()
+        });
+        JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        jdbcTemplate.update(MERGE_SQL.formatted(targetTable()));
+        if (!isStaging()) {
+            jdbcTemplate.update(LATEST_MERGE_SQL);
+        }
+        loadDataInfileLoader.clear(STAGING_TABLE);
+    }
+
+    /**
+     * 스테이징 테이블을 준비합니다. (없으면 라이브 테이블과 같은 구조로 생성하고 대상 날짜 행 삭제)
+     * CREATE TABLE 은 암묵적 커밋을 일으키므로 다른 쓰기와 같은 트랜잭션에 묶지 않습니다.
+     *
+     * @param settlementDate 정산 날짜
+     * @return 삭제된 이전 스테이징 행 수
+     */
+    @Override
+    public int prepareStaging(LocalDate settlementDate) {
+        JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + STAGED_TABLE + " LIKE " + LIVE_TABLE);
+        return jdbcTemplate.update("DELETE FROM " + STAGED_TABLE + " WHERE settlement_date = ?", settlementDate);
+    }
+
+    /**
+     * 스테이징 테이블의 대상 날짜 정산으로 라이브 테이블을 교체하고 settlement_latest 를 갱신합니다.
+     * 삭제와 INSERT ... SELECT 가 한 트랜잭션에서 실행되므로 조회 측은 이전 또는 새 결과만 봅니다.
+     * 같은 날짜 재반영은 최신 값만 덮어쓰므로 재실행해도 settlement_latest 결과가 같습니다.
+     *
+     * @param settlementDate 정산 날짜
+     * @return 반영된 행 수
+     */
+    @Override
+    @Transactional
+    public int publishStaging(LocalDate settlementDate) {
+        String sql = """
+                INSERT INTO settlement (content_post_id, content_revenue, ad_revenue,
+                                        total_content_revenue, total_ad_revenue, settlement_date, status)
+                SELECT content_post_id, content_revenue, ad_revenue,
+                       total_content_revenue, total_ad_revenue, settlement_date, status
+                FROM settlement_staged
+                WHERE settlement_date = ?
+                ORDER BY content_post_id
+                """;
+
+        JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        jdbcTemplate.update("DELETE FROM settlement WHERE settlement_date = ?", settlementDate);
+        int published = jdbcTemplate.update(sql, settlementDate);
+        jdbcTemplate.update(LATEST_PUBLISH_SQL, settlementDate);
+        jdbcTemplate.update("DELETE FROM " + STAGED_TABLE + " WHERE settlement_date = ?", settlementDate);
+        return published;
+    }
+
+    private boolean isStaging() {
+        return batchProperties.usesStagingPublish();
+    }
+
+    private String targetTable() {
+        return isStaging() ? STAGED_TABLE : LIVE_TABLE;
+    }
+
+    /**
+     * 동일한 (contentPostId, settlementDate) 중복 제거 (먼저 나온 데이터 유지)
+     * - 문자열 키 대신 (contentPostId, epochDay) long 복합 키로 판별
      */
-    private MapSqlParameterSource getSettlementParameterSource(Settlement settlement) {
-        return new MapSqlParameterSource()
-                .addValue("contentPostId", settlement.getContentPostId())
-                .addValue("contentRevenue", settlement.getContentRevenue())
-                .addValue("adRevenue", settlement.getAdRevenue())
-                .addValue("totalContentRevenue", settlement.getTotalContentRevenue())
-                .addValue("totalAdRevenue", settlement.getTotalAdRevenue())
-                .addValue("settlementDate", settlement.getSettlementDate())
-                .addValue("status", settlement.getStatus().name());
+    private List<Settlement> deduplicate(List<Settlement> settlements) {
+        return BulkInsertable.distinctByKey(settlements,
+                Settlement::getContentPostId,
+                settlement -> settlement.getSettlementDate().toEpochDay());
     }
-}
\ No newline at end of file
+}
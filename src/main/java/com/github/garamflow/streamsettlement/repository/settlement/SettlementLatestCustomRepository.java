@@ -0,0 +1,23 @@
+package com.github.garamflow.streamsettlement.repository.settlement;
+
+/**
+ * 최신 누적 정산 프로젝션(settlement_latest)의 재구성을 위한 커스텀 리포지토리 인터페이스입니다.
+ */
+public interface SettlementLatestCustomRepository {
+
+    /**
+     * 정산 이력이 있는 가장 큰 컨텐츠 ID 를 조회합니다.
+     *
+     * @return 최대 컨텐츠 ID (정산 이력이 없으면 0)
+     */
+    long findMaxSettledContentPostId();
+
+    /**
+     * 컨텐츠 ID 범위의 정산 이력으로 최신/직전 누적 정산을 다시 계산하여 덮어씁니다.
+     *
+     * @param fromContentPostId 시작 컨텐츠 ID (포함)
+     * @param toContentPostId   종료 컨텐츠 ID (포함)
+     * @return 영향받은 행 수
+     */
+    int rebuildFromSettlements(long fromContentPostId, long toContentPostId);
+}
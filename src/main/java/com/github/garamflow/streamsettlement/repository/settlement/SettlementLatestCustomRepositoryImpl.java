@@ -0,0 +1,63 @@
+package com.github.garamflow.streamsettlement.repository.settlement;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class SettlementLatestCustomRepositoryImpl implements SettlementLatestCustomRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public long findMaxSettledContentPostId() {
+        Long maxId = namedParameterJdbcTemplate.queryForObject(
+                "SELECT MAX(content_post_id) FROM settlement", new MapSqlParameterSource(), Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * 컨텐츠별 정산일 역순 첫 행과 그 직전 행(LAG)을 최신/직전 누적 정산으로 저장합니다.
+     * 정산 이력 기준으로 덮어쓰므로 같은 범위를 여러 번 실행해도 결과가 같습니다.
+     * 재구성한 행은 정산 이력 전체를 반영하므로 history_complete 로 표시합니다.
+     */
+    @Override
+    @Transactional
+    public int rebuildFromSettlements(long fromContentPostId, long toContentPostId) {
+        String sql = """
+                INSERT INTO settlement_latest
+                (content_post_id, settlement_date, total_content_revenue, total_ad_revenue,
+                 previous_settlement_date, previous_total_content_revenue, previous_total_ad_revenue,
+                 history_complete)
+                SELECT content_post_id, settlement_date, total_content_revenue, total_ad_revenue,
+                       previous_settlement_date, previous_total_content_revenue, previous_total_ad_revenue,
+                       TRUE
+                FROM (
+                    SELECT s.content_post_id, s.settlement_date, s.total_content_revenue, s.total_ad_revenue,
+                           LAG(s.settlement_date) OVER w AS previous_settlement_date,
+                           LAG(s.total_content_revenue) OVER w AS previous_total_content_revenue,
+                           LAG(s.total_ad_revenue) OVER w AS previous_total_ad_revenue,
+                           ROW_NUMBER() OVER (PARTITION BY s.content_post_id ORDER BY s.settlement_date DESC) AS rn
+                    FROM settlement s
+                    WHERE s.content_post_id BETWEEN :fromContentPostId AND :toContentPostId
+                    WINDOW w AS (PARTITION BY s.content_post_id ORDER BY s.settlement_date)
+                ) ranked
+                WHERE ranked.rn = 1
+                ON DUPLICATE KEY UPDATE
+                    settlement_date = VALUES(settlement_date),
+                    total_content_revenue = VALUES(total_content_revenue),
+                    total_ad_revenue = VALUES(total_ad_revenue),
+                    previous_settlement_date = VALUES(previous_settlement_date),
+                    previous_total_content_revenue = VALUES(previous_total_content_revenue),
+                    previous_total_ad_revenue = VALUES(previous_total_ad_revenue),
+                    history_complete = TRUE
+                """;
+
+        return namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("fromContentPostId", fromContentPostId)
+                .addValue("toContentPostId", toContentPostId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.garamflow.streamsettlement.repository.settlement;
+
+import com.github.garamflow.streamsettlement.entity.settlement.SettlementLatest;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SettlementLatestRepository extends JpaRepository<SettlementLatest, Long>, SettlementLatestCustomRepository {
+}
@@ -4,6 +4,7 @@ import com.github.garamflow.streamsettlement.batch.dto.PreviousSettlementDto;
 import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
 import com.github.garamflow.streamsettlement.entity.settlement.QSettlement;
 import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
+import com.github.garamflow.streamsettlement.entity.settlement.SettlementLatest;
 import com.github.garamflow.streamsettlement.entity.settlement.SettlementStatus;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -13,8 +14,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.github.garamflow.streamsettlement.entity.settlement.QSettlement.settlement;
 
@@ -23,6 +27,7 @@ import static com.github.garamflow.streamsettlement.entity.settlement.QSettlemen
 public class SettlementQuerydslRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final SettlementLatestRepository settlementLatestRepository;
 
     public List<Settlement> findSettlementsByDateAndStatus(LocalDate settlementDate, SettlementStatus status) {
         return jpaQueryFactory
@@ -122,7 +127,35 @@ public class SettlementQuerydslRepository {
                 .fetch();
     }
 
+    /**
+     * date 이전 마지막 누적 정산 조회
+     * - settlement_latest 를 PK 로 조회하여 정산 이력 크기와 무관하게 조회
+     * - 프로젝션 행이 없거나 과거 날짜 재처리처럼 프로젝션만으로 판단할 수 없는 컨텐츠만 정산 이력에서 조회
+     */
     public List<SettlementCalculationDto> findCumulativeSettlementsByContentIds(List<Long> contentIds, LocalDate date) {
+        List<SettlementCalculationDto> results = new ArrayList<>(contentIds.size());
+        Set<Long> unresolved = new LinkedHashSet<>(contentIds);
+
+        for (SettlementLatest latest : settlementLatestRepository.findAllById(contentIds)) {
+            if (latest.coversBefore(date)) {
+                unresolved.remove(latest.getContentPostId());
+                results.add(new SettlementCalculationDto(
+                        latest.getContentPostId(),
+                        latest.totalContentRevenueBefore(date),
+                        latest.totalAdRevenueBefore(date)));
+            }
+        }
+
+        if (!unresolved.isEmpty()) {
+            results.addAll(findCumulativeSettlementsFromHistory(List.copyOf(unresolved), date));
+        }
+        return results;
+    }
+
+    /**
+     * 정산 이력에서 date 이전 마지막 누적 정산 조회 (컨텐츠별 MAX(settlement_date) 상관 서브쿼리)
+     */
+    private List<SettlementCalculationDto> findCumulativeSettlementsFromHistory(List<Long> contentIds, LocalDate date) {
         QSettlement subSettlement = new QSettlement("sub");
         return jpaQueryFactory
                 .select(Projections.constructor(SettlementCalculationDto.class,
@@ -0,0 +1,23 @@
+package com.github.garamflow.streamsettlement.repository.statistics;
+
+import com.github.garamflow.streamsettlement.entity.statistics.LeaderboardMetric;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * 기간별 리더보드(content_leaderboard) 갱신을 위한 커스텀 리포지토리 인터페이스입니다.
+ */
+public interface ContentLeaderboardCustomRepository {
+
+    /**
+     * 기간/기간 시작일/정렬 기준 슬롯의 리더보드를 content_statistics 상위 K 개로 교체합니다.
+     *
+     * @param period     통계 기간
+     * @param periodDate 기간 시작일
+     * @param metric     정렬 기준
+     * @param size       보관할 순위 수 (K)
+     * @return 저장된 행 수
+     */
+    int refresh(StatisticsPeriod period, LocalDate periodDate, LeaderboardMetric metric, int size);
+}
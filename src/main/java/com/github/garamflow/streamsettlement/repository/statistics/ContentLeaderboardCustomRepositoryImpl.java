@@ -0,0 +1,56 @@
+package com.github.garamflow.streamsettlement.repository.statistics;
+
+import com.github.garamflow.streamsettlement.entity.statistics.LeaderboardMetric;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Repository
+@RequiredArgsConstructor
+public class ContentLeaderboardCustomRepositoryImpl implements ContentLeaderboardCustomRepository {
+
+    /**
+     * 상위 K 개 통계를 순위와 제목과 함께 저장 (정렬 컬럼은 LeaderboardMetric 상수에서만 채움)
+     * - (period, statistics_date, 정렬 컬럼) 인덱스를 역순으로 K 행만 읽고, 제목 조인도 K 행에만 수행
+     * - 동점은 통계 ID 역순으로 정렬하여 인덱스 순서를 그대로 사용
+     */
+    private static final String REFRESH_SQL = """
+            INSERT INTO content_leaderboard
+            (period, period_date, metric, ranking, content_post_id, title, view_count, watch_time)
+            SELECT :period, :periodDate, :metric, ROW_NUMBER() OVER (ORDER BY t.score DESC, t.sid DESC),
+                   t.cid, c.title, t.views, t.wtime
+            FROM (SELECT cs.content_statistics_id AS sid, cs.content_post_id AS cid,
+                         cs.view_count AS views, cs.watch_time AS wtime, cs.%1$s AS score
+                  FROM content_statistics cs
+                  WHERE cs.period = :period AND cs.statistics_date = :periodDate
+                  ORDER BY cs.%1$s DESC, cs.content_statistics_id DESC
+                  LIMIT :size) t
+            JOIN content_post c ON c.content_post_id = t.cid
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 슬롯의 기존 순위를 지우고 새 상위 K 개를 저장합니다.
+     * 삭제와 저장이 한 트랜잭션에서 실행되므로 조회 측은 이전 또는 새 순위만 봅니다.
+     */
+    @Override
+    @Transactional
+    public int refresh(StatisticsPeriod period, LocalDate periodDate, LeaderboardMetric metric, int size) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("period", period.name())
+                .addValue("periodDate", periodDate)
+                .addValue("metric", metric.name())
+                .addValue("size", size);
+
+        namedParameterJdbcTemplate.update(
+                "DELETE FROM content_leaderboard WHERE period = :period AND period_date = :periodDate AND metric = :metric",
+                params);
+        return namedParameterJdbcTemplate.update(REFRESH_SQL.formatted(metric.column()), params);
+    }
+}
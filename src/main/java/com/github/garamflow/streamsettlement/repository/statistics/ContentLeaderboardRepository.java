@@ -0,0 +1,15 @@
+package com.github.garamflow.streamsettlement.repository.statistics;
+
+import com.github.garamflow.streamsettlement.entity.statistics.ContentLeaderboard;
+import com.github.garamflow.streamsettlement.entity.statistics.LeaderboardMetric;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ContentLeaderboardRepository extends JpaRepository<ContentLeaderboard, Long>, ContentLeaderboardCustomRepository {
+
+    List<ContentLeaderboard> findTop5ByPeriodAndPeriodDateAndMetricOrderByRankingAsc(
+            StatisticsPeriod period, LocalDate periodDate, LeaderboardMetric metric);
+}
@@ -3,8 +3,22 @@ package com.github.garamflow.streamsettlement.repository.statistics;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
 import com.github.garamflow.streamsettlement.repository.common.BulkInsertable;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 컨텐츠 통계 데이터의 벌크 삽입을 위한 커스텀 리포지토리 인터페이스입니다.
  */
 public interface ContentStatisticsCustomRepository extends BulkInsertable<ContentStatistics> {
-}
\ No newline at end of file
+
+    void bulkLoad(List<ContentStatistics> items);
+
+    int upsertDailyFromWatchLogs(LocalDate statisticsDate, Collection<Long> contentIds);
+
+    int prepareStaging(LocalDate statisticsDate);
+
+    int publishStaging(LocalDate statisticsDate);
+
+    int rollupDaily(LocalDate statisticsDate);
+}
@@ -1,67 +1,297 @@
 package com.github.garamflow.streamsettlement.repository.statistics;
 
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.config.WriterStrategyType;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import com.github.garamflow.streamsettlement.repository.common.BulkInsertable;
+import com.github.garamflow.streamsettlement.repository.common.LoadDataInfileLoader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class ContentStatisticsCustomRepositoryImpl implements ContentStatisticsCustomRepository {
 
+    private static final String LIVE_TABLE = "content_statistics";
+    private static final String STAGED_TABLE = "content_statistics_staged";
+
+    private static final LoadDataInfileLoader.StagingTable STAGING_TABLE = new LoadDataInfileLoader.StagingTable(
+            "content_statistics_load",
+            """
+                    content_post_id BIGINT NOT NULL, statistics_date DATE NOT NULL, period VARCHAR(20) NOT NULL,
+                    view_count BIGINT, watch_time BIGINT, accumulated_views BIGINT
+                    """,
+            "content_post_id, statistics_date, period, view_count, watch_time, accumulated_views");
+
+    /**
+     * 스테이징 테이블 병합
+     * - 청크 안의 같은 키는 먼저 합산하여 행 단위 ON DUPLICATE KEY UPDATE 와 같은 결과를 만듦
+     * - 파생 테이블 별칭으로 대상 테이블 컬럼과 이름이 겹치지 않게 함
+     * - 유니크 키 순서로 병합하여 병렬 워커 간 락 획득 순서를 맞춤
+     */
+    private static final String MERGE_SQL = """
+            INSERT INTO %s
+            (content_post_id, statistics_date, period, view_count, watch_time, accumulated_views)
+            SELECT s.cid, s.sdate, s.speriod, s.views, s.wtime, s.acc
+            FROM (SELECT content_post_id AS cid, statistics_date AS sdate, period AS speriod,
+                         SUM(view_count) AS views, SUM(watch_time) AS wtime, MAX(accumulated_views) AS acc
+                  FROM content_statistics_load
+                  GROUP BY content_post_id, statistics_date, period) s
+            ORDER BY s.cid, s.speriod, s.sdate
+            ON DUPLICATE KEY UPDATE
+                view_count = view_count + VALUES(view_count),
+                watch_time = watch_time + VALUES(watch_time),
+                accumulated_views = GREATEST(accumulated_views, VALUES(accumulated_views))
+            """;
+
+    /**
+     * 하루치 DAILY 통계와 롤업 반영 스냅샷(ContentStatisticsRollupApplied)의 차이를 기간 행에 더함 (파라미터: 기간 시작일, 기간, 집계 날짜)
+     * - 해당 날짜 DAILY 행만 읽으므로 비용은 그날 컨텐츠 수에 비례 (이전 날짜는 다시 읽지 않음)
+     */
+    private static final String ROLLUP_DELTA_SQL = """
+            INSERT INTO content_statistics
+            (content_post_id, statistics_date, period, view_count, watch_time, accumulated_views)
+            SELECT r.cid, ?, ?, r.views, r.wtime, r.acc
+            FROM (SELECT d.content_post_id AS cid,
+                         d.view_count - COALESCE(a.view_count, 0) AS views,
+                         d.watch_time - COALESCE(a.watch_time, 0) AS wtime,
+                         d.accumulated_views AS acc
+                  FROM content_statistics d
+                  LEFT JOIN content_statistics_rollup_applied a
+                         ON a.content_post_id = d.content_post_id AND a.statistics_date = d.statistics_date
+                  WHERE d.statistics_date = ? AND d.period = 'DAILY') r
+            ORDER BY r.cid
+            ON DUPLICATE KEY UPDATE
+                view_count = view_count + VALUES(view_count),
+                watch_time = watch_time + VALUES(watch_time),
+                accumulated_views = GREATEST(accumulated_views, VALUES(accumulated_views))
+            """;
+
+    /**
+     * 재실행으로 사라진 DAILY 행의 이전 반영분을 기간 행에서 뺌 (파라미터: 기간 시작일, 기간, 집계 날짜)
+     */
+    private static final String ROLLUP_WITHDRAW_SQL = """
+            INSERT INTO content_statistics
+            (content_post_id, statistics_date, period, view_count, watch_time, accumulated_views)
+            SELECT w.cid, ?, ?, w.views, w.wtime, 0
+            FROM (SELECT a.content_post_id AS cid, -a.view_count AS views, -a.watch_time AS wtime
+                  FROM content_statistics_rollup_applied a
+                  LEFT JOIN content_statistics d
+                         ON d.content_post_id = a.content_post_id AND d.statistics_date = a.statistics_date
+                        AND d.period = 'DAILY'
+                  WHERE a.statistics_date = ? AND d.content_statistics_id IS NULL) w
+            ORDER BY w.cid
+            ON DUPLICATE KEY UPDATE
+                view_count = view_count + VALUES(view_count),
+                watch_time = watch_time + VALUES(watch_time)
+            """;
+
+    private static final String ROLLUP_SNAPSHOT_DELETE_SQL = """
+            DELETE a FROM content_statistics_rollup_applied a
+            LEFT JOIN content_statistics d
+                   ON d.content_post_id = a.content_post_id AND d.statistics_date = a.statistics_date
+                  AND d.period = 'DAILY'
+            WHERE a.statistics_date = ? AND d.content_statistics_id IS NULL
+            """;
+
+    private static final String ROLLUP_SNAPSHOT_UPSERT_SQL = """
+            INSERT INTO content_statistics_rollup_applied (content_post_id, statistics_date, view_count, watch_time)
+            SELECT s.cid, s.sdate, s.views, s.wtime
+            FROM (SELECT content_post_id AS cid, statistics_date AS sdate, view_count AS views, watch_time AS wtime
+                  FROM content_statistics
+                  WHERE statistics_date = ? AND period = 'DAILY') s
+            ORDER BY s.cid
+            ON DUPLICATE KEY UPDATE
+                view_count = VALUES(view_count),
+                watch_time = VALUES(watch_time)
+            """;
+
+    /**
+     * 유니크 키 uk_content_statistics_content_period_date (content_post_id, period, statistics_date) 순서
+     * - period 는 VARCHAR 컬럼이므로 enum 순서가 아닌 이름 순으로 비교 (MERGE_SQL 의 ORDER BY 와 동일)
+     */
+    private static final Comparator<ContentStatistics> UNIQUE_KEY_ORDER = Comparator
+            .comparingLong((ContentStatistics stat) -> stat.getContentPost().getId())
+            .thenComparing(stat -> stat.getPeriod().name())
+            .thenComparing(ContentStatistics::getStatisticsDate);
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final LoadDataInfileLoader loadDataInfileLoader;
+    private final BatchProperties batchProperties;
 
     /**
      * 컨텐츠 통계 데이터 목록을 데이터베이스에 벌크 삽입합니다.
      * 동일한 키가 있는 경우 조회수와 시청시간은 누적하고, 누적 조회수는 최대값을 유지합니다.
+     * 병렬 워커 간 데드락을 막기 위해 유니크 키 순서로 정렬하여 전송합니다.
+     * batch.writer.strategy 가 LOAD_DATA 이면 {@link #bulkLoad(List)} 로 저장합니다.
+     * 스테이징 모드(batch.staging.enabled)이면 라이브 테이블 대신 스테이징 테이블에 저장합니다.
      *
      * @param items 삽입할 통계 데이터 목록
      */
     @Override
     @Transactional
     public void bulkInsert(List<ContentStatistics> items) {
+        if (batchProperties.getWriter().getStrategy() == WriterStrategyType.LOAD_DATA) {
+            bulkLoad(items);
+            return;
+        }
+
         String sql = """
-                INSERT INTO content_statistics
+                INSERT INTO %s
                 (content_post_id, statistics_date, period, view_count, watch_time, accumulated_views)
-                VALUES (:contentPostId, :statisticsDate, :period, :viewCount, :watchTime, :accumulatedViews)
+                VALUES (?, ?, ?, ?, ?, ?)
                 ON DUPLICATE KEY UPDATE
                     view_count = view_count + VALUES(view_count),
                     watch_time = watch_time + VALUES(watch_time),
                     accumulated_views = GREATEST(accumulated_views, VALUES(accumulated_views))
+                """.formatted(targetTable());
+
+        List<ContentStatistics> ordered = BulkInsertable.sortedByKey(items, UNIQUE_KEY_ORDER);
+        BulkInsertable.batchUpdate(namedParameterJdbcTemplate.getJdbcOperations(), sql, ordered, (ps, stat) -> {
+            ps.setLong(1, stat.getContentPost().getId());
+            ps.setObject(2, stat.getStatisticsDate());
+            ps.setString(3, stat.getPeriod().name());
+            ps.setLong(4, stat.getViewCount());
+            ps.setLong(5, stat.getWatchTime());
+            ps.setLong(6, stat.getAccumulatedViews());
+        });
+    }
+
+    /**
+     * 컨텐츠 통계 데이터 목록을 LOAD DATA LOCAL INFILE 로 스테이징 테이블에 적재한 뒤 한 번에 병합합니다.
+     * 병합 결과는 JDBC 배치 경로와 같습니다.
+     *
+     * @param items 저장할 통계 데이터 목록
+     */
+    @Override
+    @Transactional
+    public void bulkLoad(List<ContentStatistics> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        loadDataInfileLoader.load(STAGING_TABLE, items, stat -> new Object[]{
+                stat.getContentPost().getId(),
+                stat.getStatisticsDate(),
+                stat.getPeriod().name(),
+                stat.getViewCount(),
+                stat.getWatchTime(),
+                stat.getAccumulatedViews()
+        });
+        namedParameterJdbcTemplate.getJdbcTemplate().update(MERGE_SQL.formatted(targetTable()));
+        loadDataInfileLoader.clear(STAGING_TABLE);
+    }
+
+    /**
+     * 지정한 컨텐츠들의 하루치 시청 로그를 다시 집계하여 DAILY 통계 행을 갱신합니다.
+     * 컨텐츠/날짜 단위 전체 재집계 결과로 덮어쓰므로 같은 범위를 여러 번 반영해도 결과가 같습니다.
+     *
+     * @param statisticsDate 집계 날짜
+     * @param contentIds     변경된 시청 로그가 있는 컨텐츠 ID 목록
+     * @return 영향받은 행 수
+     */
+    @Override
+    @Transactional
+    public int upsertDailyFromWatchLogs(LocalDate statisticsDate, Collection<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = """
+                INSERT INTO content_statistics
+                (content_post_id, statistics_date, period, view_count, watch_time, accumulated_views)
+                SELECT l.content_post_id, l.watched_date, 'DAILY', COUNT(*), COALESCE(SUM(l.total_playback_time), 0),
+                       COALESCE(MAX(c.total_views), 0)
+                FROM member_content_watch_log l
+                JOIN content_post c ON c.content_post_id = l.content_post_id
+                WHERE l.watched_date = :statisticsDate
+                  AND l.content_post_id IN (:contentIds)
+                GROUP BY l.content_post_id, l.watched_date
+                ON DUPLICATE KEY UPDATE
+                    view_count = VALUES(view_count),
+                    watch_time = VALUES(watch_time),
+                    accumulated_views = GREATEST(accumulated_views, VALUES(accumulated_views))
                 """;
 
-        namedParameterJdbcTemplate.batchUpdate(sql, getStatisticsParameterSources(items));
+        return namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("statisticsDate", statisticsDate)
+                .addValue("contentIds", contentIds));
+    }
+
+    /**
+     * 스테이징 테이블을 준비합니다. (없으면 라이브 테이블과 같은 구조로 생성하고 대상 날짜 행 삭제)
+     * CREATE TABLE 은 암묵적 커밋을 일으키므로 다른 쓰기와 같은 트랜잭션에 묶지 않습니다.
+     *
+     * @param statisticsDate 집계 날짜
+     * @return 삭제된 이전 스테이징 행 수
+     */
+    @Override
+    public int prepareStaging(LocalDate statisticsDate) {
+        JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + STAGED_TABLE + " LIKE " + LIVE_TABLE);
+        return jdbcTemplate.update("DELETE FROM " + STAGED_TABLE + " WHERE statistics_date = ?", statisticsDate);
     }
 
     /**
-     * 통계 데이터 목록을 SQL 파라미터 배열로 변환합니다.
+     * 스테이징 테이블의 대상 날짜 DAILY 통계로 라이브 테이블을 교체합니다.
+     * 삭제와 INSERT ... SELECT 가 한 트랜잭션에서 실행되므로 조회 측은 이전 또는 새 결과만 봅니다.
      *
-     * @param statistics 변환할 통계 데이터 목록
-     * @return SQL 파라미터 배열
+     * @param statisticsDate 집계 날짜
+     * @return 반영된 행 수
      */
-    private MapSqlParameterSource[] getStatisticsParameterSources(List<ContentStatistics> statistics) {
-        return statistics.stream()
-                .map(this::getStatisticsParameterSource)
-                .toArray(MapSqlParameterSource[]::new);
+    @Override
+    @Transactional
+    public int publishStaging(LocalDate statisticsDate) {
+        String sql = """
+                INSERT INTO content_statistics
+                (content_post_id, statistics_date, period, view_count, watch_time, accumulated_views)
+                SELECT content_post_id, statistics_date, period, view_count, watch_time, accumulated_views
+                FROM content_statistics_staged
+                WHERE statistics_date = ? AND period = 'DAILY'
+                ORDER BY content_post_id
+                """;
+
+        JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        jdbcTemplate.update("DELETE FROM content_statistics WHERE statistics_date = ? AND period = 'DAILY'",
+                statisticsDate);
+        int published = jdbcTemplate.update(sql, statisticsDate);
+        jdbcTemplate.update("DELETE FROM " + STAGED_TABLE + " WHERE statistics_date = ?", statisticsDate);
+        return published;
     }
 
     /**
-     * 단일 통계 데이터를 SQL 파라미터로 변환합니다.
+     * 하루치 DAILY 통계를 그 날짜가 속한 주간/월간/연간 통계 행에 더합니다.
+     * 스냅샷에 남은 이전 반영값과의 차이만 더하므로 같은 날짜를 다시 롤업해도 결과가 같고,
+     * 이전 날짜의 DAILY 행이나 시청 로그는 다시 읽지 않습니다.
      *
-     * @param stat 변환할 통계 데이터
-     * @return SQL 파라미터
+     * @param statisticsDate 집계 날짜
+     * @return 영향받은 롤업 행 수
      */
-    private MapSqlParameterSource getStatisticsParameterSource(ContentStatistics stat) {
-        return new MapSqlParameterSource()
-                .addValue("contentPostId", stat.getContentPost().getId())
-                .addValue("statisticsDate", stat.getStatisticsDate())
-                .addValue("period", stat.getPeriod().name())
-                .addValue("viewCount", stat.getViewCount())
-                .addValue("watchTime", stat.getWatchTime())
-                .addValue("accumulatedViews", stat.getAccumulatedViews());
+    @Override
+    @Transactional
+    public int rollupDaily(LocalDate statisticsDate) {
+        JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        int affected = 0;
+        for (StatisticsPeriod period : StatisticsPeriod.getRollupPeriods()) {
+            LocalDate periodStart = period.startOf(statisticsDate);
+            affected += jdbcTemplate.update(ROLLUP_DELTA_SQL, periodStart, period.name(), statisticsDate);
+            affected += jdbcTemplate.update(ROLLUP_WITHDRAW_SQL, periodStart, period.name(), statisticsDate);
+        }
+        jdbcTemplate.update(ROLLUP_SNAPSHOT_DELETE_SQL, statisticsDate);
+        jdbcTemplate.update(ROLLUP_SNAPSHOT_UPSERT_SQL, statisticsDate);
+        return affected;
+    }
+
+    private String targetTable() {
+        return batchProperties.usesStagingPublish() ? STAGED_TABLE : LIVE_TABLE;
     }
 }
@@ -1,7 +1,9 @@
 package com.github.garamflow.streamsettlement.repository.statistics;
 
+import com.github.garamflow.streamsettlement.batch.dto.SettlementSourceDto;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
 import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +26,7 @@ public class ContentStatisticsQuerydslRepository {
         Long result = jpaQueryFactory
                 .select(contentStatistics.id.min())
                 .from(contentStatistics)
-                .where(dateEq(date))
+                .where(dailyOn(date))
                 .fetchOne();
         return result != null ? result : 0L;
     }
@@ -33,7 +35,7 @@ public class ContentStatisticsQuerydslRepository {
         Long result = jpaQueryFactory
                 .select(contentStatistics.id.max())
                 .from(contentStatistics)
-                .where(dateEq(date))
+                .where(dailyOn(date))
                 .fetchOne();
         return result != null ? result : 0L;
     }
@@ -49,7 +51,7 @@ public class ContentStatisticsQuerydslRepository {
         return jpaQueryFactory
                 .selectFrom(contentStatistics)
                 .where(
-                        contentStatistics.statisticsDate.eq(targetDate),
+                        dailyOn(targetDate),
                         lastStatisticsId == null ? null : contentStatistics.id.gt(lastStatisticsId)
                 )
                 .orderBy(contentStatistics.id.asc())
@@ -57,6 +59,80 @@ public class ContentStatisticsQuerydslRepository {
                 .fetch();
     }
 
+    /**
+     * 정산 계산용 통계 컬럼 프로젝션 조회
+     * - (statistics_id, content_post_id, accumulated_views, watch_time) 만 조회하여 엔티티를 영속성 컨텍스트에 올리지 않음
+     * - content_post_id 는 FK 컬럼을 그대로 사용 (content_post 조인 없음)
+     * - (content_post_id, statistics_id) 키셋 순서로 조회하여 정산 저장도 유니크 키 순서를 따름
+     * - (period, statistics_date, content_post_id) 인덱스에 PK 가 붙어 있어 당일 행 안에서만 범위 스캔
+     *
+     * @param lastContentId    마지막으로 읽은 컨텐츠 ID
+     * @param lastStatisticsId 같은 컨텐츠 안에서 마지막으로 읽은 통계 ID
+     * @param endContentId     파티션 종료 컨텐츠 ID (포함)
+     */
+    public List<SettlementSourceDto> findSettlementSources(
+            long lastContentId,
+            long lastStatisticsId,
+            long endContentId,
+            LocalDate targetDate,
+            int limit) {
+
+        return jpaQueryFactory
+                .select(Projections.constructor(SettlementSourceDto.class,
+                        contentStatistics.id,
+                        contentStatistics.contentPost.id,
+                        contentStatistics.accumulatedViews,
+                        contentStatistics.watchTime))
+                .from(contentStatistics)
+                .where(
+                        dailyOn(targetDate),
+                        contentStatistics.contentPost.id.gt(lastContentId)
+                                .or(contentStatistics.contentPost.id.eq(lastContentId)
+                                        .and(contentStatistics.id.gt(lastStatisticsId))),
+                        contentStatistics.contentPost.id.loe(endContentId)
+                )
+                .orderBy(contentStatistics.contentPost.id.asc(), contentStatistics.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long findMinContentIdByStatisticsDate(LocalDate date) {
+        Long result = jpaQueryFactory
+                .select(contentStatistics.contentPost.id.min())
+                .from(contentStatistics)
+                .where(dailyOn(date))
+                .fetchOne();
+        return result != null ? result : 0L;
+    }
+
+    public long findMaxContentIdByStatisticsDate(LocalDate date) {
+        Long result = jpaQueryFactory
+                .select(contentStatistics.contentPost.id.max())
+                .from(contentStatistics)
+                .where(dailyOn(date))
+                .fetchOne();
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * 당일 통계의 컨텐츠 ID 를 키셋으로 페이지 조회 (컨텐츠 범위 파티션 경계 계산용)
+     * - (period, statistics_date, content_post_id) 인덱스만 읽는 범위 스캔, 과거 날짜 행은 읽지 않음
+     *
+     * @param lastContentId 마지막으로 읽은 컨텐츠 ID (첫 페이지는 null)
+     */
+    public List<Long> findContentIdsByStatisticsDate(LocalDate date, Long lastContentId, int limit) {
+        return jpaQueryFactory
+                .select(contentStatistics.contentPost.id)
+                .from(contentStatistics)
+                .where(
+                        dailyOn(date),
+                        lastContentId == null ? null : contentStatistics.contentPost.id.gt(lastContentId)
+                )
+                .orderBy(contentStatistics.contentPost.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     public List<ContentStatistics> findTop5ByViewCount(StatisticsPeriod period, LocalDate date) {
         return jpaQueryFactory
                 .selectFrom(contentStatistics)
@@ -75,6 +151,24 @@ public class ContentStatisticsQuerydslRepository {
                 .fetch();
     }
 
+    /**
+     * 조회수(로그 수)가 기준 이상인 컨텐츠 ID 를 조회수 내림차순으로 조회
+     */
+    public List<Long> findContentIdsByViewCountAtLeast(
+            StatisticsPeriod period, LocalDate date, long minViewCount, int limit) {
+        return jpaQueryFactory
+                .select(contentStatistics.contentPost.id)
+                .from(contentStatistics)
+                .where(
+                        periodEq(period),
+                        dateEq(date),
+                        contentStatistics.viewCount.goe(minViewCount)
+                )
+                .orderBy(contentStatistics.viewCount.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * 기간(From~To)과 기간타입에 해당하는 통계 조회
      */
@@ -130,6 +224,13 @@ public class ContentStatisticsQuerydslRepository {
         return contentStatistics.statisticsDate.eq(date);
     }
 
+    /**
+     * 해당 날짜의 DAILY 통계 (같은 날짜로 시작하는 주/월/연 롤업 행 제외)
+     */
+    private BooleanExpression dailyOn(LocalDate date) {
+        return periodEq(StatisticsPeriod.DAILY).and(dateEq(date));
+    }
+
     private BooleanExpression betweenDates(LocalDate startDate, LocalDate endDate) {
         return contentStatistics.statisticsDate.between(startDate, endDate);
     }
@@ -0,0 +1,7 @@
+package com.github.garamflow.streamsettlement.repository.statistics;
+
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StatisticsWatermarkRepository extends JpaRepository<StatisticsWatermark, String> {
+}
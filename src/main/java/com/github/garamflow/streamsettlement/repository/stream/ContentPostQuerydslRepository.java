@@ -0,0 +1,53 @@
+package com.github.garamflow.streamsettlement.repository.stream;
+
+import com.github.garamflow.streamsettlement.service.stream.ContentPlaybackMetadata;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.garamflow.streamsettlement.entity.stream.content.QContentPost.contentPost;
+
+@Repository
+@RequiredArgsConstructor
+public class ContentPostQuerydslRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 재생 메타데이터 조회
+     * - 엔티티/Member 프록시 로딩 없이 필요한 컬럼만 프로젝션
+     */
+    public Optional<ContentPlaybackMetadata> findPlaybackMetadata(Long contentId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(playbackMetadataProjection())
+                .from(contentPost)
+                .where(contentPost.id.eq(contentId))
+                .fetchOne());
+    }
+
+    /**
+     * 조회수 상위 컨텐츠의 재생 메타데이터 조회 (캐시 워밍업용)
+     */
+    public List<ContentPlaybackMetadata> findTopViewedPlaybackMetadata(int limit) {
+        return jpaQueryFactory
+                .select(playbackMetadataProjection())
+                .from(contentPost)
+                .orderBy(contentPost.totalViews.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private ConstructorExpression<ContentPlaybackMetadata> playbackMetadataProjection() {
+        return Projections.constructor(ContentPlaybackMetadata.class,
+                contentPost.id,
+                contentPost.member.id,
+                contentPost.title,
+                contentPost.url,
+                contentPost.duration);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.garamflow.streamsettlement.scheduler;
+
+import com.github.garamflow.streamsettlement.service.statistics.StatisticsMicroBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class StatisticsMicroBatchScheduler {
+
+    private final StatisticsMicroBatchService statisticsMicroBatchService;
+
+    /**
+     * 설정된 간격(기본 5분)마다 변경된 시청 로그를 DAILY 통계에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${batch.micro-batch.interval-ms:300000}",
+            initialDelayString = "${batch.micro-batch.interval-ms:300000}")
+    public void aggregateChangedWatchLogs() {
+        if (!statisticsMicroBatchService.isEnabled()) {
+            return;
+        }
+        try {
+            statisticsMicroBatchService.runIncremental();
+        } catch (Exception e) {
+            log.error("Failed to run statistics micro-batch", e);
+        }
+    }
+}
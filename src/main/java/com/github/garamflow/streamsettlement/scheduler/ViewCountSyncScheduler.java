@@ -2,6 +2,7 @@ package com.github.garamflow.streamsettlement.scheduler;
 
 import com.github.garamflow.streamsettlement.repository.stream.ContentPostRepository;
 import com.github.garamflow.streamsettlement.service.cache.ViewCountCacheService;
+import com.github.garamflow.streamsettlement.service.statistics.TrendingScoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,16 +20,19 @@ public class ViewCountSyncScheduler {
 
     private final ContentPostRepository contentPostRepository;
     private final ViewCountCacheService viewCountCacheService;
+    private final TrendingScoreService trendingScoreService;
 
     /**
      * 매분 5초에 실행되어 이전 1분간의 영상 조회수를 DB에 반영합니다.
      * 예시: 16:01:05에 실행되면 16:00:00~16:00:59 동안의 조회수 집계
+     * 키를 삭제하기 전에 분 단위 조회수를 실시간 인기 점수에도 누적합니다. (조회수가 없는 분도 감쇠 반영)
      */
     @Scheduled(cron = "5 * * * * *")
     @Transactional
     public void syncContentViewCountsToDatabase() {
       String timeWindowKey = viewCountCacheService.generatePreviousMinuteViewCountKey();
       Map<Long, Long> viewCounts = viewCountCacheService.fetchPreviousMinuteViewCounts(timeWindowKey);
+      trendingScoreService.fold(viewCounts);
 
         if (!viewCounts.isEmpty()) {
             try {
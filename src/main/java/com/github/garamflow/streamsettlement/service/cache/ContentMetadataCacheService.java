@@ -0,0 +1,125 @@
+package com.github.garamflow.streamsettlement.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants;
+import com.github.garamflow.streamsettlement.repository.stream.ContentPostQuerydslRepository;
+import com.github.garamflow.streamsettlement.service.stream.ContentPlaybackMetadata;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 컨텐츠 재생 메타데이터 near-cache
+ * - 재생 시작/종료 시 반복되는 컨텐츠 조회를 JVM 로컬 캐시로 대체
+ * - 크기 제한 + 빈도 기반 교체 정책 (Caffeine W-TinyLFU)
+ * - 기동 완료 시 조회수 상위 컨텐츠로 워밍업
+ * - 컨텐츠 엔티티 변경/삭제 시 ContentMetadataInvalidationListener 가 커밋 후 invalidate 호출
+ * - 무효화는 Redis pub/sub 토픽으로 모든 노드에 브로드캐스트
+ * - 발행/구독 실패 시 다른 노드의 오래된 항목은 expireAfterWriteMinutes(TTL) 이내로만 남음
+ * - 히트율, eviction 수를 cache.* 메트릭으로 노출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentMetadataCacheService {
+
+    private static final String CACHE_NAME = "contentPlaybackMetadata";
+
+    private final ContentPostQuerydslRepository contentPostQuerydslRepository;
+    private final StreamingProperties streamingProperties;
+    private final MeterRegistry meterRegistry;
+    private final RedissonClient redissonClient;
+
+    private Cache<Long, ContentPlaybackMetadata> cache;
+    private RTopic invalidationTopic;
+
+    @PostConstruct
+    void init() {
+        StreamingProperties.MetadataCache config = streamingProperties.getMetadataCache();
+        cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofMinutes(config.getExpireAfterWriteMinutes()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        subscribeInvalidation();
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 구독
+     * - 자신이 발행한 메시지도 수신하지만 invalidate 는 멱등이므로 무시하지 않음
+     */
+    private void subscribeInvalidation() {
+        try {
+            invalidationTopic = redissonClient.getTopic(
+                    RedisKeyConstants.CONTENT_METADATA_INVALIDATION_TOPIC, StringCodec.INSTANCE);
+            invalidationTopic.addListener(String.class,
+                    (channel, contentId) -> cache.invalidate(Long.valueOf(contentId)));
+        } catch (Exception e) {
+            log.warn("Failed to subscribe content metadata invalidation topic; staleness bounded by TTL", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return streamingProperties.getMetadataCache().isEnabled();
+    }
+
+    /**
+     * 재생 메타데이터 조회 (캐시 미스 시 DB 조회 후 적재)
+     * - 캐시 비활성화 시 항상 DB 프로젝션 조회
+     * - 존재하지 않는 컨텐츠는 캐시하지 않음
+     */
+    public Optional<ContentPlaybackMetadata> get(Long contentId) {
+        if (!isEnabled()) {
+            return contentPostQuerydslRepository.findPlaybackMetadata(contentId);
+        }
+        return Optional.ofNullable(cache.get(contentId,
+                id -> contentPostQuerydslRepository.findPlaybackMetadata(id).orElse(null)));
+    }
+
+    /**
+     * 로컬 캐시 항목 제거 후 다른 노드로 무효화 브로드캐스트
+     */
+    public void invalidate(Long contentId) {
+        cache.invalidate(contentId);
+        if (invalidationTopic == null) {
+            return;
+        }
+
+        try {
+            invalidationTopic.publish(String.valueOf(contentId));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast content metadata invalidation: contentId={}", contentId, e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            List<ContentPlaybackMetadata> topContents = contentPostQuerydslRepository
+                    .findTopViewedPlaybackMetadata(streamingProperties.getMetadataCache().getWarmUpSize());
+            topContents.forEach(metadata -> cache.put(metadata.contentId(), metadata));
+            log.info("Warmed up content metadata cache with {} entries", topContents.size());
+        } catch (Exception e) {
+            log.warn("Failed to warm up content metadata cache", e);
+        }
+    }
+}
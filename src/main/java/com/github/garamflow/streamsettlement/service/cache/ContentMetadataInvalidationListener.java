@@ -0,0 +1,71 @@
+package com.github.garamflow.streamsettlement.service.cache;
+
+import com.github.garamflow.streamsettlement.entity.stream.content.ContentPost;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨텐츠 변경 시 재생 메타데이터 near-cache 무효화 (Hibernate post-commit 이벤트 리스너)
+ * - 엔티티는 캐시를 알지 못하도록 EntityListeners 대신 EventListenerRegistry 에 등록
+ * - 제목/재생 시간/상태 등 엔티티 변경이나 삭제가 커밋된 이후에만 호출되어 커밋 전 값이 다시 적재되지 않음
+ * - 무효화는 ContentMetadataCacheService 가 다른 노드로 브로드캐스트
+ * - 조회수/시청 시간은 벌크 UPDATE 로 갱신되므로 리스너가 호출되지 않음 (캐시 항목에도 포함되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentMetadataInvalidationListener
+        implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ContentMetadataCacheService contentMetadataCacheService;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 캐시에 반영되지 않았으므로 무효화하지 않음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 삭제는 캐시에 반영되지 않았으므로 무효화하지 않음
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return ContentPost.class.equals(persister.getMappedClass());
+    }
+
+    private void invalidate(Object entity) {
+        if (entity instanceof ContentPost contentPost) {
+            contentMetadataCacheService.invalidate(contentPost.getId());
+        }
+    }
+}
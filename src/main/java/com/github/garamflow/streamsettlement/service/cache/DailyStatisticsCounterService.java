@@ -0,0 +1,226 @@
+package com.github.garamflow.streamsettlement.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.repository.log.DailyLogTotals;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants.*;
+
+/**
+ * 수집 시점 일일 통계 카운터
+ * - 날짜/컨텐츠별 조회수(신규 시청 로그 수)와 시청시간(초)을 Redis Hash 로 누적
+ * - 통계 배치가 시청 로그 전체를 재집계하지 않고 컨텐츠 수만큼만 조회하도록 지원
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 증가 (롤백된 시청 기록이 카운터를 부풀리지 않도록)
+ * - 카운터가 하루 전체를 커버하지 못했거나 갱신 실패가 있었던 날짜는 검증 실패로 간주
+ * - 카운터 합계가 시청 로그 합계(컨텐츠 수, 로그 수, 시청시간)와 다른 날짜도 검증 실패로 간주
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyStatisticsCounterService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StreamingProperties streamingProperties;
+    private final DailyWatchedContentQuerydslRepository dailyWatchedContentQuerydslRepository;
+
+    // 날짜별 검증 결과 (파티션마다 로그 합계를 다시 읽지 않도록 잠시 보관)
+    private static final Duration VALIDATION_TTL = Duration.ofMinutes(5);
+    private final Cache<LocalDate, Boolean> validations = Caffeine.newBuilder()
+            .maximumSize(16)
+            .expireAfterWrite(VALIDATION_TTL)
+            .build();
+
+    // 만료 시간을 이미 설정한 키 (키별 EXPIRE 는 노드당 한 번만 호출)
+    private final Set<String> expireAppliedKeys = ConcurrentHashMap.newKeySet();
+    private static final int EXPIRE_APPLIED_KEYS_LIMIT = 16;
+
+    /**
+     * 카운터 추적 시작 시각 기록
+     * - 최초 활성화 시점 이전의 날짜는 카운터가 불완전하므로 검증에서 제외
+     */
+    @PostConstruct
+    void init() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().setIfAbsent(DAILY_COUNTER_TRACKING_SINCE_KEY, LocalDateTime.now().toString());
+        } catch (Exception e) {
+            log.warn("Failed to record daily counter tracking start", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return streamingProperties.getDailyCounter().isEnabled();
+    }
+
+    /**
+     * 신규 시청 로그 생성 시 조회수 카운터 증가
+     */
+    public void incrementViews(Long contentId, LocalDate date) {
+        increment(DAILY_COUNTER_VIEWS_KEY_PREFIX, contentId, date, 1L);
+    }
+
+    /**
+     * 재생 종료 시 추가된 시청시간(초)을 카운터에 반영
+     */
+    public void addWatchTime(Long contentId, LocalDate date, long seconds) {
+        if (seconds > 0) {
+            increment(DAILY_COUNTER_WATCH_TIME_KEY_PREFIX, contentId, date, seconds);
+        }
+    }
+
+    /**
+     * 해당 날짜의 카운터를 신뢰할 수 있는지 확인
+     * - 추적 시작 시각이 날짜 시작 이전이어야 함
+     * - 갱신 실패 기록이 없어야 함
+     * - 카운터 합계가 시청 로그 합계와 같아야 함
+     */
+    public boolean isTrackedFor(LocalDate date) {
+        Boolean cached = validations.getIfPresent(date);
+        if (cached != null) {
+            return cached;
+        }
+        boolean tracked;
+        try {
+            tracked = isCoveredFor(date) && matchesLogTotals(date);
+        } catch (Exception e) {
+            log.warn("Failed to validate daily counters for date {}", date, e);
+            return false;
+        }
+        validations.put(date, tracked);
+        return tracked;
+    }
+
+    private boolean isCoveredFor(LocalDate date) {
+        String trackingSince = redisTemplate.opsForValue().get(DAILY_COUNTER_TRACKING_SINCE_KEY);
+        if (trackingSince == null || LocalDateTime.parse(trackingSince).isAfter(date.atStartOfDay())) {
+            return false;
+        }
+        return !Boolean.TRUE.equals(redisTemplate.hasKey(DAILY_COUNTER_INVALID_KEY_PREFIX + date));
+    }
+
+    /**
+     * 카운터와 시청 로그 대조
+     * - 조회수 카운터의 컨텐츠 수/합계와 시청시간 합계를 로그 인덱스 집계와 비교
+     */
+    private boolean matchesLogTotals(LocalDate date) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> views = hashOps.values(DAILY_COUNTER_VIEWS_KEY_PREFIX + date);
+        long counterWatchTime = sum(hashOps.values(DAILY_COUNTER_WATCH_TIME_KEY_PREFIX + date));
+        long counterViews = sum(views);
+
+        DailyLogTotals totals = dailyWatchedContentQuerydslRepository.findLogTotalsByWatchedDate(date);
+        boolean matched = views.size() == totals.contentCount()
+                && counterViews == totals.viewCount()
+                && counterWatchTime == totals.watchTime();
+        if (!matched) {
+            log.warn("Daily counters for {} do not match watch logs - counters: {} contents, {} views, {}s / "
+                            + "logs: {} contents, {} views, {}s",
+                    date, views.size(), counterViews, counterWatchTime,
+                    totals.contentCount(), totals.viewCount(), totals.watchTime());
+        }
+        return matched;
+    }
+
+    private long sum(List<String> values) {
+        long total = 0;
+        for (String value : values) {
+            total += Long.parseLong(value);
+        }
+        return total;
+    }
+
+    /**
+     * 컨텐츠별 카운터 조회
+     * - 조회수 카운터가 없거나 값이 유효하지 않은 컨텐츠는 결과에서 제외 (호출 측에서 SQL 집계로 대체)
+     *
+     * @return 컨텐츠ID -> 카운터 값
+     */
+    public Map<Long, DailyCounter> getCounters(LocalDate date, List<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> fields = contentIds.stream().map(String::valueOf).toList();
+        List<String> views = hashOps.multiGet(DAILY_COUNTER_VIEWS_KEY_PREFIX + date, fields);
+        List<String> watchTimes = hashOps.multiGet(DAILY_COUNTER_WATCH_TIME_KEY_PREFIX + date, fields);
+
+        Map<Long, DailyCounter> counters = new HashMap<>(contentIds.size());
+        for (int i = 0; i < contentIds.size(); i++) {
+            if (views.get(i) == null) {
+                continue;
+            }
+            long viewCount = Long.parseLong(views.get(i));
+            long watchTime = watchTimes.get(i) != null ? Long.parseLong(watchTimes.get(i)) : 0L;
+            if (viewCount > 0 && watchTime >= 0) {
+                counters.put(contentIds.get(i), new DailyCounter(viewCount, watchTime));
+            }
+        }
+        return counters;
+    }
+
+    private void increment(String keyPrefix, Long contentId, LocalDate date, long delta) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyIncrement(keyPrefix, contentId, date, delta);
+                }
+            });
+            return;
+        }
+        applyIncrement(keyPrefix, contentId, date, delta);
+    }
+
+    private void applyIncrement(String keyPrefix, Long contentId, LocalDate date, long delta) {
+        String key = keyPrefix + date;
+        try {
+            redisTemplate.opsForHash().increment(key, String.valueOf(contentId), delta);
+            if (expireAppliedKeys.add(key)) {
+                redisTemplate.expire(key, Duration.ofDays(streamingProperties.getDailyCounter().getRetentionDays()));
+                if (expireAppliedKeys.size() > EXPIRE_APPLIED_KEYS_LIMIT) {
+                    expireAppliedKeys.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to update daily counter {} for content {}", key, contentId, e);
+            markInvalid(date);
+        }
+    }
+
+    /**
+     * 카운터 갱신 실패 시 해당 날짜를 검증 실패로 표시 (best effort)
+     */
+    private void markInvalid(LocalDate date) {
+        try {
+            redisTemplate.opsForValue().set(DAILY_COUNTER_INVALID_KEY_PREFIX + date, "1",
+                    Duration.ofDays(streamingProperties.getDailyCounter().getRetentionDays()));
+        } catch (Exception e) {
+            log.error("Failed to mark daily counters invalid for date {}", date, e);
+        }
+    }
+
+    public record DailyCounter(long views, long watchTime) {
+    }
+}
@@ -93,7 +93,7 @@ public class DailyStreamingContentCacheService {
                 redisTemplate.opsForSet().add(key, contentId.toString());
 
                 // 다음날 새벽 4시까지 유효
-                LocalDateTime expiryTime = date.plusDays(1).atTime(4, 0);
+                LocalDateTime expiryTime = getExpiryTime(date);
                 Duration timeUntilExpiry = Duration.between(LocalDateTime.now(), expiryTime);
                 redisTemplate.expire(key, timeUntilExpiry.toSeconds(), TimeUnit.SECONDS);
             } finally {
@@ -115,7 +115,14 @@ public class DailyStreamingContentCacheService {
                 : Collections.emptySet();
     }
 
-    private String generateDailyKey(LocalDate date) {
+    public String generateDailyKey(LocalDate date) {
         return DAILY_VIEWED_CONTENT_KEY_PREFIX + date;
     }
+
+    /**
+     * 일일 시청 컨텐츠 키 만료 시각 (다음날 새벽 4시)
+     */
+    public LocalDateTime getExpiryTime(LocalDate date) {
+        return date.plusDays(1).atTime(4, 0);
+    }
 } 
\ No newline at end of file
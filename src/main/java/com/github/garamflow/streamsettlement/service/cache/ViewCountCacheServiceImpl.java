@@ -1,20 +1,24 @@
 package com.github.garamflow.streamsettlement.service.cache;
 
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants.VIEW_COUNT_KEY_PREFIX;
 
@@ -24,8 +28,14 @@ import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConst
 public class ViewCountCacheServiceImpl implements ViewCountCacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StreamingProperties streamingProperties;
     private static final int BATCH_SIZE = 500;  // Redis SCAN 작업당 처리할 최대 데이터 수
-    private static final long VIEW_COUNT_EXPIRE_MINUTES = 5;  // Redis 키의 만료 시간 (분)
+    public static final long VIEW_COUNT_EXPIRE_MINUTES = 5;  // Redis 키의 만료 시간 (분)
+    // 이전 분 키에 반영할 수 있는 마지막 초 (동기화 스케줄러가 매분 5초에 이전 분 키를 읽고 삭제하므로 1초 여유)
+    private static final int PREVIOUS_MINUTE_WRITABLE_SECONDS = 4;
+
+    // 노드 로컬 집계: 분 단위 키 -> (컨텐츠ID -> 조회수)
+    private final Map<String, Map<Long, LongAdder>> localViewCounts = new ConcurrentHashMap<>();
 
     /**
      * Redis Hash 작업을 위한 Operations 객체를 반환합니다.
@@ -44,10 +54,95 @@ public class ViewCountCacheServiceImpl implements ViewCountCacheService {
      */
     public void incrementViewCount(Long contentId) {
         String key = generateViewCountKey();
+        if (streamingProperties.getViewCount().isLocalAggregation()) {
+            localViewCounts.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(contentId, k -> new LongAdder())
+                    .increment();
+            return;
+        }
+
         getHashOperations().increment(key, String.valueOf(contentId), 1L);
         redisTemplate.expire(key, VIEW_COUNT_EXPIRE_MINUTES, TimeUnit.MINUTES);
     }
 
+    /**
+     * 노드 로컬에 집계된 조회수를 분 단위 Hash 에 파이프라인으로 일괄 반영합니다.
+     * 동기화 스케줄러는 기존과 동일한 키를 읽으므로 집계 방식과 무관하게 동작합니다.
+     * 반영에 실패한 조회수는 현재 분 집계에 되돌려 다음 주기에 다시 시도합니다.
+     * 동기화 스케줄러가 이미 읽었을 수 있는 지난 분 키의 조회수는 현재 분 키로 옮겨 반영합니다.
+     * (동기화된 키에 HINCRBY 하면 아무도 다시 읽지 않는 키가 생겨 조회수가 유실됨)
+     * 지난 분 집계 맵은 비어 있어도 키 만료 시간이 지날 때까지 남겨 둡니다.
+     * (증가 경로가 computeIfAbsent 로 맵을 얻은 직후 제거되면 그 증가분이 떨어져 나간 맵에 쌓여 유실됨)
+     */
+    @Scheduled(fixedDelayString = "${streaming.view-count.flush-interval-ms:200}")
+    public void flushLocalViewCounts() {
+        flushLocalViewCounts(LocalDateTime.now());
+    }
+
+    void flushLocalViewCounts(LocalDateTime now) {
+        if (localViewCounts.isEmpty()) {
+            return;
+        }
+
+        String currentKey = generateViewCountKey(now);
+        String previousKey = now.getSecond() <= PREVIOUS_MINUTE_WRITABLE_SECONDS
+                ? generateViewCountKey(now.minusMinutes(1))
+                : null;
+        Set<String> retainedKeys = new HashSet<>();
+        for (long minutes = 0; minutes <= VIEW_COUNT_EXPIRE_MINUTES; minutes++) {
+            retainedKeys.add(generateViewCountKey(now.minusMinutes(minutes)));
+        }
+        Map<String, Map<Long, Long>> drained = new HashMap<>();
+        localViewCounts.forEach((key, counts) -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            counts.forEach((contentId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta > 0) {
+                    deltas.put(contentId, delta);
+                }
+            });
+
+            if (!deltas.isEmpty()) {
+                String targetKey = key.equals(currentKey) || key.equals(previousKey) ? key : currentKey;
+                Map<Long, Long> target = drained.computeIfAbsent(targetKey, k -> new HashMap<>());
+                deltas.forEach((contentId, delta) -> target.merge(contentId, delta, Long::sum));
+            } else if (!retainedKeys.contains(key)) {
+                // 키 만료 시간이 지난 빈 집계만 정리 (그 사이 늦게 들어온 증가분은 다음 주기에 현재 분 키로 이동)
+                localViewCounts.remove(key, counts);
+            }
+        });
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    drained.forEach((key, deltas) -> {
+                        deltas.forEach((contentId, delta) ->
+                                ops.opsForHash().increment(key, String.valueOf(contentId), delta));
+                        ops.expire(key, VIEW_COUNT_EXPIRE_MINUTES, TimeUnit.MINUTES);
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to flush local view counts, restoring {} keys into current minute", drained.size(), e);
+            Map<Long, LongAdder> current = localViewCounts.computeIfAbsent(currentKey, k -> new ConcurrentHashMap<>());
+            drained.forEach((key, deltas) -> deltas.forEach((contentId, delta) ->
+                    current.computeIfAbsent(contentId, k -> new LongAdder()).add(delta)));
+        }
+    }
+
+    @PreDestroy
+    public void drainLocalViewCounts() {
+        flushLocalViewCounts();
+    }
+
     /**
      * 이전 1분 동안의 컨텐츠별 조회수를 조회합니다.
      * Redis SCAN 명령어를 사용하여 메모리 효율적으로 대량의 데이터를 조회합니다.
@@ -0,0 +1,42 @@
+package com.github.garamflow.streamsettlement.service.settlement;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.repository.settlement.SettlementLatestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 최신 누적 정산 프로젝션(settlement_latest) 백필 서비스
+ * - 기존 정산 이력으로 컨텐츠 ID 구간별 프로젝션을 재구성
+ * - 구간마다 별도 트랜잭션으로 처리하여 긴 락 점유를 피함
+ * - 정산 이력 기준으로 덮어쓰므로 중단 후 다시 실행해도 안전
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementLatestBackfillService {
+
+    private final SettlementLatestRepository settlementLatestRepository;
+    private final BatchProperties batchProperties;
+
+    /**
+     * 전체 컨텐츠 백필
+     *
+     * @return 영향받은 행 수
+     */
+    public long backfill() {
+        long maxContentPostId = settlementLatestRepository.findMaxSettledContentPostId();
+        int batchSize = batchProperties.getSettlement().getLatestBackfillBatchSize();
+
+        long affected = 0;
+        for (long fromId = 1; fromId <= maxContentPostId; fromId += batchSize) {
+            long toId = Math.min(fromId + batchSize - 1, maxContentPostId);
+            affected += settlementLatestRepository.rebuildFromSettlements(fromId, toId);
+            log.debug("Backfilled settlement_latest for content ids {} ~ {}", fromId, toId);
+        }
+
+        log.info("Backfilled settlement_latest up to content id {} - {} rows affected", maxContentPostId, affected);
+        return affected;
+    }
+}
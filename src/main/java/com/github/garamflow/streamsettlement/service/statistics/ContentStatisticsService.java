@@ -2,19 +2,18 @@ package com.github.garamflow.streamsettlement.service.statistics;
 
 import com.github.garamflow.streamsettlement.controller.dto.statistics.ContentStatisticsResponse;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+import com.github.garamflow.streamsettlement.entity.statistics.LeaderboardMetric;
 import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentLeaderboardRepository;
 import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsQuerydslRepository;
 import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
 
-import static java.time.temporal.TemporalAdjusters.previousOrSame;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,19 +21,28 @@ public class ContentStatisticsService {
 
     private final ContentStatisticsQuerydslRepository contentStatisticsQuerydslRepository;
     private final ContentStatisticsRepository contentStatisticsRepository;
+    private final ContentLeaderboardRepository contentLeaderboardRepository;
 
-    // 기간별 Top5 조회 로직 추가 (조회수 기준)
+    // 기간별 Top5 조회 (조회수 기준) - 배치가 저장한 리더보드 우선, 없으면 통계 정렬 조회
     public List<ContentStatisticsResponse> getTop5Views(StatisticsPeriod period) {
         LocalDate targetDate = getTargetDate(period);
+        List<ContentStatisticsResponse> leaderboard = findLeaderboard(period, targetDate, LeaderboardMetric.VIEW_COUNT);
+        if (!leaderboard.isEmpty()) {
+            return leaderboard;
+        }
         List<ContentStatistics> statistics = contentStatisticsQuerydslRepository.findTop5ByViewCount(period, targetDate);
         return statistics.stream()
                 .map(ContentStatisticsResponse::from)
                 .toList();
     }
 
-    // 기간별 Top5 조회 로직 추가 (시청시간 기준)
+    // 기간별 Top5 조회 (시청시간 기준) - 배치가 저장한 리더보드 우선, 없으면 통계 정렬 조회
     public List<ContentStatisticsResponse> getTop5WatchTime(StatisticsPeriod period) {
         LocalDate targetDate = getTargetDate(period);
+        List<ContentStatisticsResponse> leaderboard = findLeaderboard(period, targetDate, LeaderboardMetric.WATCH_TIME);
+        if (!leaderboard.isEmpty()) {
+            return leaderboard;
+        }
         List<ContentStatistics> statistics = contentStatisticsQuerydslRepository.findTop5ByWatchTime(period, targetDate);
         return statistics.stream()
                 .map(ContentStatisticsResponse::from)
@@ -85,13 +93,16 @@ public class ContentStatisticsService {
         return contentStatisticsQuerydslRepository.findByStatisticsDateBetweenAndPeriod(startDate, endDate, period);
     }
 
+    // 리더보드 슬롯 조회 (제목 비정규화, 조인 없이 순위 순서로 최대 5행)
+    private List<ContentStatisticsResponse> findLeaderboard(StatisticsPeriod period, LocalDate periodDate,
+                                                            LeaderboardMetric metric) {
+        return contentLeaderboardRepository
+                .findTop5ByPeriodAndPeriodDateAndMetricOrderByRankingAsc(period, periodDate, metric).stream()
+                .map(ContentStatisticsResponse::from)
+                .toList();
+    }
+
     private LocalDate getTargetDate(StatisticsPeriod period) {
-        LocalDate now = LocalDate.now();
-        return switch (period) {
-            case DAILY -> now;
-            case WEEKLY -> now.with(previousOrSame(DayOfWeek.MONDAY));
-            case MONTHLY -> now.withDayOfMonth(1);
-            case YEARLY -> now.withDayOfYear(1);
-        };
+        return period.startOf(LocalDate.now());
     }
 }
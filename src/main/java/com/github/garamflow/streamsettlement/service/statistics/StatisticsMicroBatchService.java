@@ -0,0 +1,172 @@
+package com.github.garamflow.streamsettlement.service.statistics;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsWatermark;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import com.github.garamflow.streamsettlement.repository.log.MemberContentWatchLogRepository;
+import com.github.garamflow.streamsettlement.repository.log.WatchLogChange;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.StatisticsWatermarkRepository;
+import com.github.garamflow.streamsettlement.util.LockUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants.STATISTICS_MICRO_BATCH_LOCK_KEY;
+
+/**
+ * 일중 증분 통계 집계 서비스
+ * - 워터마크 이후 생성/수정된 시청 로그를 (updated_at, id) 키셋으로 페이지 단위 조회
+ * - 변경된 (컨텐츠, 날짜) 조합만 재집계하여 DAILY content_statistics 행을 덮어씀
+ * - 통계 반영과 워터마크 갱신을 한 트랜잭션으로 처리하여 중단 시 마지막 커밋 위치부터 재개
+ * - 분산 락으로 여러 노드 중 하나만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsMicroBatchService {
+
+    static final String WATERMARK_NAME = "daily-statistics";
+
+    private final MemberContentWatchLogRepository memberContentWatchLogRepository;
+    private final ContentStatisticsRepository contentStatisticsRepository;
+    private final StatisticsWatermarkRepository statisticsWatermarkRepository;
+    private final DailyWatchedContentQuerydslRepository dailyWatchedContentRepository;
+    private final RedissonClient redissonClient;
+    private final PlatformTransactionManager transactionManager;
+    private final BatchProperties batchProperties;
+    private final MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // 마감 Tasklet 트랜잭션 안에서 호출되어도 페이지 단위로 커밋
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return batchProperties.getMicroBatch().isEnabled();
+    }
+
+    /**
+     * 주기 실행
+     * - 다른 노드가 실행 중이면 대기하지 않고 건너뜀
+     */
+    public void runIncremental() {
+        RLock lock = redissonClient.getLock(STATISTICS_MICRO_BATCH_LOCK_KEY);
+        boolean executed = LockUtil.tryWithLock(lock, 0, -1,
+                () -> catchUp(batchProperties.getMicroBatch().getMaxPagesPerRun()));
+        if (!executed) {
+            log.debug("Statistics micro-batch is already running on another node");
+        }
+    }
+
+    /**
+     * 야간 배치의 일 마감
+     * - 남은 변경분을 모두 반영
+     * - 워터마크 추적 시작 이전의 날짜는 증분 결과가 불완전하므로 해당 날짜 전체를 재집계
+     *
+     * @throws IllegalStateException 락 대기 시간 내에 실행 중인 증분 집계가 끝나지 않은 경우
+     */
+    public void closeDay(LocalDate date) {
+        RLock lock = redissonClient.getLock(STATISTICS_MICRO_BATCH_LOCK_KEY);
+        boolean executed = LockUtil.tryWithLock(lock, batchProperties.getMicroBatch().getCloseLockWaitMs(), -1, () -> {
+            catchUp(Integer.MAX_VALUE);
+            StatisticsWatermark watermark = loadWatermark();
+            if (watermark.getTrackingSince().isAfter(date.atStartOfDay())) {
+                log.warn("Micro-batch tracking started at {}, rebuilding statistics for {}",
+                        watermark.getTrackingSince(), date);
+                rebuildDay(date);
+            }
+        });
+        if (!executed) {
+            throw new IllegalStateException("Failed to acquire statistics micro-batch lock for closing " + date);
+        }
+    }
+
+    /**
+     * 워터마크 이후 변경분을 최대 maxPages 페이지까지 반영
+     *
+     * @return 반영한 로그 수
+     */
+    int catchUp(int maxPages) {
+        LocalDateTime upperBound = LocalDateTime.now()
+                .minusSeconds(batchProperties.getMicroBatch().getSafetyLagSeconds());
+        int pageSize = batchProperties.getMicroBatch().getPageSize();
+
+        long total = 0;
+        for (int page = 0; page < maxPages; page++) {
+            Integer processed = transactionTemplate.execute(status -> processPage(upperBound, pageSize));
+            int count = processed != null ? processed : 0;
+            total += count;
+            if (count < pageSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Statistics micro-batch applied {} changed watch logs (upper bound: {})", total, upperBound);
+        }
+        return (int) total;
+    }
+
+    private int processPage(LocalDateTime upperBound, int pageSize) {
+        StatisticsWatermark watermark = loadWatermark();
+        List<WatchLogChange> changes = memberContentWatchLogRepository.findChangedAfter(
+                watermark.getLastUpdatedAt(), watermark.getLastLogId(), upperBound, pageSize);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, Set<Long>> touched = new TreeMap<>();
+        for (WatchLogChange change : changes) {
+            touched.computeIfAbsent(change.watchedDate(), date -> new TreeSet<>()).add(change.contentPostId());
+        }
+        touched.forEach(contentStatisticsRepository::upsertDailyFromWatchLogs);
+
+        WatchLogChange last = changes.get(changes.size() - 1);
+        watermark.advance(last.updatedAt(), last.id());
+        statisticsWatermarkRepository.save(watermark);
+
+        meterRegistry.counter("batch.statistics.micro-batch.logs").increment(changes.size());
+        return changes.size();
+    }
+
+    /**
+     * 워터마크 조회 (없으면 오늘 0시부터 추적 시작)
+     */
+    private StatisticsWatermark loadWatermark() {
+        return statisticsWatermarkRepository.findById(WATERMARK_NAME)
+                .orElseGet(() -> statisticsWatermarkRepository.save(StatisticsWatermark.createBuilder()
+                        .name(WATERMARK_NAME)
+                        .trackingSince(LocalDate.now().atStartOfDay())
+                        .build()));
+    }
+
+    private void rebuildDay(LocalDate date) {
+        int pageSize = batchProperties.getMicroBatch().getPageSize();
+        Long lastContentId = null;
+        while (true) {
+            List<Long> contentIds = dailyWatchedContentRepository.findContentIdsByWatchedDate(date, lastContentId, pageSize);
+            if (contentIds.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(
+                    status -> contentStatisticsRepository.upsertDailyFromWatchLogs(date, contentIds));
+            lastContentId = contentIds.get(contentIds.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.garamflow.streamsettlement.service.statistics;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.controller.dto.statistics.TrendingContentResponse;
+import com.github.garamflow.streamsettlement.service.cache.ContentMetadataCacheService;
+import com.github.garamflow.streamsettlement.service.stream.ContentPlaybackMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 인기 컨텐츠 점수
+ * - 분 단위 조회수를 반감기 기준 지수 감쇠 점수로 누적 (최근 조회일수록 큰 가중치)
+ * - 전방 감쇠: 기준 분 대비 2^(경과 분 / 반감기) 가중치를 곱해 더하므로 기존 점수를 매분 다시 계산하지 않음
+ *   (가중치가 2^32 를 넘으면 기준 분을 옮기고 전체 점수를 한 번 나눔)
+ * - 점수는 최대 capacity 개 컨텐츠만 유지하고 초과 시 점수가 낮은 컨텐츠부터 제거
+ * - 집계 때마다 상위 size 개 순위를 불변 목록으로 만들어 두고 조회는 그 목록을 그대로 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingScoreService {
+
+    private static final double REBASE_EXPONENT = 32.0;
+    private static final double MIN_SCORE = 0.01;
+
+    private final StreamingProperties streamingProperties;
+    private final ContentMetadataCacheService contentMetadataCacheService;
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private long baseMinute = Long.MIN_VALUE;
+    private volatile List<TrendingContentResponse> ranking = List.of();
+
+    public boolean isEnabled() {
+        return streamingProperties.getTrending().isEnabled();
+    }
+
+    /**
+     * 현재 순위 조회 (마지막 집계 시점 기준)
+     */
+    public List<TrendingContentResponse> getRanking() {
+        return ranking;
+    }
+
+    /**
+     * 직전 1분간의 컨텐츠별 조회수를 점수에 누적
+     * - 조회수 동기화를 방해하지 않도록 실패는 로그만 남김
+     *
+     * @param viewCounts 컨텐츠 ID -> 조회수
+     */
+    public void fold(Map<Long, Long> viewCounts) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            fold(viewCounts, System.currentTimeMillis() / 60_000L - 1);
+        } catch (Exception e) {
+            log.warn("Failed to fold view counts into trending scores", e);
+        }
+    }
+
+    synchronized void fold(Map<Long, Long> viewCounts, long epochMinute) {
+        StreamingProperties.Trending config = streamingProperties.getTrending();
+        if (baseMinute == Long.MIN_VALUE) {
+            baseMinute = epochMinute;
+        }
+
+        double exponent = (epochMinute - baseMinute) / config.getHalfLifeMinutes();
+        if (exponent > REBASE_EXPONENT) {
+            rebase(Math.pow(2.0, exponent));
+            baseMinute = epochMinute;
+            exponent = 0.0;
+        }
+        double weight = Math.pow(2.0, exponent);
+
+        viewCounts.forEach((contentId, count) -> {
+            if (count != null && count > 0) {
+                scores.merge(contentId, count * weight, Double::sum);
+            }
+        });
+
+        List<Map.Entry<Long, Double>> ordered = new ArrayList<>(scores.entrySet());
+        ordered.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            Map.Entry<Long, Double> entry = ordered.get(i);
+            if (i < config.getCapacity() && entry.getValue() / weight >= MIN_SCORE) {
+                break;
+            }
+            scores.remove(entry.getKey());
+        }
+
+        int size = Math.min(config.getSize(), scores.size());
+        List<TrendingContentResponse> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map.Entry<Long, Double> entry = ordered.get(i);
+            top.add(new TrendingContentResponse(entry.getKey(), title(entry.getKey()), entry.getValue() / weight));
+        }
+        ranking = List.copyOf(top);
+    }
+
+    private void rebase(double divisor) {
+        scores.replaceAll((contentId, score) -> score / divisor);
+    }
+
+    private String title(Long contentId) {
+        return contentMetadataCacheService.get(contentId)
+                .map(ContentPlaybackMetadata::title)
+                .orElse(null);
+    }
+}
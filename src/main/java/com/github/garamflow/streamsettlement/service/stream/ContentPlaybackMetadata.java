@@ -0,0 +1,14 @@
+package com.github.garamflow.streamsettlement.service.stream;
+
+/**
+ * 재생에 필요한 컨텐츠 메타데이터 (변경되지 않는 값만 포함)
+ * - 스트리밍 경로의 near-cache 항목으로 사용
+ */
+public record ContentPlaybackMetadata(
+        Long contentId,
+        Long creatorId,
+        String title,
+        String url,
+        Integer duration
+) {
+}
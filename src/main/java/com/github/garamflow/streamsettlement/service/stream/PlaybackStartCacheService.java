@@ -0,0 +1,102 @@
+package com.github.garamflow.streamsettlement.service.stream;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.exception.CacheOperationException;
+import com.github.garamflow.streamsettlement.redis.dto.AbusingKey;
+import com.github.garamflow.streamsettlement.service.cache.DailyStreamingContentCacheService;
+import com.github.garamflow.streamsettlement.service.cache.ViewCountCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.garamflow.streamsettlement.service.cache.ViewCountCacheServiceImpl.VIEW_COUNT_EXPIRE_MINUTES;
+
+/**
+ * 재생 시작 시 Redis 부가 작업을 단일 Lua 스크립트로 처리
+ * - 어뷰징 체크 및 기록 (SET NX PX)
+ * - 분 단위 조회수 증가 (HINCRBY + EXPIRE)
+ * - 일일 시청 컨텐츠 등록 (SADD + EXPIREAT)
+ * - 한 번의 왕복으로 원자적으로 수행하고 조회수 반영 여부를 반환
+ * - 스크립트가 여러 키를 다루므로 단일 서버(또는 같은 슬롯) 구성을 전제로 함
+ * - 조회수 로컬 집계 모드에서는 스크립트에서 HINCRBY 를 생략하고 로컬 집계에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaybackStartCacheService {
+
+    private static final String PLAYBACK_START_LUA = """
+            local counted = 0
+            if ARGV[5] ~= '1' then
+                if redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[2]) then
+                    counted = 1
+                    if ARGV[6] == '1' then
+                        redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+                        redis.call('EXPIRE', KEYS[2], ARGV[3])
+                    end
+                end
+            end
+            if redis.call('SADD', KEYS[3], ARGV[1]) == 1 then
+                redis.call('EXPIREAT', KEYS[3], ARGV[4])
+            end
+            return counted
+            """;
+
+    private static final RedisScript<Long> PLAYBACK_START_SCRIPT =
+            new DefaultRedisScript<>(PLAYBACK_START_LUA, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewAbusingCacheService viewAbusingCacheService;
+    private final ViewCountCacheService viewCountCacheService;
+    private final DailyStreamingContentCacheService dailyStreamingContentCacheService;
+    private final StreamingProperties streamingProperties;
+
+    /**
+     * 재생 시작 부가 작업 실행
+     *
+     * @param key 어뷰징 체크 키 (회원, 컨텐츠, 크리에이터, IP)
+     * @return 조회수로 인정되었으면 true (어뷰징/크리에이터 본인 시청이면 false)
+     */
+    public boolean registerPlaybackStart(AbusingKey key) {
+        LocalDate today = LocalDate.now();
+        boolean localAggregation = streamingProperties.getViewCount().isLocalAggregation();
+        long dailyExpireAt = dailyStreamingContentCacheService.getExpiryTime(today)
+                .atZone(ZoneId.systemDefault())
+                .toEpochSecond();
+
+        List<String> keys = List.of(
+                viewAbusingCacheService.generateAbuseKey(key),
+                viewCountCacheService.generateViewCountKey(),
+                dailyStreamingContentCacheService.generateDailyKey(today)
+        );
+
+        try {
+            Long counted = redisTemplate.execute(
+                    PLAYBACK_START_SCRIPT,
+                    keys,
+                    String.valueOf(key.contentId()),
+                    String.valueOf(ViewAbusingCacheService.ABUSE_WINDOW.toMillis()),
+                    String.valueOf(TimeUnit.MINUTES.toSeconds(VIEW_COUNT_EXPIRE_MINUTES)),
+                    String.valueOf(dailyExpireAt),
+                    key.memberId().equals(key.creatorId()) ? "1" : "0",
+                    localAggregation ? "0" : "1"
+            );
+            boolean viewCounted = counted != null && counted == 1L;
+            if (viewCounted && localAggregation) {
+                viewCountCacheService.incrementViewCount(key.contentId());
+            }
+            return viewCounted;
+        } catch (Exception e) {
+            log.error("Failed to run playback start script for key: {}", key, e);
+            throw new CacheOperationException("Failed to run playback start script", e);
+        }
+    }
+}
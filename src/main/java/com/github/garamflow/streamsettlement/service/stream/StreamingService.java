@@ -7,6 +7,8 @@ import com.github.garamflow.streamsettlement.entity.stream.Log.StreamingStatus;
 public interface StreamingService {
     ContentPlaybackInfo startPlayback(Long userId, Long contentId);
 
+    ContentPlaybackInfo startPlayback(Long userId, Long contentId, String clientIp);
+
     StreamingStatus updatePlaybackPosition(Long userId, Long contentId, Long position);
 
     void endPlayback(Long userId, Long contentId, Long finalPosition, StreamingEndType endType);
@@ -1,16 +1,18 @@
 package com.github.garamflow.streamsettlement.service.stream;
 
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
 import com.github.garamflow.streamsettlement.controller.dto.stream.ContentPlaybackInfo;
 import com.github.garamflow.streamsettlement.controller.dto.stream.StreamingEndType;
 import com.github.garamflow.streamsettlement.entity.stream.Log.DailyWatchedContent;
 import com.github.garamflow.streamsettlement.entity.stream.Log.MemberContentWatchLog;
 import com.github.garamflow.streamsettlement.entity.stream.Log.StreamingStatus;
-import com.github.garamflow.streamsettlement.entity.stream.content.ContentPost;
 import com.github.garamflow.streamsettlement.exception.PlaybackStartException;
 import com.github.garamflow.streamsettlement.redis.dto.AbusingKey;
 import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentRepository;
 import com.github.garamflow.streamsettlement.repository.log.MemberContentWatchLogRepository;
 import com.github.garamflow.streamsettlement.repository.stream.ContentPostRepository;
+import com.github.garamflow.streamsettlement.service.cache.ContentMetadataCacheService;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService;
 import com.github.garamflow.streamsettlement.service.cache.DailyStreamingContentCacheService;
 import com.github.garamflow.streamsettlement.service.cache.ViewCountCacheService;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -31,43 +34,45 @@ public class StreamingServiceImpl implements StreamingService {
     private final ViewCountCacheService viewCountCacheService;
     private final ViewAbusingCacheService viewAbusingCacheService;
     private final DailyStreamingContentCacheService dailyStreamingContentCacheService;
+    private final WatchLogWriteBehindBuffer watchLogWriteBehindBuffer;
+    private final PlaybackStartCacheService playbackStartCacheService;
+    private final StreamingProperties streamingProperties;
+    private final ContentMetadataCacheService contentMetadataCacheService;
+    private final DailyStatisticsCounterService dailyStatisticsCounterService;
+
+    private static final String DEFAULT_CLIENT_IP = "127.0.0.1";
 
     @Override
     public ContentPlaybackInfo startPlayback(Long memberId, Long contentId) {
-        ContentPost contentPost = contentPostRepository.findById(contentId)
+        return startPlayback(memberId, contentId, DEFAULT_CLIENT_IP);
+    }
+
+    @Override
+    public ContentPlaybackInfo startPlayback(Long memberId, Long contentId, String clientIp) {
+        ContentPlaybackMetadata metadata = contentMetadataCacheService.get(contentId)
                 .orElseThrow(() -> new IllegalArgumentException("Content not found"));
 
-        if (contentPost.getMember() == null) {
+        if (metadata.creatorId() == null) {
             throw new IllegalStateException("Content creator not found");
         }
 
         try {
             // 어뷰징 체크 및 조회수 증가
-            AbusingKey abusingKey = AbusingKey.of(memberId, contentId, contentPost.getMember().getId(), "127.0.0.1");
-            if (!viewAbusingCacheService.isAbusing(abusingKey)) {
-                // Redis 에 조회수 증가
-                viewCountCacheService.incrementViewCount(contentId);
-                viewAbusingCacheService.recordView(abusingKey);
-
-                // DB 에도 실시간으로 조회수 증가
-                contentPost.incrementTotalViews();
-                contentPostRepository.save(contentPost);
-            }
-
-            // 일일 시청 컨텐츠 기록
-            if (!dailyStreamingContentCacheService.isExistContentId(contentId)) {
-                dailyStreamingContentCacheService.setContentId(contentId);
+            AbusingKey abusingKey = AbusingKey.of(memberId, contentId, metadata.creatorId(), clientIp);
+            if (registerViewAndDailyContent(abusingKey)) {
+                // DB 에도 실시간으로 조회수 증가 (엔티티 로딩 없이 UPDATE)
+                contentPostRepository.bulkUpdateViewCounts(Map.of(contentId, 1L));
             }
 
             recordContentWatch(memberId, contentId, LocalDate.now());
 
             ContentPlayback contentPlayback = new ContentPlayback(
-                    contentPost.getId(),
-                    contentPost.getMember().getId(),
-                    contentPost.getTitle(),
-                    contentPost.getUrl(),
+                    metadata.contentId(),
+                    metadata.creatorId(),
+                    metadata.title(),
+                    metadata.url(),
                     getLastViewedPosition(memberId, contentId),
-                    contentPost.getDuration()
+                    metadata.duration()
             );
 
             return ContentPlaybackInfo.fromDomain(contentPlayback);
@@ -77,8 +82,43 @@ public class StreamingServiceImpl implements StreamingService {
         }
     }
 
+    /**
+     * 어뷰징 체크, Redis 조회수 증가, 일일 시청 컨텐츠 등록
+     * - 스크립트 모드: 단일 Lua 스크립트로 한 번에 처리
+     * - 락 없는 모드: SET NX PX 로 어뷰징 체크와 기록을 원자적으로 수행
+     * - 기본 모드: 개별 Redis 명령으로 처리
+     *
+     * @return 조회수로 인정되었으면 true
+     */
+    private boolean registerViewAndDailyContent(AbusingKey abusingKey) {
+        if (streamingProperties.getStartScript().isEnabled()) {
+            return playbackStartCacheService.registerPlaybackStart(abusingKey);
+        }
+
+        boolean counted = false;
+        if (streamingProperties.getAbuse().isLockFree()) {
+            if (viewAbusingCacheService.tryRecordView(abusingKey)) {
+                viewCountCacheService.incrementViewCount(abusingKey.contentId());
+                counted = true;
+            }
+        } else if (!viewAbusingCacheService.isAbusing(abusingKey)) {
+            // Redis 에 조회수 증가
+            viewCountCacheService.incrementViewCount(abusingKey.contentId());
+            viewAbusingCacheService.recordView(abusingKey);
+            counted = true;
+        }
+
+        // 일일 시청 컨텐츠 기록
+        if (!dailyStreamingContentCacheService.isExistContentId(abusingKey.contentId())) {
+            dailyStreamingContentCacheService.setContentId(abusingKey.contentId());
+        }
+        return counted;
+    }
+
     @Override
     public StreamingStatus updatePlaybackPosition(Long memberId, Long contentId, Long positionInSeconds) {
+        watchLogWriteBehindBuffer.flushIfPending(memberId, contentId);
+
         var watchLog = memberContentWatchLogRepository
                 .findByMemberIdAndContentPostId(memberId, contentId)
                 .orElseThrow(() -> new IllegalArgumentException("Watch log not found"));
@@ -93,6 +133,7 @@ public class StreamingServiceImpl implements StreamingService {
 
     @Override
     public void endPlayback(Long memberId, Long contentId, Long finalPosition, StreamingEndType endType) {
+        watchLogWriteBehindBuffer.flushIfPending(memberId, contentId);
         validateEndPlayback(contentId, finalPosition, endType);
 
         var watchLog = memberContentWatchLogRepository
@@ -117,6 +158,8 @@ public class StreamingServiceImpl implements StreamingService {
         long additionalTime = finalPosition - watchLog.getLastPlaybackPosition();
         if (additionalTime > 0) {
             watchLog.updateTotalPlaybackTime(additionalTime);
+            dailyStatisticsCounterService.addWatchTime(
+                    watchLog.getContentPostId(), watchLog.getWatchedDate(), additionalTime);
         }
     }
 
@@ -125,19 +168,24 @@ public class StreamingServiceImpl implements StreamingService {
             return; // COMPLETE가 아닌 경우는 검증 스킵
         }
 
-        ContentPost content = contentPostRepository.findById(contentId)
+        ContentPlaybackMetadata content = contentMetadataCacheService.get(contentId)
                 .orElseThrow(() -> new IllegalArgumentException("Content not found"));
 
         if (finalPosition <= 0) {
             throw new IllegalArgumentException("LastPlaybackPosition must be positive");
         }
 
-        if (finalPosition > content.getDuration()) {
+        if (finalPosition > content.duration()) {
             throw new IllegalArgumentException("Final position cannot exceed content duration");
         }
     }
 
     public void recordContentWatch(Long memberId, Long contentId, LocalDate watchedDate) {
+        if (watchLogWriteBehindBuffer.isEnabled()) {
+            recordContentWatchBehind(memberId, contentId, watchedDate);
+            return;
+        }
+
         // 1. DailyWatchedContent 기록 (중복 체크 포함)
         if (!dailyWatchedContentRepository.existsByContentPostIdAndWatchedDate(contentId, watchedDate)) {
             dailyWatchedContentRepository.save(
@@ -151,13 +199,46 @@ public class StreamingServiceImpl implements StreamingService {
         memberContentWatchLogRepository.findByMemberIdAndContentPostId(memberId, contentId)
                 .ifPresentOrElse(
                         log -> log.updateStatus(StreamingStatus.IN_PROGRESS),
-                        () -> memberContentWatchLogRepository.save(
-                                MemberContentWatchLog.existingBuilder()
-                                        .memberId(memberId)
-                                        .contentPostId(contentId)
-                                        .watchedDate(watchedDate)
-                                        .build()
-                        )
+                        () -> {
+                            memberContentWatchLogRepository.save(
+                                    MemberContentWatchLog.existingBuilder()
+                                            .memberId(memberId)
+                                            .contentPostId(contentId)
+                                            .watchedDate(watchedDate)
+                                            .build()
+                            );
+                            dailyStatisticsCounterService.incrementViews(contentId, watchedDate);
+                        }
+                );
+    }
+
+    /**
+     * write-behind 모드의 시청 기록
+     * - 신규 로그는 버퍼에 적재하고 일괄 저장 시점에 DB 반영
+     * - 기존 로그가 있으면 상태만 갱신 (dirty checking)
+     */
+    private void recordContentWatchBehind(Long memberId, Long contentId, LocalDate watchedDate) {
+        watchLogWriteBehindBuffer.registerDailyContent(contentId, watchedDate);
+        if (watchLogWriteBehindBuffer.isPending(memberId, contentId)) {
+            return;
+        }
+
+        memberContentWatchLogRepository.findByMemberIdAndContentPostId(memberId, contentId)
+                .ifPresentOrElse(
+                        log -> log.updateStatus(StreamingStatus.IN_PROGRESS),
+                        () -> {
+                            watchLogWriteBehindBuffer.enqueue(
+                                    MemberContentWatchLog.existingBuilder()
+                                            .memberId(memberId)
+                                            .contentPostId(contentId)
+                                            .lastPlaybackPosition(0L)
+                                            .totalPlaybackTime(0L)
+                                            .watchedDate(watchedDate)
+                                            .streamingStatus(StreamingStatus.IN_PROGRESS)
+                                            .build()
+                            );
+                            dailyStatisticsCounterService.incrementViews(contentId, watchedDate);
+                        }
                 );
     }
 
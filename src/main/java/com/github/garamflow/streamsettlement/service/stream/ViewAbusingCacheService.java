@@ -1,15 +1,23 @@
 package com.github.garamflow.streamsettlement.service.stream;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
 import com.github.garamflow.streamsettlement.exception.CacheOperationException;
 import com.github.garamflow.streamsettlement.redis.dto.AbusingKey;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants.ABUSE_KEY_PREFIX;
@@ -21,11 +29,54 @@ import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConst
 public class ViewAbusingCacheService {
     private final RedissonClient redissonClient;
     private final RedisTemplate<String, String> redisTemplate;
-    private static final Duration ABUSE_WINDOW = Duration.ofSeconds(30);
+    private final StreamingProperties streamingProperties;
+    static final Duration ABUSE_WINDOW = Duration.ofSeconds(30);
     private static final Duration LOCK_WAIT_TIME = Duration.ofMillis(500);
     private static final Duration LOCK_LEASE_TIME = Duration.ofSeconds(1);
 
+    // SET NX PX 후 같은 왕복에서 키의 남은 TTL 을 함께 반환 ({기록 여부, PTTL})
+    private static final String RECORD_VIEW_LUA = """
+            local recorded = 0
+            if redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[1]) then
+                recorded = 1
+            end
+            return {recorded, redis.call('PTTL', KEYS[1])}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>(RECORD_VIEW_LUA, List.class);
+
+    // 로컬 어뷰징 캐시 (abuseKey -> 로컬 TTL ms, 엔트리마다 Redis 키의 남은 TTL 을 넘지 않게 만료)
+    private Cache<String, Long> localAbuseCache;
+
+    @PostConstruct
+    void init() {
+        localAbuseCache = Caffeine.newBuilder()
+                .maximumSize(streamingProperties.getAbuse().getLocalCacheMaxSize())
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String key, Long ttlMs, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(ttlMs);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Long ttlMs, long currentTime, long currentDuration) {
+                        return TimeUnit.MILLISECONDS.toNanos(ttlMs);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Long ttlMs, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     public boolean isAbusing(AbusingKey key) {
+        if (streamingProperties.getAbuse().isLockFree()) {
+            return isAbusingWithoutLock(key);
+        }
+
         String lockKey = generateLockKey(key);
         RLock lock = redissonClient.getLock(lockKey);
 
@@ -73,6 +124,74 @@ public class ViewAbusingCacheService {
         setAbusing(key);
     }
 
+    /**
+     * 락 없이 어뷰징 체크와 기록을 한 번에 수행 (SET key 1 NX PX window)
+     * - 크리에이터 본인 시청은 기존과 동일하게 조회수로 인정하지 않음
+     * - 로컬 캐시에 어뷰징 판정이 남아 있으면 Redis 호출 없이 false 반환
+     * - 로컬 캐시 만료는 같은 왕복에서 받은 키의 남은 TTL 을 넘지 않음 (노드별 어뷰징 윈도우가 늘어나지 않도록)
+     *
+     * @return 조회수로 인정되었으면 true (키를 새로 기록한 경우)
+     */
+    public boolean tryRecordView(AbusingKey key) {
+        if (key.memberId().equals(key.creatorId())) {
+            return false;
+        }
+
+        String abuseKey = generateAbuseKey(key);
+        if (isCachedAsAbusing(abuseKey)) {
+            return false;
+        }
+
+        try {
+            List<?> result = redisTemplate.execute(
+                    RECORD_VIEW_SCRIPT,
+                    List.of(abuseKey),
+                    String.valueOf(ABUSE_WINDOW.toMillis())
+            );
+            if (result == null || result.size() < 2) {
+                return false;
+            }
+            cacheAsAbusing(abuseKey, ((Number) result.get(1)).longValue());
+            return ((Number) result.get(0)).longValue() == 1L;
+        } catch (Exception e) {
+            log.error("Failed to record view for key: {}", key, e);
+            throw new CacheOperationException("Failed to record view", e);
+        }
+    }
+
+    private boolean isAbusingWithoutLock(AbusingKey key) {
+        if (key.memberId().equals(key.creatorId())) {
+            return true;
+        }
+
+        String abuseKey = generateAbuseKey(key);
+        if (isCachedAsAbusing(abuseKey)) {
+            return true;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(abuseKey));
+        } catch (Exception e) {
+            log.error("Error checking abuse status for key: {}", key, e);
+            return false;
+        }
+    }
+
+    private boolean isCachedAsAbusing(String abuseKey) {
+        return localAbuseCache.getIfPresent(abuseKey) != null;
+    }
+
+    /**
+     * 로컬 캐시 적재 (TTL = min(localCacheTtlMs, Redis 키의 남은 TTL))
+     * - 최대 크기를 넘으면 Caffeine 이 일부 엔트리만 교체하므로 Redis 호출이 한꺼번에 몰리지 않음
+     */
+    private void cacheAsAbusing(String abuseKey, long remainingTtlMs) {
+        long ttl = Math.min(streamingProperties.getAbuse().getLocalCacheTtlMs(), remainingTtlMs);
+        if (ttl > 0) {
+            localAbuseCache.put(abuseKey, ttl);
+        }
+    }
+
     private String generateLockKey(AbusingKey key) {
         return String.format("%s:lock:content:%d:member:%d:ip:%s",
                 LOCK_PREFIX,
@@ -82,7 +201,7 @@ public class ViewAbusingCacheService {
         );
     }
 
-    private String generateAbuseKey(AbusingKey key) {
+    String generateAbuseKey(AbusingKey key) {
         return String.format("%s:content:%d:member:%d:ip:%s",
                 ABUSE_KEY_PREFIX,
                 key.contentId(),
@@ -0,0 +1,257 @@
+package com.github.garamflow.streamsettlement.service.stream;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.entity.stream.Log.DailyWatchedContent;
+import com.github.garamflow.streamsettlement.entity.stream.Log.MemberContentWatchLog;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentRepository;
+import com.github.garamflow.streamsettlement.repository.log.MemberContentWatchLogRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시청 로그 write-behind 버퍼
+ * - 재생 시작 시 생성되는 시청 로그/일일 시청 컨텐츠를 메모리에 모아 일괄 저장
+ * - flushSize 도달 시 비동기 flush, flushIntervalMs 주기로 정기 flush
+ * - 적재 전 슬롯을 원자적으로 예약하여 동시 적재 시에도 capacity 를 넘지 않음
+ * - capacity 초과 시 호출 스레드에서 즉시 flush (백프레셔), flush 실패로 여전히 가득 차 있으면
+ *   버퍼에 쌓지 않고 호출 측 트랜잭션에서 바로 저장 (DB 장애 시 메모리 대신 요청 실패로 드러남)
+ * - 종료 시(@PreDestroy) 남은 데이터를 모두 flush
+ * - flush 중인 로그는 커밋될 때까지 버퍼에 남겨 두어 대기 중으로 보이게 함 (중복 적재/조회 실패 방지)
+ * - 가장 오래 대기 중인 로그의 경과 시간을 flush lag 메트릭으로 노출
+ * - 대기 중인 로그는 이 노드에만 있으므로 같은 (회원, 컨텐츠)의 재생 시작/위치 갱신/종료 요청은
+ *   같은 노드로 라우팅되어야 함 (sticky session), 다른 노드는 flush 전까지 로그를 찾지 못함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchLogWriteBehindBuffer {
+
+    private final MemberContentWatchLogRepository memberContentWatchLogRepository;
+    private final DailyWatchedContentRepository dailyWatchedContentRepository;
+    private final StreamingProperties streamingProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<WatchLogKey, PendingWatchLog> pendingLogs = new ConcurrentHashMap<>();
+    private final Set<DailyContentKey> pendingDailyContents = ConcurrentHashMap.newKeySet();
+    private final Set<DailyContentKey> registeredDailyContents = ConcurrentHashMap.newKeySet();
+    // pendingLogs 에 적재했거나 적재 중인 로그 수 (capacity 검사와 적재를 원자적으로 묶기 위한 예약 카운터)
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private TransactionTemplate transactionTemplate;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        // 호출 측 트랜잭션 롤백과 무관하게 버퍼 내용이 저장되도록 별도 트랜잭션에서 flush
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        flushTimer = meterRegistry.timer("streaming.watch-log.buffer.flush.time");
+        Gauge.builder("streaming.watch-log.buffer.size", pendingLogs, Map::size)
+                .register(meterRegistry);
+        TimeGauge.builder("streaming.watch-log.buffer.flush.lag", this, TimeUnit.MILLISECONDS,
+                        WatchLogWriteBehindBuffer::currentFlushLagMillis)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return streamingProperties.getWriteBehind().isEnabled();
+    }
+
+    /**
+     * 신규 시청 로그를 버퍼에 적재
+     * - 같은 (회원, 컨텐츠) 로그가 이미 대기 중이면 무시
+     * - 슬롯이 없으면 즉시 flush 후 다시 예약, 그래도 없으면 (flush 실패) 호출 측 트랜잭션에서 직접 저장
+     */
+    public void enqueue(MemberContentWatchLog watchLog) {
+        StreamingProperties.WriteBehind config = streamingProperties.getWriteBehind();
+        if (!tryReserveSlot(config.getCapacity())) {
+            flush();
+            if (!tryReserveSlot(config.getCapacity())) {
+                log.warn("Watch log buffer is full after flush, saving log synchronously");
+                meterRegistry.counter("streaming.watch-log.buffer.overflow").increment();
+                memberContentWatchLogRepository.save(watchLog);
+                return;
+            }
+        }
+
+        WatchLogKey key = new WatchLogKey(watchLog.getMemberId(), watchLog.getContentPostId());
+        if (pendingLogs.putIfAbsent(key, new PendingWatchLog(watchLog, System.currentTimeMillis())) != null) {
+            reservedSlots.decrementAndGet();
+        }
+
+        if (pendingLogs.size() >= config.getFlushSize() && flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, Instant.now());
+        }
+    }
+
+    private boolean tryReserveSlot(int capacity) {
+        while (true) {
+            int reserved = reservedSlots.get();
+            if (reserved >= capacity) {
+                return false;
+            }
+            if (reservedSlots.compareAndSet(reserved, reserved + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 일일 시청 컨텐츠 등록
+     * - 노드 단위로 (컨텐츠, 날짜) 중복을 제거하여 DB 존재 확인 쿼리를 줄임
+     */
+    public void registerDailyContent(Long contentId, LocalDate watchedDate) {
+        DailyContentKey key = new DailyContentKey(contentId, watchedDate);
+        if (registeredDailyContents.add(key)) {
+            pendingDailyContents.add(key);
+        }
+    }
+
+    public boolean isPending(Long memberId, Long contentId) {
+        return pendingLogs.containsKey(new WatchLogKey(memberId, contentId));
+    }
+
+    /**
+     * 특정 (회원, 컨텐츠) 로그가 대기 중이면 즉시 flush
+     * - 재생 위치 갱신/종료 처리 전에 호출하여 DB 조회 시 로그가 존재하도록 보장
+     * - 해당 로그가 진행 중인 flush 에 포함되어 있으면 flushLock 에서 그 flush 의 커밋을 기다림
+     */
+    public void flushIfPending(Long memberId, Long contentId) {
+        if (isPending(memberId, contentId)) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${streaming.write-behind.flush-interval-ms:1000}")
+    public void flushPeriodically() {
+        if (isEnabled()) {
+            flush();
+        }
+        evictExpiredDailyContents();
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("Draining watch log buffer - pending logs: {}, pending daily contents: {}",
+                pendingLogs.size(), pendingDailyContents.size());
+        flush();
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<WatchLogKey, PendingWatchLog>> inFlight = List.copyOf(pendingLogs.entrySet());
+            List<MemberContentWatchLog> logs = new ArrayList<>(inFlight.size());
+            for (Map.Entry<WatchLogKey, PendingWatchLog> entry : inFlight) {
+                logs.add(entry.getValue().watchLog());
+            }
+            List<DailyContentKey> dailyContents = drainPendingDailyContents();
+            if (logs.isEmpty() && dailyContents.isEmpty()) {
+                return;
+            }
+
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                    saveDailyContents(dailyContents);
+                    if (!logs.isEmpty()) {
+                        memberContentWatchLogRepository.bulkInsertLogs(logs);
+                    }
+                }));
+                // 커밋 이후에 제거해야 flush 중에도 isPending 이 true 로 유지됨
+                inFlight.forEach(entry -> {
+                    if (pendingLogs.remove(entry.getKey(), entry.getValue())) {
+                        reservedSlots.decrementAndGet();
+                    }
+                });
+                meterRegistry.counter("streaming.watch-log.buffer.flushed").increment(logs.size());
+                log.debug("Flushed {} watch logs and {} daily contents", logs.size(), dailyContents.size());
+            } catch (Exception e) {
+                // 로그는 버퍼에 그대로 남아 있으므로 (최초 적재 시각 유지) 일일 시청 컨텐츠만 다시 적재
+                log.error("Failed to flush watch log buffer, keeping {} logs pending", logs.size(), e);
+                pendingDailyContents.addAll(dailyContents);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<DailyContentKey> drainPendingDailyContents() {
+        List<DailyContentKey> dailyContents = new ArrayList<>(pendingDailyContents.size());
+        for (DailyContentKey key : pendingDailyContents) {
+            if (pendingDailyContents.remove(key)) {
+                dailyContents.add(key);
+            }
+        }
+        return dailyContents;
+    }
+
+    private void saveDailyContents(List<DailyContentKey> dailyContents) {
+        for (DailyContentKey key : dailyContents) {
+            if (!dailyWatchedContentRepository.existsByContentPostIdAndWatchedDate(key.contentId(), key.watchedDate())) {
+                dailyWatchedContentRepository.save(
+                        DailyWatchedContent.existingBuilder()
+                                .contentPostId(key.contentId())
+                                .watchedDate(key.watchedDate())
+                                .build()
+                );
+            }
+        }
+    }
+
+    /**
+     * 날짜가 지난 중복 제거용 키 정리 (메모리 사용량 제한)
+     */
+    private void evictExpiredDailyContents() {
+        LocalDate today = LocalDate.now();
+        registeredDailyContents.removeIf(key -> key.watchedDate().isBefore(today));
+    }
+
+    private double currentFlushLagMillis() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingWatchLog pending : pendingLogs.values()) {
+            oldest = Math.min(oldest, pending.enqueuedAt());
+        }
+        return oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest;
+    }
+
+    private record WatchLogKey(Long memberId, Long contentId) {
+    }
+
+    private record DailyContentKey(Long contentId, LocalDate watchedDate) {
+    }
+
+    private record PendingWatchLog(MemberContentWatchLog watchLog, long enqueuedAt) {
+    }
+}
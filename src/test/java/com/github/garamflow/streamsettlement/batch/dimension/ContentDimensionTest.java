@@ -0,0 +1,140 @@
+package com.github.garamflow.streamsettlement.batch.dimension;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentDimensionTest {
+
+    private static final long JOB_EXECUTION_ID = 10L;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ContentDimension contentDimension;
+    private JobExecution jobExecution;
+
+    @BeforeEach
+    void setUp() {
+        contentDimension = new ContentDimension(dataSource, new BatchProperties(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(contentDimension, "jdbcTemplate", jdbcTemplate);
+        contentDimension.load(JOB_EXECUTION_ID, new long[]{1L, 5L, 9L}, new long[]{100L, 500L, 900L});
+
+        jobExecution = MetaDataInstanceFactory.createJobExecution("dailyStatisticsAndSettlementJob", 1L, JOB_EXECUTION_ID);
+        StepSynchronizationManager.register(
+                MetaDataInstanceFactory.createStepExecution(jobExecution, "daily-statistics-step", 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    @DisplayName("적재된 컨텐츠는 DB 조회 없이 누적 조회수를 반환한다")
+    void returnsLoadedTotalViews() {
+        assertThat(contentDimension.getTotalViews(5L)).isEqualTo(500L);
+        assertThat(contentDimension.getTotalViews(9L)).isEqualTo(900L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("적재 이후 생성된 컨텐츠는 한 번만 단건 조회한다")
+    void loadsLateContentOnce() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(7L))).thenReturn(List.of(70L));
+
+        // when
+        long first = contentDimension.getTotalViews(7L);
+        long second = contentDimension.getTotalViews(7L);
+
+        // then
+        assertThat(first).isEqualTo(70L);
+        assertThat(second).isEqualTo(70L);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), eq(7L));
+    }
+
+    @Test
+    @DisplayName("DB 에도 없는 컨텐츠는 예외를 던진다")
+    void throwsWhenContentMissing() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(999L))).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> contentDimension.getTotalViews(999L))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("ContentPost not found in cache or database for id: 999");
+    }
+
+    @Test
+    @DisplayName("메모리 사용량은 두 long 배열 크기로 계산한다")
+    void reportsFootprint() {
+        assertThat(contentDimension.size()).isEqualTo(3);
+        assertThat(contentDimension.footprintBytes()).isEqualTo(2 * 16L + 6 * Long.BYTES);
+    }
+
+    @Test
+    @DisplayName("Job 실행 스레드가 아닌 파티션 워커 스레드에서도 스냅샷을 조회한다")
+    void resolvesFromPartitionWorkerThread() throws Exception {
+        // given
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+
+        // when (파티션 워커처럼 워커 스레드에 Step 컨텍스트만 등록)
+        Future<Long> result = worker.submit(() -> {
+            StepSynchronizationManager.register(
+                    MetaDataInstanceFactory.createStepExecution(jobExecution, "daily-statistics-step:partition0", 2L));
+            try {
+                return contentDimension.getTotalViews(5L);
+            } finally {
+                StepSynchronizationManager.close();
+            }
+        });
+
+        // then
+        try {
+            assertThat(result.get()).isEqualTo(500L);
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Job 종료 후에는 스냅샷을 제거한다")
+    void removesSnapshotAfterJob() {
+        // when
+        contentDimension.afterJob(jobExecution);
+
+        // then
+        assertThatThrownBy(() -> contentDimension.getTotalViews(5L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Content dimension not loaded for job execution: 10");
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.garamflow.streamsettlement.batch.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockConflictMetricsListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockConflictMetricsListener listener;
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new LockConflictMetricsListener(meterRegistry);
+        stepExecution = MetaDataInstanceFactory.createStepExecution("daily-settlement-step:partition0", 1L);
+        StepSynchronizationManager.register(stepExecution);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    @DisplayName("데드락과 락 대기 타임아웃을 Step 단위로 구분하여 집계")
+    void countsDeadlocksAndLockWaitTimeoutsPerStep() {
+        // given
+        Exception deadlock = new PessimisticLockingFailureException("deadlock",
+                new SQLException("Deadlock found when trying to get lock", "40001", 1213));
+        Exception lockWait = new CannotAcquireLockException("lock wait",
+                new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+
+        // when
+        listener.onWriteError(deadlock, new Chunk<>());
+        listener.onWriteError(deadlock, new Chunk<>());
+        listener.onWriteError(lockWait, new Chunk<>());
+
+        // then
+        assertThat(meterRegistry.get("batch.lock.conflicts")
+                .tags("step", "daily-settlement-step", "type", "deadlock").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("batch.lock.conflicts")
+                .tags("step", "daily-settlement-step", "type", "lock_wait_timeout").counter().count()).isEqualTo(1.0);
+        assertThat(stepExecution.getExecutionContext().getLong(LockConflictMetricsListener.DEADLOCK_COUNT_KEY))
+                .isEqualTo(2L);
+        assertThat(stepExecution.getExecutionContext().getLong(LockConflictMetricsListener.LOCK_WAIT_TIMEOUT_COUNT_KEY))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("락 충돌이 아닌 쓰기 오류는 집계하지 않음")
+    void ignoresNonLockErrors() {
+        // given
+        Exception duplicate = new DataIntegrityViolationException("duplicate",
+                new SQLException("Duplicate entry", "23000", 1062));
+
+        // when
+        listener.onWriteError(duplicate, new Chunk<>());
+
+        // then
+        assertThat(meterRegistry.find("batch.lock.conflicts").counter()).isNull();
+        assertThat(stepExecution.getExecutionContext().containsKey(LockConflictMetricsListener.DEADLOCK_COUNT_KEY))
+                .isFalse();
+    }
+}
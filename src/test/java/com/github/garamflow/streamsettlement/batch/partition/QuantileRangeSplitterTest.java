@@ -0,0 +1,95 @@
+package com.github.garamflow.streamsettlement.batch.partition;
+
+import com.github.garamflow.streamsettlement.batch.partition.QuantileRangeSplitter.ContentIdRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuantileRangeSplitterTest {
+
+    @Test
+    @DisplayName("가중치가 같으면 희소한 ID 라도 파티션마다 컨텐츠 수가 같다")
+    void splitsSparseIdsIntoEqualCounts() {
+        // given
+        long[] ids = {1L, 2L, 3L, 4L, 1_000L, 5_000L, 90_000L, 1_000_000L};
+        long[] weights = {1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L};
+
+        // when
+        List<ContentIdRange> ranges = QuantileRangeSplitter.split(ids, weights, 4);
+
+        // then
+        assertThat(ranges).extracting(ContentIdRange::contentCount).containsExactly(2, 2, 2, 2);
+        assertThat(ranges.get(0)).extracting(ContentIdRange::startContentId, ContentIdRange::endContentId)
+                .containsExactly(1L, 2L);
+        assertThat(ranges.get(3)).extracting(ContentIdRange::startContentId, ContentIdRange::endContentId)
+                .containsExactly(5_001L, 1_000_000L);
+    }
+
+    @Test
+    @DisplayName("로그 수 가중치를 주면 누적 가중치의 분위수에서 분할한다")
+    void splitsByWeight() {
+        // given
+        long[] ids = {10L, 20L, 30L, 40L, 50L, 60L};
+        long[] weights = {100L, 1L, 1L, 48L, 25L, 25L};
+
+        // when
+        List<ContentIdRange> ranges = QuantileRangeSplitter.split(ids, weights, 2);
+
+        // then
+        assertThat(ranges).hasSize(2);
+        assertThat(ranges.get(0)).extracting(ContentIdRange::startContentId, ContentIdRange::endContentId,
+                        ContentIdRange::weight)
+                .containsExactly(10L, 10L, 100L);
+        assertThat(ranges.get(1)).extracting(ContentIdRange::startContentId, ContentIdRange::endContentId,
+                        ContentIdRange::weight)
+                .containsExactly(11L, 60L, 100L);
+    }
+
+    @Test
+    @DisplayName("컨텐츠 수가 파티션 수보다 적으면 빈 파티션 없이 컨텐츠마다 하나씩 만든다")
+    void neverCreatesEmptyPartitions() {
+        // given
+        long[] ids = {7L, 8L};
+        long[] weights = {1L, 1L};
+
+        // when
+        List<ContentIdRange> ranges = QuantileRangeSplitter.split(ids, weights, 8);
+
+        // then
+        assertThat(ranges).extracting(ContentIdRange::startContentId).containsExactly(7L, 8L);
+    }
+
+    @Test
+    @DisplayName("구간은 하한부터 상한까지 빈틈 없이 이어져 목록에 없는 ID 도 어느 구간에 속한다")
+    void coversBoundsWithoutGaps() {
+        // given
+        long[] ids = {5L, 6L, 40L, 41L, 300L, 900L};
+        long[] weights = {1L, 1L, 1L, 1L, 1L, 1L};
+
+        // when
+        List<ContentIdRange> ranges = QuantileRangeSplitter.split(ids, weights, 3, 1L, Long.MAX_VALUE);
+
+        // then
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).startContentId()).isEqualTo(1L);
+        assertThat(ranges.get(ranges.size() - 1).endContentId()).isEqualTo(Long.MAX_VALUE);
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).startContentId()).isEqualTo(ranges.get(i - 1).endContentId() + 1);
+        }
+        // 캐시에서 빠진 ID (구간 경계 사이, 첫 ID 이전, 마지막 ID 이후) 도 하나의 구간에 포함
+        for (long missingId : new long[]{1L, 20L, 100L, 1_000L}) {
+            assertThat(ranges).filteredOn(range ->
+                            range.startContentId() <= missingId && missingId <= range.endContentId())
+                    .hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("컨텐츠가 없으면 빈 목록을 반환한다")
+    void returnsEmptyForNoContent() {
+        assertThat(QuantileRangeSplitter.split(new long[0], new long[0], 4)).isEmpty();
+    }
+}
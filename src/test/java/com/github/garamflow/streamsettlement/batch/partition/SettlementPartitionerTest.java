@@ -1,5 +1,7 @@
 package com.github.garamflow.streamsettlement.batch.partition;
 
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.config.PartitionStrategy;
 import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsQuerydslRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,14 +12,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -25,22 +36,34 @@ class SettlementPartitionerTest {
     @Mock
     private ContentStatisticsQuerydslRepository contentStatisticsQuerydslRepository;
 
+    @Mock
+    private BatchProperties batchProperties;
+
+    @Mock
+    private JobRepository jobRepository;
+
     @InjectMocks
     private SettlementPartitioner partitioner;
 
     private final LocalDate targetDate = LocalDate.of(2024, 1, 1);
+    private final BatchProperties.Partition partitionProperties = new BatchProperties.Partition();
+    private StepExecution masterStepExecution;
 
     @BeforeEach
     void setUp() {
+        masterStepExecution = new StepExecution("daily-settlement-master-step",
+                new JobExecution(new JobInstance(1L, "daily-statistics-settlement-job"), 1L, new JobParameters()));
         ReflectionTestUtils.setField(partitioner, "targetDate", targetDate);
+        ReflectionTestUtils.setField(partitioner, "stepExecution", masterStepExecution);
+        when(batchProperties.getPartition()).thenReturn(partitionProperties);
     }
 
     @Test
     @DisplayName("데이터가 없을 때 빈 파티션 생성")
     void createEmptyPartitionWhenNoData() {
         // given
-        when(contentStatisticsQuerydslRepository.findMinIdByStatisticsDate(targetDate)).thenReturn(0L);
-        when(contentStatisticsQuerydslRepository.findMaxIdByStatisticsDate(targetDate)).thenReturn(0L);
+        when(contentStatisticsQuerydslRepository.findMinContentIdByStatisticsDate(targetDate)).thenReturn(0L);
+        when(contentStatisticsQuerydslRepository.findMaxContentIdByStatisticsDate(targetDate)).thenReturn(0L);
 
         // when
         Map<String, ExecutionContext> result = partitioner.partition(4);
@@ -51,8 +74,8 @@ class SettlementPartitionerTest {
                 .containsKey("settlement-partition0")
                 .satisfies(map -> {
                     ExecutionContext context = map.get("settlement-partition0");
-                    assertThat(context.getLong("startStatisticsId")).isZero();
-                    assertThat(context.getLong("endStatisticsId")).isZero();
+                    assertThat(context.getLong("startContentId")).isZero();
+                    assertThat(context.getLong("endContentId")).isZero();
                     assertThat(context.getString("targetDate")).isEqualTo(targetDate.toString());
                 });
     }
@@ -61,8 +84,8 @@ class SettlementPartitionerTest {
     @DisplayName("소량 데이터일 때 파티션 생성")
     void createPartitionsForSmallData() {
         // given
-        when(contentStatisticsQuerydslRepository.findMinIdByStatisticsDate(targetDate)).thenReturn(1L);
-        when(contentStatisticsQuerydslRepository.findMaxIdByStatisticsDate(targetDate)).thenReturn(5L);
+        when(contentStatisticsQuerydslRepository.findMinContentIdByStatisticsDate(targetDate)).thenReturn(1L);
+        when(contentStatisticsQuerydslRepository.findMaxContentIdByStatisticsDate(targetDate)).thenReturn(5L);
 
         // when
         Map<String, ExecutionContext> result = partitioner.partition(4);
@@ -78,18 +101,18 @@ class SettlementPartitionerTest {
                 .satisfies(map -> {
                     // 첫 번째 파티션 검증
                     ExecutionContext firstPartition = map.get("settlement-partition1");
-                    assertThat(firstPartition.getLong("startStatisticsId")).isEqualTo(1L);
-                    assertThat(firstPartition.getLong("endStatisticsId")).isEqualTo(2L);
+                    assertThat(firstPartition.getLong("startContentId")).isEqualTo(1L);
+                    assertThat(firstPartition.getLong("endContentId")).isEqualTo(2L);
 
                     // 두 번째 파티션 검증
                     ExecutionContext secondPartition = map.get("settlement-partition2");
-                    assertThat(secondPartition.getLong("startStatisticsId")).isEqualTo(3L);
-                    assertThat(secondPartition.getLong("endStatisticsId")).isEqualTo(4L);
+                    assertThat(secondPartition.getLong("startContentId")).isEqualTo(3L);
+                    assertThat(secondPartition.getLong("endContentId")).isEqualTo(4L);
 
                     // 세 번째 파티션 검증
                     ExecutionContext thirdPartition = map.get("settlement-partition3");
-                    assertThat(thirdPartition.getLong("startStatisticsId")).isEqualTo(5L);
-                    assertThat(thirdPartition.getLong("endStatisticsId")).isEqualTo(5L);
+                    assertThat(thirdPartition.getLong("startContentId")).isEqualTo(5L);
+                    assertThat(thirdPartition.getLong("endContentId")).isEqualTo(5L);
 
                     // 모든 파티션의 targetDate 검증
                     assertThat(map.values())
@@ -103,8 +126,8 @@ class SettlementPartitionerTest {
     @DisplayName("대량 데이터일 때 다중 파티션 생성")
     void createMultiplePartitionsForLargeData() {
         // given
-        when(contentStatisticsQuerydslRepository.findMinIdByStatisticsDate(targetDate)).thenReturn(1L);
-        when(contentStatisticsQuerydslRepository.findMaxIdByStatisticsDate(targetDate)).thenReturn(100L);
+        when(contentStatisticsQuerydslRepository.findMinContentIdByStatisticsDate(targetDate)).thenReturn(1L);
+        when(contentStatisticsQuerydslRepository.findMaxContentIdByStatisticsDate(targetDate)).thenReturn(100L);
 
         // when
         Map<String, ExecutionContext> result = partitioner.partition(4);
@@ -119,8 +142,8 @@ class SettlementPartitionerTest {
                         "settlement-partition4"
                 )
                 .allSatisfy((key, context) -> {
-                    assertThat(context.getLong("startStatisticsId")).isGreaterThanOrEqualTo(1L);
-                    assertThat(context.getLong("endStatisticsId")).isLessThanOrEqualTo(100L);
+                    assertThat(context.getLong("startContentId")).isGreaterThanOrEqualTo(1L);
+                    assertThat(context.getLong("endContentId")).isLessThanOrEqualTo(100L);
                     assertThat(context.getString("targetDate")).isEqualTo(targetDate.toString());
                 });
 
@@ -128,18 +151,18 @@ class SettlementPartitionerTest {
         ExecutionContext firstPartition = result.get("settlement-partition1");
         ExecutionContext lastPartition = result.get("settlement-partition4");
 
-        assertThat(firstPartition.getLong("startStatisticsId")).isEqualTo(1L);
-        assertThat(firstPartition.getLong("endStatisticsId")).isEqualTo(25L);
-        assertThat(lastPartition.getLong("startStatisticsId")).isEqualTo(76L);
-        assertThat(lastPartition.getLong("endStatisticsId")).isEqualTo(100L);
+        assertThat(firstPartition.getLong("startContentId")).isEqualTo(1L);
+        assertThat(firstPartition.getLong("endContentId")).isEqualTo(25L);
+        assertThat(lastPartition.getLong("startContentId")).isEqualTo(76L);
+        assertThat(lastPartition.getLong("endContentId")).isEqualTo(100L);
     }
 
     @Test
     @DisplayName("파티션 크기가 1 이상인지 확인")
     void ensureMinimumPartitionSize() {
         // given
-        when(contentStatisticsQuerydslRepository.findMinIdByStatisticsDate(targetDate)).thenReturn(1L);
-        when(contentStatisticsQuerydslRepository.findMaxIdByStatisticsDate(targetDate)).thenReturn(2L);
+        when(contentStatisticsQuerydslRepository.findMinContentIdByStatisticsDate(targetDate)).thenReturn(1L);
+        when(contentStatisticsQuerydslRepository.findMaxContentIdByStatisticsDate(targetDate)).thenReturn(2L);
 
         // when
         Map<String, ExecutionContext> result = partitioner.partition(4);
@@ -147,9 +170,59 @@ class SettlementPartitionerTest {
         // then
         assertThat(result.values())
                 .allSatisfy(context -> {
-                    long start = context.getLong("startStatisticsId");
-                    long end = context.getLong("endStatisticsId");
+                    long start = context.getLong("startContentId");
+                    long end = context.getLong("endContentId");
                     assertThat(end - start + 1).isGreaterThanOrEqualTo(1);
                 });
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("행 수 균등 분할은 당일 컨텐츠 ID 를 키셋으로 한 번 훑어 분위수 경계를 잡고 계획을 마스터 Step 에 저장한다")
+    void createBalancedPartitionsAndStorePlan() {
+        // given
+        partitionProperties.setSettlementStrategy(PartitionStrategy.QUANTILE);
+        when(batchProperties.getChunkSize()).thenReturn(4);
+        when(contentStatisticsQuerydslRepository.findMinContentIdByStatisticsDate(targetDate)).thenReturn(1L);
+        when(contentStatisticsQuerydslRepository.findMaxContentIdByStatisticsDate(targetDate)).thenReturn(1000L);
+        when(contentStatisticsQuerydslRepository.findContentIdsByStatisticsDate(targetDate, null, 4))
+                .thenReturn(List.of(1L, 5L, 10L, 20L));
+        when(contentStatisticsQuerydslRepository.findContentIdsByStatisticsDate(targetDate, 20L, 4))
+                .thenReturn(List.of(900L, 1000L));
+        when(contentStatisticsQuerydslRepository.findContentIdsByStatisticsDate(targetDate, 1000L, 4))
+                .thenReturn(List.of());
+
+        // when
+        Map<String, ExecutionContext> result = partitioner.partition(3);
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result.get("settlement-partition1").getLong("startContentId")).isEqualTo(1L);
+        assertThat(result.get("settlement-partition1").getLong("endContentId")).isEqualTo(5L);
+        assertThat(result.get("settlement-partition2").getLong("startContentId")).isEqualTo(6L);
+        assertThat(result.get("settlement-partition2").getLong("endContentId")).isEqualTo(20L);
+        assertThat(result.get("settlement-partition3").getLong("startContentId")).isEqualTo(21L);
+        assertThat(result.get("settlement-partition3").getLong("endContentId")).isEqualTo(1000L);
+        assertThat(masterStepExecution.getExecutionContext().getString(SettlementPartitioner.PARTITION_PLAN_KEY))
+                .isEqualTo("1:5,6:20,21:1000");
+        verify(jobRepository).updateExecutionContext(masterStepExecution);
+    }
+
+    @Test
+    @DisplayName("재시작 시 저장된 분할 계획을 그대로 재사용한다")
+    void reuseStoredPlanOnRestart() {
+        // given
+        masterStepExecution.getExecutionContext()
+                .putString(SettlementPartitioner.PARTITION_PLAN_KEY, "1:9,10:20");
+
+        // when
+        Map<String, ExecutionContext> result = partitioner.partition(4);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get("settlement-partition2").getLong("startContentId")).isEqualTo(10L);
+        assertThat(result.get("settlement-partition2").getLong("endContentId")).isEqualTo(20L);
+        verify(contentStatisticsQuerydslRepository, never()).findMinContentIdByStatisticsDate(targetDate);
+        verify(contentStatisticsQuerydslRepository, never())
+                .findContentIdsByStatisticsDate(eq(targetDate), any(), anyInt());
+    }
+}
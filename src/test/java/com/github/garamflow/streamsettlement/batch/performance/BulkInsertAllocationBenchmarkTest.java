@@ -0,0 +1,119 @@
+package com.github.garamflow.streamsettlement.batch.performance;
+
+import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
+import com.github.garamflow.streamsettlement.repository.common.BulkInsertable;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 벌크 삽입 파라미터 준비 할당량 벤치마크
+ * - 1M 행 기준 MapSqlParameterSource + 문자열 키 중복 제거 vs 위치 바인딩 + long 키 중복 제거
+ * - 기본 test 태스크에서 제외 (./gradlew performanceTest 로 실행)
+ */
+@Slf4j
+@Tag("performance")
+class BulkInsertAllocationBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final LocalDate SETTLEMENT_DATE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("1M 행 기준 파라미터 준비 할당량: MapSqlParameterSource + 문자열 키 vs 위치 바인딩 + long 키")
+    void measuresAllocationPerMillionRows() {
+        // given
+        List<Settlement> settlements = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            settlements.add(createSettlement(i, SETTLEMENT_DATE, i));
+        }
+        // 드라이버 비용을 제외하기 위한 빈 PreparedStatement (프록시 호출 자체의 할당은 '이후' 수치에 포함됨)
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> null);
+        JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+        when(jdbcOperations.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter setter = invocation.getArgument(1);
+                    for (int i = 0; i < setter.getBatchSize(); i++) {
+                        setter.setValues(ps, i);
+                    }
+                    return new int[0];
+                });
+
+        // when
+        long before = allocatedBytes(() -> {
+            Map<String, Settlement> unique = settlements.stream()
+                    .collect(Collectors.toMap(
+                            s -> s.getContentPostId() + "_" + s.getSettlementDate(),
+                            s -> s,
+                            (existing, replacement) -> existing));
+            MapSqlParameterSource[] sources = unique.values().stream()
+                    .map(s -> new MapSqlParameterSource()
+                            .addValue("contentPostId", s.getContentPostId())
+                            .addValue("contentRevenue", s.getContentRevenue())
+                            .addValue("adRevenue", s.getAdRevenue())
+                            .addValue("totalContentRevenue", s.getTotalContentRevenue())
+                            .addValue("totalAdRevenue", s.getTotalAdRevenue())
+                            .addValue("settlementDate", s.getSettlementDate())
+                            .addValue("status", s.getStatus().name()))
+                    .toArray(MapSqlParameterSource[]::new);
+            assertThat(sources).hasSize(ROWS);
+        });
+        long after = allocatedBytes(() -> {
+            List<Settlement> unique = BulkInsertable.distinctByKey(settlements,
+                    Settlement::getContentPostId, s -> s.getSettlementDate().toEpochDay());
+            BulkInsertable.batchUpdate(jdbcOperations, "INSERT", unique, (statement, s) -> {
+                statement.setLong(1, s.getContentPostId());
+                statement.setLong(2, s.getContentRevenue());
+                statement.setLong(3, s.getAdRevenue());
+                statement.setLong(4, s.getTotalContentRevenue());
+                statement.setLong(5, s.getTotalAdRevenue());
+                statement.setObject(6, s.getSettlementDate());
+                statement.setString(7, s.getStatus().name());
+            });
+        });
+
+        // then
+        log.info("Allocation per 1M rows - MapSqlParameterSource: {} MB, positional binding: {} MB",
+                before / (1024 * 1024), after / (1024 * 1024));
+        assertThat(after).isLessThan(before);
+    }
+
+    private long allocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    private Settlement createSettlement(Long contentId, LocalDate date, Long revenue) {
+        return Settlement.createBuilder()
+                .contentPostId(contentId)
+                .contentRevenue(revenue)
+                .adRevenue(revenue)
+                .totalContentRevenue(revenue)
+                .totalAdRevenue(revenue)
+                .settlementDate(date)
+                .build();
+    }
+}
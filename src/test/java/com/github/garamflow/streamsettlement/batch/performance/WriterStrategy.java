@@ -5,6 +5,7 @@ import com.github.garamflow.streamsettlement.batch.performance.util.PerformanceV
 import com.github.garamflow.streamsettlement.batch.writer.strategy.BulkJdbcWriter;
 import com.github.garamflow.streamsettlement.batch.writer.strategy.JdbcWriter;
 import com.github.garamflow.streamsettlement.batch.writer.strategy.JpaWriter;
+import com.github.garamflow.streamsettlement.batch.writer.strategy.LoadDataWriter;
 import com.github.garamflow.streamsettlement.entity.member.Member;
 import com.github.garamflow.streamsettlement.entity.member.Role;
 import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
@@ -47,6 +48,9 @@ class WriterPerformanceTest {
     @Autowired
     private BulkJdbcWriter bulkJdbcWriter;
 
+    @Autowired
+    private LoadDataWriter loadDataWriter;
+
     private static final List<Integer> DATA_SIZES = Arrays.asList(1000, 5000);
     private static final int TEST_ITERATIONS = 3;
 
@@ -72,11 +76,13 @@ class WriterPerformanceTest {
         executionTimes.add(measurePerformance(jpaWriter, "JPA Writer"));
         executionTimes.add(measurePerformance(jdbcWriter, "JDBC Writer"));
         executionTimes.add(measurePerformance(bulkJdbcWriter, "JDBC Bulk Writer"));
+        executionTimes.add(measurePerformance(loadDataWriter, "LOAD DATA Writer"));
 
         // 데드락 발생 횟수 측정 (실제 구현 필요)
         deadlockCounts.add(measureDeadlocks(jpaWriter, "JPA Writer"));
         deadlockCounts.add(measureDeadlocks(jdbcWriter, "JDBC Writer"));
         deadlockCounts.add(measureDeadlocks(bulkJdbcWriter, "JDBC Bulk Writer"));
+        deadlockCounts.add(measureDeadlocks(loadDataWriter, "LOAD DATA Writer"));
 
         // 결과 시각화
         visualizeResults(executionTimes, deadlockCounts);
@@ -114,7 +120,7 @@ class WriterPerformanceTest {
 
     private void visualizeResults(List<List<Double>> executionTimes, List<List<Double>> deadlockCounts)
             throws IOException {
-        List<String> seriesNames = Arrays.asList("JPA Writer", "JDBC Writer", "JDBC Bulk Writer");
+        List<String> seriesNames = Arrays.asList("JPA Writer", "JDBC Writer", "JDBC Bulk Writer", "LOAD DATA Writer");
 
         // 실행 시간 그래프
         PerformanceVisualizer.createPerformanceChart(
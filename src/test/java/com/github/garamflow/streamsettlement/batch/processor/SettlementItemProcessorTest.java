@@ -1,11 +1,9 @@
 package com.github.garamflow.streamsettlement.batch.processor;
 
 import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
+import com.github.garamflow.streamsettlement.batch.dto.SettlementSourceDto;
 import com.github.garamflow.streamsettlement.batch.dto.StatisticsAndCumulativeSettlementDto;
 import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
-import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
-import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
-import com.github.garamflow.streamsettlement.entity.stream.content.ContentPost;
 import lombok.Builder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -119,20 +117,12 @@ class SettlementItemProcessorTest {
     }
 
     private StatisticsAndCumulativeSettlementDto createTestData(TestDataBuilder builder) {
-        ContentPost contentPost = ContentPost.createBuilder()
-                .title("Test Content")
-                .url("http://test.com/" + builder.contentId)
-                .build();
-        ReflectionTestUtils.setField(contentPost, "id", builder.contentId);
-
-        ContentStatistics statistics = ContentStatistics.existingBuilder()
-                .contentPost(contentPost)
-                .statisticsDate(targetDate)
-                .period(StatisticsPeriod.DAILY)
-                .viewCount(builder.viewCount)
-                .watchTime(builder.watchTime)
-                .accumulatedViews(builder.accumulatedViews)
-                .build();
+        SettlementSourceDto statistics = new SettlementSourceDto(
+                builder.contentId,
+                builder.contentId,
+                builder.accumulatedViews,
+                builder.watchTime
+        );
 
         SettlementCalculationDto calculationDto = new SettlementCalculationDto(
                 builder.contentId,
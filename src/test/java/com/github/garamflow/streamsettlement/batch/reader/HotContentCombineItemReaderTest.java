@@ -0,0 +1,90 @@
+package com.github.garamflow.streamsettlement.batch.reader;
+
+import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.batch.tasklet.HotContentSliceTasklet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HotContentCombineItemReaderTest {
+
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @InjectMocks
+    private HotContentCombineItemReader reader;
+
+    private final LocalDate targetDate = LocalDate.of(2024, 1, 1);
+    private final JobInstance jobInstance = new JobInstance(1L, "daily-statistics-settlement-job");
+
+    @BeforeEach
+    void setUp() {
+        JobExecution current = new JobExecution(jobInstance, 2L, new JobParameters());
+        ReflectionTestUtils.setField(reader, "targetDate", targetDate);
+        ReflectionTestUtils.setField(reader, "hotContentIds", "7");
+        ReflectionTestUtils.setField(reader, "stepExecution", new StepExecution("daily-hot-content-combine-step", current));
+    }
+
+    @Test
+    @DisplayName("이전 실행에서 완료된 구간을 포함해 컨텐츠별 부분 합계를 합산한다")
+    void combinesCompletedSlicesAcrossExecutions() {
+        // given
+        JobExecution failed = new JobExecution(jobInstance, 1L, new JobParameters());
+        addSlice(failed, 10L, "partition1", BatchStatus.COMPLETED, 3L, 30L, 100L);
+        addSlice(failed, 11L, "partition2", BatchStatus.FAILED, 9L, 90L, 200L);
+
+        JobExecution restarted = new JobExecution(jobInstance, 2L, new JobParameters());
+        addSlice(restarted, 20L, "partition2", BatchStatus.COMPLETED, 4L, 40L, 200L);
+
+        when(jobExplorer.getJobExecutions(jobInstance)).thenReturn(List.of(failed, restarted));
+
+        // when
+        CumulativeStatisticsDto result = reader.read();
+        CumulativeStatisticsDto end = reader.read();
+
+        // then
+        assertThat(result).isEqualTo(new CumulativeStatisticsDto(100L, 7L, 7L, 70L, targetDate));
+        assertThat(end).isNull();
+    }
+
+    @Test
+    @DisplayName("핫 컨텐츠가 없으면 아무것도 읽지 않는다")
+    void returnsNullWithoutHotContents() {
+        // given
+        ReflectionTestUtils.setField(reader, "hotContentIds", "");
+
+        // when
+        CumulativeStatisticsDto result = reader.read();
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    private void addSlice(JobExecution jobExecution, Long id, String partition, BatchStatus status,
+                          long views, long watchTime, long minLogId) {
+        StepExecution slice = jobExecution.createStepExecution(HotContentSliceTasklet.STEP_NAME + ":" + partition);
+        slice.setId(id);
+        slice.setStatus(status);
+        slice.getExecutionContext().putLong(HotContentSliceTasklet.HOT_CONTENT_ID_KEY, 7L);
+        slice.getExecutionContext().putLong(HotContentSliceTasklet.PARTIAL_VIEWS_KEY, views);
+        slice.getExecutionContext().putLong(HotContentSliceTasklet.PARTIAL_WATCH_TIME_KEY, watchTime);
+        slice.getExecutionContext().putLong(HotContentSliceTasklet.PARTIAL_MIN_LOG_ID_KEY, minLogId);
+    }
+}
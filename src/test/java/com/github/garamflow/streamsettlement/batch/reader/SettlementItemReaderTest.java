@@ -2,10 +2,9 @@ package com.github.garamflow.streamsettlement.batch.reader;
 
 import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
 import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
+import com.github.garamflow.streamsettlement.batch.dto.SettlementSourceDto;
 import com.github.garamflow.streamsettlement.batch.dto.StatisticsAndCumulativeSettlementDto;
-import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
-import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
-import com.github.garamflow.streamsettlement.entity.stream.content.ContentPost;
+import com.github.garamflow.streamsettlement.batch.reader.support.HeapOccupancyMonitor;
 import com.github.garamflow.streamsettlement.repository.settlement.SettlementQuerydslRepository;
 import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsQuerydslRepository;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -44,6 +43,9 @@ class SettlementItemReaderTest {
     @Mock
     private BatchProperties.Reader readerProperties;
 
+    @Mock
+    private HeapOccupancyMonitor heapOccupancyMonitor;
+
     @InjectMocks
     private SettlementItemReader reader;
 
@@ -68,11 +70,11 @@ class SettlementItemReaderTest {
     @DisplayName("정상적인 데이터 읽기")
     void readNormalData() throws Exception {
         // given
-        List<ContentStatistics> statistics = createTestStatistics(1L, 5L);
+        List<SettlementSourceDto> statistics = createTestStatistics(1L, 5L);
         Map<Long, SettlementCalculationDto> settlements = createTestSettlements(1L, 5L);
 
-        when(contentStatisticsQuerydslRepository.findByIdGreaterThanAndStatisticsDate(
-                anyLong(), eq(targetDate), anyInt()))
+        when(contentStatisticsQuerydslRepository.findSettlementSources(
+                anyLong(), anyLong(), anyLong(), eq(targetDate), anyInt()))
                 .thenReturn(statistics)
                 .thenReturn(Collections.emptyList());
 
@@ -85,10 +87,10 @@ class SettlementItemReaderTest {
             StatisticsAndCumulativeSettlementDto result = reader.read();
             assertThat(result).isNotNull()
                     .satisfies(dto -> {
-                        ContentPost contentPost = dto.statistics().getContentPost();
+                        SettlementSourceDto source = dto.statistics();
                         SettlementCalculationDto settlement = dto.cumulativeSettlementDto();
 
-                        assertThat(contentPost.getId()).isEqualTo(counter.get() + 1);
+                        assertThat(source.contentId()).isEqualTo(counter.get() + 1);
                         assertThat(settlement.contentId()).isEqualTo(counter.get() + 1);
                         assertThat(settlement.totalContentRevenue()).isGreaterThan(0L);
                         assertThat(settlement.totalAdRevenue()).isGreaterThan(0L);
@@ -102,10 +104,10 @@ class SettlementItemReaderTest {
     @DisplayName("이전 정산 데이터가 없는 경우")
     void readWithNoSettlementData() throws Exception {
         // given
-        List<ContentStatistics> statistics = createTestStatistics(1L, 3L);
+        List<SettlementSourceDto> statistics = createTestStatistics(1L, 3L);
 
-        when(contentStatisticsQuerydslRepository.findByIdGreaterThanAndStatisticsDate(
-                anyLong(), eq(targetDate), anyInt()))
+        when(contentStatisticsQuerydslRepository.findSettlementSources(
+                anyLong(), anyLong(), anyLong(), eq(targetDate), anyInt()))
                 .thenReturn(statistics)
                 .thenReturn(Collections.emptyList());
 
@@ -118,8 +120,8 @@ class SettlementItemReaderTest {
         // then
         assertThat(result).isNotNull()
                 .satisfies(dto -> {
-                    assertThat(dto.statistics().getViewCount()).isEqualTo(100L);
-                    assertThat(dto.statistics().getWatchTime()).isEqualTo(1000L);
+                    assertThat(dto.statistics().accumulatedViews()).isEqualTo(1000L);
+                    assertThat(dto.statistics().watchTime()).isEqualTo(1000L);
                 });
     }
 
@@ -127,8 +129,8 @@ class SettlementItemReaderTest {
     @DisplayName("빈 데이터 처리")
     void handleEmptyData() throws Exception {
         // given
-        when(contentStatisticsQuerydslRepository.findByIdGreaterThanAndStatisticsDate(
-                anyLong(), eq(targetDate), anyInt()))
+        when(contentStatisticsQuerydslRepository.findSettlementSources(
+                anyLong(), anyLong(), anyLong(), eq(targetDate), anyInt()))
                 .thenReturn(Collections.emptyList());
 
         // when
@@ -138,27 +140,38 @@ class SettlementItemReaderTest {
         assertThat(result).isNull();
     }
 
-    private List<ContentStatistics> createTestStatistics(Long startId, Long endId) {
-        List<ContentStatistics> statistics = new ArrayList<>();
+    @Test
+    @DisplayName("파티션 컨텐츠 범위 안에서 (컨텐츠 ID, 통계 ID) 키셋으로 이어서 조회")
+    void readsPartitionContentRangeByKeyset() throws Exception {
+        // given
+        ReflectionTestUtils.setField(reader, "startContentId", 1L);
+        ReflectionTestUtils.setField(reader, "endContentId", 20L);
+        reader.init();
+
+        when(contentStatisticsQuerydslRepository.findSettlementSources(
+                eq(0L), eq(Long.MAX_VALUE), eq(20L), eq(targetDate), anyInt()))
+                .thenReturn(createTestStatistics(1L, 2L));
+        when(contentStatisticsQuerydslRepository.findSettlementSources(
+                eq(2L), eq(2L), eq(20L), eq(targetDate), anyInt()))
+                .thenReturn(Collections.emptyList());
+        when(settlementQuerydslRepository.findCumulativeSettlementsByContentIds(anyList(), eq(targetDate)))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        StatisticsAndCumulativeSettlementDto first = reader.read();
+        StatisticsAndCumulativeSettlementDto second = reader.read();
+        StatisticsAndCumulativeSettlementDto third = reader.read();
+
+        // then
+        assertThat(first.statistics().contentId()).isEqualTo(1L);
+        assertThat(second.statistics().contentId()).isEqualTo(2L);
+        assertThat(third).isNull();
+    }
+
+    private List<SettlementSourceDto> createTestStatistics(Long startId, Long endId) {
+        List<SettlementSourceDto> statistics = new ArrayList<>();
         for (long i = startId; i <= endId; i++) {
-            ContentPost contentPost = ContentPost.createBuilder()
-                    .title("테스트 콘텐츠 " + i)
-                    .url("http://test.com/" + i)
-                    .build();
-            ReflectionTestUtils.setField(contentPost, "id", i);
-            ReflectionTestUtils.setField(contentPost, "totalViews", 1000L);
-
-            ContentStatistics stat = ContentStatistics.existingBuilder()
-                    .contentPost(contentPost)
-                    .statisticsDate(targetDate)
-                    .period(StatisticsPeriod.DAILY)
-                    .viewCount(100L)
-                    .watchTime(1000L)
-                    .accumulatedViews(1000L)
-                    .build();
-            ReflectionTestUtils.setField(stat, "id", i);
-
-            statistics.add(stat);
+            statistics.add(new SettlementSourceDto(i, i, 1000L, 1000L));
         }
         return statistics;
     }
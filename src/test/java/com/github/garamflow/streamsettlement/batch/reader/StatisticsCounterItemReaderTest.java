@@ -0,0 +1,106 @@
+package com.github.garamflow.streamsettlement.batch.reader;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService;
+import com.github.garamflow.streamsettlement.service.cache.DailyStatisticsCounterService.DailyCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StatisticsCounterItemReaderTest {
+
+    @Mock
+    private DailyWatchedContentQuerydslRepository dailyWatchedContentRepository;
+
+    @Mock
+    private DailyStatisticsCounterService dailyStatisticsCounterService;
+
+    @Mock
+    private BatchProperties batchProperties;
+
+    @InjectMocks
+    private StatisticsCounterItemReader reader;
+
+    private final LocalDate targetDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reader, "targetDate", targetDate);
+        ReflectionTestUtils.setField(reader, "startContentId", 1L);
+        ReflectionTestUtils.setField(reader, "endContentId", 10L);
+        ReflectionTestUtils.setField(reader, "meterRegistry", new SimpleMeterRegistry());
+        when(batchProperties.getChunkSize()).thenReturn(10);
+    }
+
+    @Test
+    @DisplayName("카운터가 있는 컨텐츠는 카운터를, 없는 컨텐츠는 SQL 집계를 사용한다")
+    void usesCountersAndFallsBackPerContent() {
+        // given
+        when(dailyStatisticsCounterService.isTrackedFor(targetDate)).thenReturn(true);
+        reader.init();
+
+        when(dailyWatchedContentRepository.findContentIdsByWatchedDate(eq(targetDate), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(Collections.emptyList());
+        when(dailyStatisticsCounterService.getCounters(targetDate, List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, new DailyCounter(5L, 300L)));
+        CumulativeStatisticsDto fallback = new CumulativeStatisticsDto(7L, 2L, 3L, 90L, targetDate);
+        when(dailyWatchedContentRepository.findDailyWatchedContentForStatistics(List.of(2L), targetDate))
+                .thenReturn(List.of(fallback));
+
+        // when
+        CumulativeStatisticsDto first = reader.read();
+        CumulativeStatisticsDto second = reader.read();
+        CumulativeStatisticsDto end = reader.read();
+
+        // then
+        assertThat(first.contentId()).isEqualTo(1L);
+        assertThat(first.totalViews()).isEqualTo(5L);
+        assertThat(first.totalWatchTime()).isEqualTo(300L);
+        assertThat(second).isEqualTo(fallback);
+        assertThat(end).isNull();
+    }
+
+    @Test
+    @DisplayName("날짜 단위 검증에 실패하면 카운터를 조회하지 않고 SQL 집계를 사용한다")
+    void fallsBackWhenValidationFails() {
+        // given
+        when(dailyStatisticsCounterService.isTrackedFor(targetDate)).thenReturn(false);
+        reader.init();
+
+        when(dailyWatchedContentRepository.findContentIdsByWatchedDate(eq(targetDate), anyLong(), anyInt()))
+                .thenReturn(List.of(1L))
+                .thenReturn(Collections.emptyList());
+        CumulativeStatisticsDto aggregated = new CumulativeStatisticsDto(1L, 1L, 2L, 60L, targetDate);
+        when(dailyWatchedContentRepository.findDailyWatchedContentForStatistics(List.of(1L), targetDate))
+                .thenReturn(List.of(aggregated));
+
+        // when
+        CumulativeStatisticsDto result = reader.read();
+
+        // then
+        assertThat(result).isEqualTo(aggregated);
+        verify(dailyStatisticsCounterService, never()).getCounters(any(), anyList());
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.garamflow.streamsettlement.batch.reader;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.batch.reader.StatisticsCursorItemReader.WatchLogRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StatisticsCursorItemReaderTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private BatchProperties batchProperties;
+
+    @InjectMocks
+    private StatisticsCursorItemReader reader;
+
+    private JdbcCursorItemReader<WatchLogRow> delegate;
+
+    private final LocalDate targetDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(reader, "targetDate", targetDate);
+        delegate = mock(JdbcCursorItemReader.class);
+        ReflectionTestUtils.setField(reader, "delegate", delegate);
+    }
+
+    @Test
+    @DisplayName("컨텐츠 경계마다 조회수와 시청시간을 집계하여 반환한다")
+    void aggregatesPerContentBoundary() throws Exception {
+        // given
+        when(delegate.read()).thenReturn(
+                new WatchLogRow(10L, 1L, 100L),
+                new WatchLogRow(11L, 1L, 50L),
+                new WatchLogRow(5L, 1L, 10L),
+                new WatchLogRow(12L, 2L, 30L),
+                null
+        );
+
+        // when
+        CumulativeStatisticsDto first = reader.read();
+        CumulativeStatisticsDto second = reader.read();
+        CumulativeStatisticsDto end = reader.read();
+
+        // then
+        assertThat(first).isEqualTo(new CumulativeStatisticsDto(5L, 1L, 3L, 160L, targetDate));
+        assertThat(second).isEqualTo(new CumulativeStatisticsDto(12L, 2L, 1L, 30L, targetDate));
+        assertThat(end).isNull();
+    }
+
+    @Test
+    @DisplayName("로그가 없으면 null 을 반환한다")
+    void returnsNullWhenNoLogs() throws Exception {
+        // given
+        when(delegate.read()).thenReturn(null);
+
+        // when
+        CumulativeStatisticsDto result = reader.read();
+
+        // then
+        assertThat(result).isNull();
+    }
+}
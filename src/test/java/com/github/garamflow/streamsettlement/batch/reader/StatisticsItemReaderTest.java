@@ -2,7 +2,9 @@ package com.github.garamflow.streamsettlement.batch.reader;
 
 import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
 import com.github.garamflow.streamsettlement.batch.dto.CumulativeStatisticsDto;
+import com.github.garamflow.streamsettlement.batch.reader.support.HeapOccupancyMonitor;
 import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,9 @@ class StatisticsItemReaderTest {
     @Mock
     private BatchProperties.Reader readerProperties;
 
+    @Mock
+    private HeapOccupancyMonitor heapOccupancyMonitor;
+
     @InjectMocks
     private StatisticsItemReader reader;
 
@@ -47,6 +52,7 @@ class StatisticsItemReaderTest {
         ReflectionTestUtils.setField(reader, "targetDate", targetDate);
         ReflectionTestUtils.setField(reader, "startContentId", 0L);
         ReflectionTestUtils.setField(reader, "endContentId", 100L);
+        ReflectionTestUtils.setField(reader, "meterRegistry", new SimpleMeterRegistry());
         when(batchProperties.getReader()).thenReturn(readerProperties);
         when(readerProperties.getQueueCapacity()).thenReturn(100);
 
@@ -58,6 +64,7 @@ class StatisticsItemReaderTest {
     void readSuccess() throws Exception {
         // given
         when(batchProperties.getChunkSize()).thenReturn(10);
+        reader.init();  // 청크 크기가 초기 조회 크기
         
         // 첫 번째 호출에서만 데이터 반환, 두 번째 호출에서는 빈 리스트 반환
         when(dailyWatchedContentRepository.findContentIdsByWatchedDate(
@@ -84,6 +91,7 @@ class StatisticsItemReaderTest {
     void readEmptyData() throws Exception {
         // given
         when(batchProperties.getChunkSize()).thenReturn(10);
+        reader.init();  // 청크 크기가 초기 조회 크기
         when(dailyWatchedContentRepository.findContentIdsByWatchedDate(
                 eq(targetDate), any(Long.class), anyInt()))
                 .thenReturn(Collections.emptyList());
@@ -0,0 +1,113 @@
+package com.github.garamflow.streamsettlement.batch.reader.support;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveFetchSizeControllerTest {
+
+    private static final long FAST = 10_000_000L;    // 10ms
+    private static final long SLOW = 1_000_000_000L; // 1s
+
+    private final BatchProperties.Reader properties = new BatchProperties.Reader();
+    private final AtomicReference<Double> occupancy = new AtomicReference<>(0.0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveFetchSizeController controller;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMinFetchSize(100);
+        properties.setMaxFetchSize(1000);
+        properties.setBackPressureDelay(0L);
+        properties.setHighMemoryThreshold(80);
+        properties.setMediumMemoryThreshold(60);
+        properties.setTargetFetchLatencyMs(500L);
+        controller = new AdaptiveFetchSizeController("test-reader", properties, 400, meterRegistry, occupancy::get);
+    }
+
+    @Test
+    @DisplayName("메모리 여유가 있고 조회가 빠르면 최대 조회 크기까지 늘린다")
+    void growsUpToMaxWhenThereIsHeadroom() throws Exception {
+        // when
+        int first = controller.afterFetch(FAST);
+        for (int i = 0; i < 20; i++) {
+            controller.afterFetch(FAST);
+        }
+
+        // then
+        assertThat(first).isEqualTo(500);
+        assertThat(controller.currentFetchSize()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("GC 후 힙 점유율이 높은 기준을 넘으면 절반으로 줄이되 최소 조회 크기는 유지한다")
+    void halvesOnHighMemoryDownToMin() throws Exception {
+        // given
+        occupancy.set(85.0);
+
+        // when
+        int first = controller.afterFetch(FAST);
+        controller.afterFetch(FAST);
+        controller.afterFetch(FAST);
+
+        // then
+        assertThat(first).isEqualTo(200);
+        assertThat(controller.currentFetchSize()).isEqualTo(100);
+        assertThat(meterRegistry.get("batch.reader.fetch-size.adjustments")
+                .tag("direction", "shrink").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("중간 메모리 기준 이상이거나 조회가 목표보다 느리면 25% 줄인다")
+    void shrinksOnMediumMemoryOrSlowFetch() throws Exception {
+        // when
+        int slow = controller.afterFetch(SLOW);
+        occupancy.set(65.0);
+        int medium = controller.afterFetch(FAST);
+
+        // then
+        assertThat(slow).isEqualTo(300);
+        assertThat(medium).isEqualTo(225);
+    }
+
+    @Test
+    @DisplayName("조회 크기 게이지는 레지스트리마다 파티션 태그로 따로 등록된다")
+    void registersFetchSizeGaugePerRegistryAndPartition() throws Exception {
+        // given
+        SimpleMeterRegistry otherRegistry = new SimpleMeterRegistry();
+        AdaptiveFetchSizeController partition1 = createInStep("daily-statistics-step:partition1", otherRegistry);
+        AdaptiveFetchSizeController partition2 = createInStep("daily-statistics-step:partition2", otherRegistry);
+
+        // when
+        partition1.afterFetch(SLOW);
+        partition2.afterFetch(FAST);
+
+        // then
+        assertThat(meterRegistry.get("batch.reader.fetch-size").tag("partition", "none").gauge().value())
+                .isEqualTo(400.0);
+        assertThat(otherRegistry.get("batch.reader.fetch-size").tag("partition", "partition1").gauge().value())
+                .isEqualTo(300.0);
+        assertThat(otherRegistry.get("batch.reader.fetch-size").tag("partition", "partition2").gauge().value())
+                .isEqualTo(500.0);
+    }
+
+    private AdaptiveFetchSizeController createInStep(String stepName, SimpleMeterRegistry registry) {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution(stepName, 1L);
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            return new AdaptiveFetchSizeController("test-reader", properties, 400, registry, occupancy::get);
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+}
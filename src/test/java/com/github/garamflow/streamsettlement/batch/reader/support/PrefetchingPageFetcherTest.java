@@ -0,0 +1,62 @@
+package com.github.garamflow.streamsettlement.batch.reader.support;
+
+import com.github.garamflow.streamsettlement.exception.BatchProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrefetchingPageFetcherTest {
+
+    @Test
+    @DisplayName("선조회한 페이지를 순서대로 반환하고 빈 페이지에서 종료한다")
+    void returnsPagesInOrderUntilEmptyPage() {
+        // given
+        Iterator<List<Integer>> pages = List.of(List.of(1, 2), List.of(3), List.<Integer>of()).iterator();
+        PrefetchingPageFetcher<Integer> fetcher = new PrefetchingPageFetcher<>(
+                "test", pages::next, 1, new SimpleMeterRegistry());
+
+        // when
+        List<Integer> result = new ArrayList<>();
+        Integer item;
+        while ((item = fetcher.next()) != null) {
+            result.add(item);
+        }
+
+        // then
+        assertThat(result).containsExactly(1, 2, 3);
+        assertThat(fetcher.next()).isNull();
+        fetcher.close();
+    }
+
+    @Test
+    @DisplayName("생산자 조회 실패는 소비 스레드에서 다시 던진다")
+    void rethrowsProducerFailureOnConsumer() {
+        // given
+        PrefetchingPageFetcher<Integer> fetcher = new PrefetchingPageFetcher<>(
+                "test", () -> {
+                    throw new IOException("db down");
+                }, 2, new SimpleMeterRegistry());
+
+        // when & then
+        assertThatThrownBy(fetcher::next)
+                .isInstanceOf(BatchProcessingException.class)
+                .hasCauseInstanceOf(IOException.class);
+        fetcher.close();
+    }
+
+    @Test
+    @DisplayName("큐 용량을 페이지 수로 환산한다")
+    void convertsQueueCapacityToPages() {
+        assertThat(PrefetchingPageFetcher.pagesFor(1000, 100)).isEqualTo(10);
+        assertThat(PrefetchingPageFetcher.pagesFor(1, 100)).isEqualTo(1);
+        assertThat(PrefetchingPageFetcher.pagesFor(100, 0)).isEqualTo(100);
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.garamflow.streamsettlement.batch.writer;
+
+import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
+import com.github.garamflow.streamsettlement.batch.processor.SettlementItemProcessor;
+import com.github.garamflow.streamsettlement.domain.AdRevenueRange;
+import com.github.garamflow.streamsettlement.domain.ContentRevenueRange;
+import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
+import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import com.github.garamflow.streamsettlement.entity.stream.content.ContentPost;
+import com.github.garamflow.streamsettlement.repository.settlement.SettlementQuerydslRepository;
+import com.github.garamflow.streamsettlement.repository.settlement.SettlementRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.item.Chunk;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FusedStatisticsSettlementItemWriterTest {
+
+    @Mock
+    private ContentStatisticsRepository contentStatisticsRepository;
+
+    @Mock
+    private SettlementQuerydslRepository settlementQuerydslRepository;
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    private FusedStatisticsSettlementItemWriter writer;
+
+    private final LocalDate targetDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        SettlementItemProcessor processor = new SettlementItemProcessor();
+        ReflectionTestUtils.setField(processor, "targetDate", targetDate);
+
+        writer = new FusedStatisticsSettlementItemWriter(
+                contentStatisticsRepository, settlementQuerydslRepository, settlementRepository, processor);
+        ReflectionTestUtils.setField(writer, "targetDate", targetDate);
+    }
+
+    @Test
+    @DisplayName("통계를 저장하고 같은 청크로 이전 누적 정산을 반영한 정산을 저장한다")
+    void writesStatisticsAndSettlements() throws Exception {
+        // given
+        ContentStatistics first = createContentStatistics(1L, 5_000L, 2_000L);
+        ContentStatistics second = createContentStatistics(2L, 300L, 100L);
+        Chunk<ContentStatistics> chunk = new Chunk<>(List.of(first, second));
+
+        when(settlementQuerydslRepository.findCumulativeSettlementsByContentIds(List.of(1L, 2L), targetDate))
+                .thenReturn(List.of(new SettlementCalculationDto(1L, 100L, 50L)));
+
+        // when
+        writer.write(chunk);
+
+        // then
+        verify(contentStatisticsRepository).bulkInsert(List.of(first, second));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Settlement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(settlementRepository).bulkInsert(captor.capture());
+        List<Settlement> settlements = captor.getValue();
+
+        assertThat(settlements).hasSize(2);
+        assertThat(settlements.get(0).getContentPostId()).isEqualTo(1L);
+        assertThat(settlements.get(0).getSettlementDate()).isEqualTo(targetDate);
+        assertThat(settlements.get(0).getTotalContentRevenue())
+                .isEqualTo(ContentRevenueRange.calculateTotalRevenue(5_000L));
+        assertThat(settlements.get(0).getContentRevenue())
+                .isEqualTo(Math.max(0, ContentRevenueRange.calculateTotalRevenue(5_000L) - 100L));
+        assertThat(settlements.get(0).getAdRevenue())
+                .isEqualTo(Math.max(0, AdRevenueRange.calculateTotalRevenue(2_000L) - 50L));
+        assertThat(settlements.get(1).getContentPostId()).isEqualTo(2L);
+        assertThat(settlements.get(1).getContentRevenue())
+                .isEqualTo(ContentRevenueRange.calculateTotalRevenue(300L));
+    }
+
+    @Test
+    @DisplayName("빈 청크는 정산 조회 없이 통계 저장만 위임한다")
+    void skipsSettlementForEmptyChunk() throws Exception {
+        // given
+        Chunk<ContentStatistics> chunk = new Chunk<>();
+
+        // when
+        writer.write(chunk);
+
+        // then
+        verify(contentStatisticsRepository).bulkInsert(List.of());
+        verify(settlementQuerydslRepository, never()).findCumulativeSettlementsByContentIds(any(), any());
+        verify(settlementRepository, never()).bulkInsert(any());
+    }
+
+    private ContentStatistics createContentStatistics(Long contentId, long accumulatedViews, long watchTime) {
+        ContentPost contentPost = ContentPost.existingBuilder()
+                .title("테스트 콘텐츠 " + contentId)
+                .url("http://test.com/" + contentId)
+                .build();
+        ReflectionTestUtils.setField(contentPost, "id", contentId);
+
+        return ContentStatistics.existingBuilder()
+                .contentPost(contentPost)
+                .statisticsDate(targetDate)
+                .period(StatisticsPeriod.DAILY)
+                .viewCount(100L)
+                .watchTime(watchTime)
+                .accumulatedViews(accumulatedViews)
+                .build();
+    }
+}
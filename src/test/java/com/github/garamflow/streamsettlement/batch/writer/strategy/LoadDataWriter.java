@@ -0,0 +1,22 @@
+package com.github.garamflow.streamsettlement.batch.writer.strategy;
+
+import com.github.garamflow.streamsettlement.batch.performance.WriterStrategy;
+import com.github.garamflow.streamsettlement.entity.statistics.ContentStatistics;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class LoadDataWriter implements WriterStrategy {
+
+    private final ContentStatisticsRepository contentStatisticsRepository;
+
+    @Override
+    public void write(List<ContentStatistics> statistics) {
+        // LOAD DATA LOCAL INFILE 로 스테이징 테이블 적재 후 INSERT ... SELECT 병합
+        contentStatisticsRepository.bulkLoad(statistics);
+    }
+}
@@ -23,7 +23,7 @@ public class TestConfig {
     @Bean
     @Primary
     public ViewCountSyncScheduler viewCountSyncScheduler() {
-        return new ViewCountSyncScheduler(null, null) {
+        return new ViewCountSyncScheduler(null, null, null) {
             @Override
             public void syncContentViewCountsToDatabase() {
                 // 아무 동작도 하지 않음
@@ -0,0 +1,59 @@
+package com.github.garamflow.streamsettlement.repository.common;
+
+import com.github.garamflow.streamsettlement.entity.settlement.Settlement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkInsertableTest {
+
+    private static final LocalDate SETTLEMENT_DATE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("복합 키 중복 제거는 먼저 나온 항목을 유지하고 순서를 보존한다")
+    void distinctByKeyKeepsFirstInOrder() {
+        // given
+        Settlement first = createSettlement(1L, SETTLEMENT_DATE, 100L);
+        Settlement other = createSettlement(2L, SETTLEMENT_DATE, 200L);
+        Settlement duplicate = createSettlement(1L, SETTLEMENT_DATE, 300L);
+        Settlement nextDay = createSettlement(1L, SETTLEMENT_DATE.plusDays(1), 400L);
+
+        // when
+        List<Settlement> result = BulkInsertable.distinctByKey(List.of(first, other, duplicate, nextDay),
+                Settlement::getContentPostId, s -> s.getSettlementDate().toEpochDay());
+
+        // then
+        assertThat(result).containsExactly(first, other, nextDay);
+    }
+
+    @Test
+    @DisplayName("중복이 없으면 원본 목록을 그대로 반환한다")
+    void distinctByKeyReturnsSameListWithoutDuplicates() {
+        // given
+        List<Settlement> settlements = List.of(
+                createSettlement(1L, SETTLEMENT_DATE, 100L),
+                createSettlement(2L, SETTLEMENT_DATE, 200L));
+
+        // when
+        List<Settlement> result = BulkInsertable.distinctByKey(settlements,
+                Settlement::getContentPostId, s -> s.getSettlementDate().toEpochDay());
+
+        // then
+        assertThat(result).isSameAs(settlements);
+    }
+
+    private Settlement createSettlement(Long contentId, LocalDate date, Long revenue) {
+        return Settlement.createBuilder()
+                .contentPostId(contentId)
+                .contentRevenue(revenue)
+                .adRevenue(revenue)
+                .totalContentRevenue(revenue)
+                .totalAdRevenue(revenue)
+                .settlementDate(date)
+                .build();
+    }
+}
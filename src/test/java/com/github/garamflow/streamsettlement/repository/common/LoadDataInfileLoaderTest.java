@@ -0,0 +1,42 @@
+package com.github.garamflow.streamsettlement.repository.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadDataInfileLoaderTest {
+
+    @Test
+    @DisplayName("아이템을 LOAD DATA 기본 형식의 TSV 행으로 변환한다")
+    void encodesItemsAsTsvRows() throws IOException {
+        // given
+        List<Object[]> rows = List.of(
+                new Object[]{1L, LocalDate.of(2024, 1, 1), "DAILY", 10L},
+                new Object[]{2L, null, "a\tb\\c\nd", 0L}
+        );
+
+        // when
+        byte[] tsv = new LoadDataInfileLoader.TsvInputStream<>(rows.iterator(), row -> row).readAllBytes();
+
+        // then
+        assertThat(new String(tsv, StandardCharsets.UTF_8)).isEqualTo(
+                "1\t2024-01-01\tDAILY\t10\n"
+                        + "2\t\\N\ta\\tb\\\\c\\nd\t0\n");
+    }
+
+    @Test
+    @DisplayName("아이템이 없으면 빈 스트림이다")
+    void emptyItemsProduceEmptyStream() throws IOException {
+        // when
+        int first = new LoadDataInfileLoader.TsvInputStream<Object[]>(List.<Object[]>of().iterator(), row -> row).read();
+
+        // then
+        assertThat(first).isEqualTo(-1);
+    }
+}
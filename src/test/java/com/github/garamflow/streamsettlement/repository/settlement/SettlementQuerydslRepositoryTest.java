@@ -0,0 +1,107 @@
+package com.github.garamflow.streamsettlement.repository.settlement;
+
+import com.github.garamflow.streamsettlement.batch.dto.SettlementCalculationDto;
+import com.github.garamflow.streamsettlement.entity.settlement.SettlementLatest;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SettlementQuerydslRepositoryTest {
+
+    @Mock
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Mock
+    private SettlementLatestRepository settlementLatestRepository;
+
+    @InjectMocks
+    private SettlementQuerydslRepository settlementQuerydslRepository;
+
+    private final LocalDate targetDate = LocalDate.of(2024, 1, 10);
+
+    @Test
+    @DisplayName("최신 누적 정산 프로젝션으로 이전 누적 정산을 PK 조회만으로 계산한다")
+    void resolvesFromLatestProjection() {
+        // given
+        List<Long> contentIds = List.of(1L, 2L, 3L);
+        when(settlementLatestRepository.findAllById(contentIds)).thenReturn(List.of(
+                // 대상 날짜 이전이 최신
+                createLatest(1L, targetDate.minusDays(1), 500L, 300L, targetDate.minusDays(2), 400L, 200L),
+                // 대상 날짜 재처리: 직전 값 사용
+                createLatest(2L, targetDate, 900L, 700L, targetDate.minusDays(1), 800L, 600L),
+                // 대상 날짜 정산만 존재: 이전 정산 없음
+                createLatest(3L, targetDate, 100L, 50L, null, null, null)
+        ));
+
+        // when
+        List<SettlementCalculationDto> result =
+                settlementQuerydslRepository.findCumulativeSettlementsByContentIds(contentIds, targetDate);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(
+                new SettlementCalculationDto(1L, 500L, 300L),
+                new SettlementCalculationDto(2L, 800L, 600L),
+                new SettlementCalculationDto(3L, 0L, 0L)
+        );
+        verifyNoInteractions(jpaQueryFactory);
+    }
+
+    @Test
+    @DisplayName("정산 이력을 반영하지 않은 프로젝션 행은 직전 정산이 없어도 정산 이력에서 조회한다")
+    void fallsBackToHistoryWhenLatestNotBackfilled() {
+        // given
+        List<Long> contentIds = List.of(1L);
+        // 배포 이후 처음 생성된 행: 직전 정산일은 null 이지만 settlement 에는 이전 날짜가 있음
+        SettlementLatest notBackfilled = SettlementLatest.existingBuilder()
+                .contentPostId(1L)
+                .settlementDate(targetDate)
+                .totalContentRevenue(900L)
+                .totalAdRevenue(700L)
+                .historyComplete(false)
+                .build();
+        when(settlementLatestRepository.findAllById(contentIds)).thenReturn(List.of(notBackfilled));
+
+        JPAQuery<SettlementCalculationDto> query = mock(JPAQuery.class, RETURNS_SELF);
+        when(jpaQueryFactory.select(any(Expression.class))).thenReturn(query);
+        when(query.fetch()).thenReturn(List.of(new SettlementCalculationDto(1L, 800L, 600L)));
+
+        // when
+        List<SettlementCalculationDto> result =
+                settlementQuerydslRepository.findCumulativeSettlementsByContentIds(contentIds, targetDate);
+
+        // then
+        assertThat(result).containsExactly(new SettlementCalculationDto(1L, 800L, 600L));
+        verify(query).fetch();
+    }
+
+    private SettlementLatest createLatest(Long contentId, LocalDate date, Long totalContentRevenue, Long totalAdRevenue,
+                                          LocalDate previousDate, Long previousContentRevenue, Long previousAdRevenue) {
+        return SettlementLatest.existingBuilder()
+                .contentPostId(contentId)
+                .settlementDate(date)
+                .totalContentRevenue(totalContentRevenue)
+                .totalAdRevenue(totalAdRevenue)
+                .previousSettlementDate(previousDate)
+                .previousTotalContentRevenue(previousContentRevenue)
+                .previousTotalAdRevenue(previousAdRevenue)
+                .historyComplete(true)
+                .build();
+    }
+}
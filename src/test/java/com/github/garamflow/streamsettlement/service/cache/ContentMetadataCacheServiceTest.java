@@ -0,0 +1,154 @@
+package com.github.garamflow.streamsettlement.service.cache;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.entity.stream.content.ContentPost;
+import com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants;
+import com.github.garamflow.streamsettlement.repository.stream.ContentPostQuerydslRepository;
+import com.github.garamflow.streamsettlement.service.stream.ContentPlaybackMetadata;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ContentMetadataCacheServiceTest {
+
+    @Mock
+    private ContentPostQuerydslRepository contentPostQuerydslRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic invalidationTopic;
+
+    private ContentMetadataCacheService contentMetadataCacheService;
+
+    @BeforeEach
+    void setUp() {
+        StreamingProperties streamingProperties = new StreamingProperties();
+        streamingProperties.getMetadataCache().setEnabled(true);
+        when(redissonClient.getTopic(RedisKeyConstants.CONTENT_METADATA_INVALIDATION_TOPIC, StringCodec.INSTANCE))
+                .thenReturn(invalidationTopic);
+        contentMetadataCacheService = new ContentMetadataCacheService(
+                contentPostQuerydslRepository, streamingProperties, new SimpleMeterRegistry(), redissonClient);
+        contentMetadataCacheService.init();
+
+        when(contentPostQuerydslRepository.findPlaybackMetadata(1L))
+                .thenReturn(Optional.of(createMetadata(1L, "title")));
+        when(contentPostQuerydslRepository.findPlaybackMetadata(2L))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("첫 조회는 DB 에서 적재하고 이후 조회는 캐시에서 반환한다")
+    void loadsOnMissAndServesHits() {
+        // when
+        Optional<ContentPlaybackMetadata> first = contentMetadataCacheService.get(1L);
+        Optional<ContentPlaybackMetadata> second = contentMetadataCacheService.get(1L);
+
+        // then
+        assertThat(first).map(ContentPlaybackMetadata::title).contains("title");
+        assertThat(second).isEqualTo(first);
+        verify(contentPostQuerydslRepository, times(1)).findPlaybackMetadata(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 컨텐츠는 캐시하지 않는다")
+    void doesNotCacheMissingContent() {
+        // when
+        contentMetadataCacheService.get(2L);
+        Optional<ContentPlaybackMetadata> result = contentMetadataCacheService.get(2L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(contentPostQuerydslRepository, times(2)).findPlaybackMetadata(2L);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 변경된 메타데이터를 다시 적재한다")
+    void reloadsAfterInvalidate() {
+        // given
+        contentMetadataCacheService.get(1L);
+        when(contentPostQuerydslRepository.findPlaybackMetadata(1L))
+                .thenReturn(Optional.of(createMetadata(1L, "changed")));
+
+        // when
+        contentMetadataCacheService.invalidate(1L);
+        Optional<ContentPlaybackMetadata> result = contentMetadataCacheService.get(1L);
+
+        // then
+        assertThat(result).map(ContentPlaybackMetadata::title).contains("changed");
+        verify(contentPostQuerydslRepository, times(2)).findPlaybackMetadata(1L);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 노드로 컨텐츠 ID 를 브로드캐스트한다")
+    void broadcastsInvalidation() {
+        // when
+        contentMetadataCacheService.invalidate(1L);
+
+        // then
+        verify(invalidationTopic).publish("1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시 항목을 제거한다")
+    @SuppressWarnings("unchecked")
+    void invalidatesOnRemoteMessage() {
+        // given
+        contentMetadataCacheService.get(1L);
+        ArgumentCaptor<MessageListener<String>> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(invalidationTopic).addListener(eq(String.class), listenerCaptor.capture());
+
+        // when
+        listenerCaptor.getValue().onMessage(RedisKeyConstants.CONTENT_METADATA_INVALIDATION_TOPIC, "1");
+        contentMetadataCacheService.get(1L);
+
+        // then
+        verify(contentPostQuerydslRepository, times(2)).findPlaybackMetadata(1L);
+        verify(invalidationTopic, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("컨텐츠 엔티티 변경이 커밋되면 리스너가 해당 캐시 항목을 무효화한다")
+    void listenerInvalidatesOnContentChange() {
+        // given
+        contentMetadataCacheService.get(1L);
+        ContentMetadataInvalidationListener listener = new ContentMetadataInvalidationListener(
+                mock(EntityManagerFactory.class), contentMetadataCacheService);
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getEntity()).thenReturn(ContentPost.existingBuilder().id(1L).title("changed").build());
+
+        // when
+        listener.onPostUpdate(event);
+        contentMetadataCacheService.get(1L);
+
+        // then
+        verify(contentPostQuerydslRepository, times(2)).findPlaybackMetadata(1L);
+        verify(invalidationTopic).publish("1");
+    }
+
+    private ContentPlaybackMetadata createMetadata(Long contentId, String title) {
+        return new ContentPlaybackMetadata(contentId, 10L, title, "https://example.com/" + contentId, 600);
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.garamflow.streamsettlement.service.cache;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.repository.log.DailyLogTotals;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DailyStatisticsCounterServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private DailyWatchedContentQuerydslRepository dailyWatchedContentQuerydslRepository;
+
+    private DailyStatisticsCounterService counterService;
+
+    private final LocalDate date = LocalDate.of(2024, 1, 10);
+
+    @BeforeEach
+    void setUp() {
+        StreamingProperties streamingProperties = new StreamingProperties();
+        streamingProperties.getDailyCounter().setEnabled(true);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(valueOperations.get(DAILY_COUNTER_TRACKING_SINCE_KEY)).thenReturn(date.minusDays(1).atStartOfDay().toString());
+
+        counterService = new DailyStatisticsCounterService(
+                redisTemplate, streamingProperties, dailyWatchedContentQuerydslRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에만 카운터를 증가시킨다")
+    void incrementsAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        counterService.incrementViews(1L, date);
+
+        // then
+        verify(hashOperations, never()).increment(anyString(), any(), anyLong());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(hashOperations).increment(DAILY_COUNTER_VIEWS_KEY_PREFIX + date, "1", 1L);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 증가분은 카운터에 반영하지 않는다")
+    void skipsIncrementOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        counterService.addWatchTime(1L, date, 30L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(hashOperations, never()).increment(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터 합계가 시청 로그 합계와 같으면 신뢰한다")
+    void trustsCountersMatchingLogs() {
+        // given
+        when(hashOperations.values(DAILY_COUNTER_VIEWS_KEY_PREFIX + date)).thenReturn(List.of("3", "2"));
+        when(hashOperations.values(DAILY_COUNTER_WATCH_TIME_KEY_PREFIX + date)).thenReturn(List.of("100", "50"));
+        when(dailyWatchedContentQuerydslRepository.findLogTotalsByWatchedDate(date))
+                .thenReturn(new DailyLogTotals(2L, 5L, 150L));
+
+        // when & then
+        assertThat(counterService.isTrackedFor(date)).isTrue();
+    }
+
+    @Test
+    @DisplayName("카운터가 시청 로그보다 많으면 검증 실패로 SQL 집계에 맡긴다")
+    void rejectsCountersInflatedBeyondLogs() {
+        // given (롤백된 시청 기록이 반영된 카운터)
+        when(hashOperations.values(DAILY_COUNTER_VIEWS_KEY_PREFIX + date)).thenReturn(List.of("4", "2"));
+        when(hashOperations.values(DAILY_COUNTER_WATCH_TIME_KEY_PREFIX + date)).thenReturn(List.of("100", "50"));
+        when(dailyWatchedContentQuerydslRepository.findLogTotalsByWatchedDate(date))
+                .thenReturn(new DailyLogTotals(2L, 5L, 150L));
+
+        // when
+        boolean first = counterService.isTrackedFor(date);
+        boolean second = counterService.isTrackedFor(date);
+
+        // then (파티션마다 다시 대조하지 않음)
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(dailyWatchedContentQuerydslRepository, times(1)).findLogTotalsByWatchedDate(date);
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.garamflow.streamsettlement.service.cache;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.github.garamflow.streamsettlement.redis.constant.RedisKeyConstants.VIEW_COUNT_KEY_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ViewCountCacheServiceImplTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private ViewCountCacheServiceImpl viewCountCacheService;
+
+    @BeforeEach
+    void setUp() {
+        StreamingProperties streamingProperties = new StreamingProperties();
+        streamingProperties.getViewCount().setLocalAggregation(true);
+        viewCountCacheService = new ViewCountCacheServiceImpl(redisTemplate, streamingProperties);
+    }
+
+    @Test
+    @DisplayName("로컬 집계 모드에서는 조회수 증가 시 Redis 를 호출하지 않는다")
+    void incrementDoesNotTouchRedis() {
+        // when
+        for (int i = 0; i < 100; i++) {
+            viewCountCacheService.incrementViewCount(1L);
+        }
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("flush 시 누적된 조회수를 한 번의 파이프라인으로 반영한다")
+    void flushUsesSinglePipeline() {
+        // given
+        viewCountCacheService.incrementViewCount(1L);
+        viewCountCacheService.incrementViewCount(1L);
+        viewCountCacheService.incrementViewCount(2L);
+
+        // when
+        viewCountCacheService.flushLocalViewCounts();
+        viewCountCacheService.flushLocalViewCounts();
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("flush 실패로 되돌린 조회수는 이미 동기화된 지난 분 키가 아닌 현재 분 키로 반영한다")
+    @SuppressWarnings("unchecked")
+    void restoredCountsMoveToCurrentMinute() {
+        // given
+        viewCountCacheService.incrementViewCount(1L);
+        viewCountCacheService.incrementViewCount(1L);
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("Redis down"))
+                .thenReturn(List.of());
+        LocalDateTime now = LocalDateTime.now();
+        viewCountCacheService.flushLocalViewCounts(now);
+
+        // when (장애가 동기화 시점을 지나 2분 뒤 복구)
+        LocalDateTime recovered = now.plusMinutes(2).withSecond(30);
+        viewCountCacheService.flushLocalViewCounts(recovered);
+
+        // then
+        ArgumentCaptor<SessionCallback<Object>> captor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(captor.capture());
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(operations.opsForHash()).thenReturn(hashOperations);
+        captor.getValue().execute(operations);
+
+        verify(hashOperations).increment(keyOf(recovered), "1", 2L);
+        verify(hashOperations, never()).increment(eq(keyOf(now)), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("지난 분 집계 맵은 키 만료 전까지 남겨 두어 늦게 도착한 증가분도 현재 분 키로 반영한다")
+    @SuppressWarnings("unchecked")
+    void keepsPastMinuteCountsUntilKeyExpires() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        viewCountCacheService.incrementViewCount(1L);
+        viewCountCacheService.flushLocalViewCounts(now);
+        Map<String, Map<Long, LongAdder>> localViewCounts = (Map<String, Map<Long, LongAdder>>)
+                ReflectionTestUtils.getField(viewCountCacheService, "localViewCounts");
+        Map<Long, LongAdder> pastMinute = localViewCounts.get(keyOf(now));
+
+        // when (2분 뒤 빈 맵 정리 주기 이후, 맵을 먼저 얻어 둔 증가 경로가 뒤늦게 증가)
+        LocalDateTime later = now.plusMinutes(2).withSecond(30);
+        viewCountCacheService.flushLocalViewCounts(later);
+        pastMinute.computeIfAbsent(1L, k -> new LongAdder()).increment();
+        viewCountCacheService.flushLocalViewCounts(later);
+
+        // then
+        ArgumentCaptor<SessionCallback<Object>> captor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(captor.capture());
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(operations.opsForHash()).thenReturn(hashOperations);
+        captor.getValue().execute(operations);
+        verify(hashOperations).increment(keyOf(later), "1", 1L);
+
+        // 키 만료 시간이 지나면 빈 맵 정리
+        viewCountCacheService.flushLocalViewCounts(now.plusMinutes(ViewCountCacheServiceImpl.VIEW_COUNT_EXPIRE_MINUTES + 1));
+        assertThat(localViewCounts).doesNotContainKey(keyOf(now));
+    }
+
+    private String keyOf(LocalDateTime time) {
+        return VIEW_COUNT_KEY_PREFIX + time.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HHmm"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.garamflow.streamsettlement.service.statistics;
+
+import com.github.garamflow.streamsettlement.controller.dto.statistics.ContentStatisticsResponse;
+import com.github.garamflow.streamsettlement.entity.statistics.ContentLeaderboard;
+import com.github.garamflow.streamsettlement.entity.statistics.LeaderboardMetric;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsPeriod;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentLeaderboardRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsQuerydslRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static java.time.temporal.TemporalAdjusters.previousOrSame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentStatisticsServiceTest {
+
+    @Mock
+    private ContentStatisticsQuerydslRepository contentStatisticsQuerydslRepository;
+
+    @Mock
+    private ContentStatisticsRepository contentStatisticsRepository;
+
+    @Mock
+    private ContentLeaderboardRepository contentLeaderboardRepository;
+
+    @InjectMocks
+    private ContentStatisticsService contentStatisticsService;
+
+    @Test
+    @DisplayName("리더보드가 있으면 통계 정렬 조회 없이 순위 순서대로 반환")
+    void readsTopViewsFromLeaderboard() {
+        // given
+        LocalDate weekStart = LocalDate.now().with(previousOrSame(DayOfWeek.MONDAY));
+        when(contentLeaderboardRepository.findTop5ByPeriodAndPeriodDateAndMetricOrderByRankingAsc(
+                StatisticsPeriod.WEEKLY, weekStart, LeaderboardMetric.VIEW_COUNT))
+                .thenReturn(List.of(
+                        createLeaderboard(1, 10L, "first", 300L),
+                        createLeaderboard(2, 20L, "second", 200L)));
+
+        // when
+        List<ContentStatisticsResponse> result = contentStatisticsService.getTop5Views(StatisticsPeriod.WEEKLY);
+
+        // then
+        assertThat(result).extracting(ContentStatisticsResponse::title).containsExactly("first", "second");
+        assertThat(result).extracting(ContentStatisticsResponse::viewCount).containsExactly(300L, 200L);
+        verifyNoInteractions(contentStatisticsQuerydslRepository);
+    }
+
+    @Test
+    @DisplayName("리더보드 슬롯이 비어 있으면 통계 정렬 조회로 대체")
+    void fallsBackToStatisticsWhenLeaderboardIsEmpty() {
+        // given
+        when(contentLeaderboardRepository.findTop5ByPeriodAndPeriodDateAndMetricOrderByRankingAsc(
+                any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        when(contentStatisticsQuerydslRepository.findTop5ByWatchTime(StatisticsPeriod.DAILY, LocalDate.now()))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        List<ContentStatisticsResponse> result = contentStatisticsService.getTop5WatchTime(StatisticsPeriod.DAILY);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(contentStatisticsQuerydslRepository).findTop5ByWatchTime(StatisticsPeriod.DAILY, LocalDate.now());
+    }
+
+    private ContentLeaderboard createLeaderboard(int ranking, Long contentPostId, String title, Long viewCount) {
+        return ContentLeaderboard.existingBuilder()
+                .period(StatisticsPeriod.WEEKLY)
+                .periodDate(LocalDate.now().with(previousOrSame(DayOfWeek.MONDAY)))
+                .metric(LeaderboardMetric.VIEW_COUNT)
+                .ranking(ranking)
+                .contentPostId(contentPostId)
+                .title(title)
+                .viewCount(viewCount)
+                .watchTime(0L)
+                .build();
+    }
+}
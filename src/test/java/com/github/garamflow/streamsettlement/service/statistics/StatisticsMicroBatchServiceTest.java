@@ -0,0 +1,132 @@
+package com.github.garamflow.streamsettlement.service.statistics;
+
+import com.github.garamflow.streamsettlement.batch.config.BatchProperties;
+import com.github.garamflow.streamsettlement.entity.statistics.StatisticsWatermark;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentQuerydslRepository;
+import com.github.garamflow.streamsettlement.repository.log.MemberContentWatchLogRepository;
+import com.github.garamflow.streamsettlement.repository.log.WatchLogChange;
+import com.github.garamflow.streamsettlement.repository.statistics.ContentStatisticsRepository;
+import com.github.garamflow.streamsettlement.repository.statistics.StatisticsWatermarkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StatisticsMicroBatchServiceTest {
+
+    @Mock
+    private MemberContentWatchLogRepository memberContentWatchLogRepository;
+
+    @Mock
+    private ContentStatisticsRepository contentStatisticsRepository;
+
+    @Mock
+    private StatisticsWatermarkRepository statisticsWatermarkRepository;
+
+    @Mock
+    private DailyWatchedContentQuerydslRepository dailyWatchedContentRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BatchProperties batchProperties;
+    private StatisticsMicroBatchService service;
+
+    private final LocalDate today = LocalDate.of(2024, 1, 2);
+    private final LocalDateTime trackingSince = LocalDate.of(2024, 1, 1).atStartOfDay();
+
+    @BeforeEach
+    void setUp() {
+        batchProperties = new BatchProperties();
+        batchProperties.getMicroBatch().setPageSize(2);
+
+        service = new StatisticsMicroBatchService(
+                memberContentWatchLogRepository,
+                contentStatisticsRepository,
+                statisticsWatermarkRepository,
+                dailyWatchedContentRepository,
+                redissonClient,
+                transactionManager,
+                batchProperties,
+                new SimpleMeterRegistry()
+        );
+        service.init();
+    }
+
+    @Test
+    @DisplayName("변경된 로그의 (날짜, 컨텐츠) 조합만 재집계하고 워터마크를 마지막 로그로 이동한다")
+    void appliesChangedContentsAndAdvancesWatermark() {
+        // given
+        StatisticsWatermark watermark = StatisticsWatermark.createBuilder()
+                .name(StatisticsMicroBatchService.WATERMARK_NAME)
+                .trackingSince(trackingSince)
+                .build();
+        when(statisticsWatermarkRepository.findById(StatisticsMicroBatchService.WATERMARK_NAME))
+                .thenReturn(Optional.of(watermark));
+
+        LocalDateTime t1 = today.atTime(10, 0);
+        LocalDateTime t2 = today.atTime(10, 1);
+        when(memberContentWatchLogRepository.findChangedAfter(eq(trackingSince), eq(0L), any(), eq(2)))
+                .thenReturn(List.of(
+                        new WatchLogChange(5L, 1L, today, t1),
+                        new WatchLogChange(3L, 2L, today.minusDays(1), t2)
+                ));
+        when(memberContentWatchLogRepository.findChangedAfter(eq(t2), eq(3L), any(), eq(2)))
+                .thenReturn(List.of(new WatchLogChange(7L, 1L, today, t2)));
+
+        // when
+        int applied = service.catchUp(10);
+
+        // then
+        assertThat(applied).isEqualTo(3);
+        verify(contentStatisticsRepository, times(2)).upsertDailyFromWatchLogs(today, Set.of(1L));
+        verify(contentStatisticsRepository).upsertDailyFromWatchLogs(today.minusDays(1), Set.of(2L));
+        assertThat(watermark.getLastUpdatedAt()).isEqualTo(t2);
+        assertThat(watermark.getLastLogId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("변경된 로그가 없으면 통계와 워터마크를 갱신하지 않는다")
+    void doesNothingWhenNoChanges() {
+        // given
+        StatisticsWatermark watermark = StatisticsWatermark.createBuilder()
+                .name(StatisticsMicroBatchService.WATERMARK_NAME)
+                .trackingSince(trackingSince)
+                .build();
+        when(statisticsWatermarkRepository.findById(StatisticsMicroBatchService.WATERMARK_NAME))
+                .thenReturn(Optional.of(watermark));
+        when(memberContentWatchLogRepository.findChangedAfter(any(), anyLong(), any(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        int applied = service.catchUp(10);
+
+        // then
+        assertThat(applied).isZero();
+        verify(contentStatisticsRepository, never()).upsertDailyFromWatchLogs(any(), anyCollection());
+        verify(statisticsWatermarkRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.garamflow.streamsettlement.service.statistics;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.controller.dto.statistics.TrendingContentResponse;
+import com.github.garamflow.streamsettlement.service.cache.ContentMetadataCacheService;
+import com.github.garamflow.streamsettlement.service.stream.ContentPlaybackMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TrendingScoreServiceTest {
+
+    @Mock
+    private ContentMetadataCacheService contentMetadataCacheService;
+
+    private StreamingProperties streamingProperties;
+    private TrendingScoreService trendingScoreService;
+
+    @BeforeEach
+    void setUp() {
+        streamingProperties = new StreamingProperties();
+        streamingProperties.getTrending().setHalfLifeMinutes(10.0);
+        streamingProperties.getTrending().setSize(2);
+        streamingProperties.getTrending().setCapacity(3);
+        trendingScoreService = new TrendingScoreService(streamingProperties, contentMetadataCacheService);
+
+        when(contentMetadataCacheService.get(anyLong())).thenAnswer(invocation -> {
+            Long contentId = invocation.getArgument(0);
+            return Optional.of(new ContentPlaybackMetadata(contentId, 1L, "title-" + contentId, "url", 60));
+        });
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 이전 조회수의 점수가 절반으로 감쇠되어 최근 조회 컨텐츠가 앞선다")
+    void decaysOlderViewsByHalfLife() {
+        // given
+        trendingScoreService.fold(Map.of(1L, 100L), 1_000L);
+
+        // when
+        trendingScoreService.fold(Map.of(2L, 60L), 1_010L);
+
+        // then
+        assertThat(trendingScoreService.getRanking())
+                .extracting(TrendingContentResponse::contentPostId)
+                .containsExactly(2L, 1L);
+        assertThat(trendingScoreService.getRanking().get(1).score()).isCloseTo(50.0, within(1e-9));
+        assertThat(trendingScoreService.getRanking().get(0).title()).isEqualTo("title-2");
+    }
+
+    @Test
+    @DisplayName("점수는 capacity 개 컨텐츠까지만 유지하고 순위는 size 개만 제공")
+    void keepsBoundedScores() {
+        // given
+        Map<Long, Long> viewCounts = new HashMap<>();
+        for (long contentId = 1; contentId <= 5; contentId++) {
+            viewCounts.put(contentId, contentId * 10);
+        }
+
+        // when
+        trendingScoreService.fold(viewCounts, 1_000L);
+        trendingScoreService.fold(Map.of(1L, 1_000L), 1_001L);
+
+        // then
+        assertThat(trendingScoreService.getRanking())
+                .extracting(TrendingContentResponse::contentPostId)
+                .containsExactly(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("기준 분을 옮겨도 점수와 순위가 유지된다")
+    void keepsScoresAcrossRebase() {
+        // given
+        trendingScoreService.fold(Map.of(1L, 1_000L), 0L);
+
+        // when (반감기 40번 경과 -> 기준 분 재설정)
+        trendingScoreService.fold(Map.of(2L, 1L), 400L);
+
+        // then
+        assertThat(trendingScoreService.getRanking())
+                .extracting(TrendingContentResponse::contentPostId)
+                .containsExactly(2L);
+        assertThat(trendingScoreService.getRanking().get(0).score()).isCloseTo(1.0, within(1e-9));
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.garamflow.streamsettlement.service.stream;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.redis.dto.AbusingKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ViewAbusingCacheServiceTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ViewAbusingCacheService viewAbusingCacheService;
+
+    @BeforeEach
+    void setUp() {
+        StreamingProperties streamingProperties = new StreamingProperties();
+        streamingProperties.getAbuse().setLockFree(true);
+
+        viewAbusingCacheService = new ViewAbusingCacheService(redissonClient, redisTemplate, streamingProperties);
+        viewAbusingCacheService.init();
+    }
+
+    @Test
+    @DisplayName("크리에이터 본인 시청은 Redis 호출 없이 조회수로 인정하지 않는다")
+    void creatorIsExempt() {
+        // given
+        AbusingKey key = AbusingKey.of(1L, 10L, 1L, "127.0.0.1");
+
+        // when
+        boolean recorded = viewAbusingCacheService.tryRecordView(key);
+
+        // then
+        assertThat(recorded).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("SET NX 성공 시 조회수로 인정하고 이후 요청은 로컬 캐시로 차단한다")
+    void recordsOnceAndCachesLocally() {
+        // given
+        AbusingKey key = AbusingKey.of(2L, 10L, 1L, "127.0.0.1");
+        givenRecordViewResult(1L, 30_000L);
+
+        // when
+        boolean first = viewAbusingCacheService.tryRecordView(key);
+        boolean second = viewAbusingCacheService.tryRecordView(key);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(viewAbusingCacheService.isAbusing(key)).isTrue();
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyString());
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 기록한 키는 조회수로 인정하지 않는다")
+    void existingKeyIsAbusing() {
+        // given
+        AbusingKey key = AbusingKey.of(3L, 10L, 1L, "10.0.0.1");
+        givenRecordViewResult(0L, 12_000L);
+
+        // when
+        boolean recorded = viewAbusingCacheService.tryRecordView(key);
+
+        // then
+        assertThat(recorded).isFalse();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시는 Redis 키의 남은 TTL 이 지나면 만료되어 다시 Redis 로 확인한다")
+    void localCacheNeverOutlivesRedisKey() throws InterruptedException {
+        // given (다른 노드가 기록한 키가 50ms 남은 상태)
+        AbusingKey key = AbusingKey.of(4L, 10L, 1L, "10.0.0.2");
+        givenRecordViewResult(0L, 50L);
+        viewAbusingCacheService.tryRecordView(key);
+
+        // when
+        Thread.sleep(100);
+        givenRecordViewResult(1L, 30_000L);
+        boolean recorded = viewAbusingCacheService.tryRecordView(key);
+
+        // then
+        assertThat(recorded).isTrue();
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRecordViewResult(long recorded, long remainingTtlMs) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+                .thenReturn(List.of(recorded, remainingTtlMs));
+    }
+}
@@ -0,0 +1,215 @@
+package com.github.garamflow.streamsettlement.service.stream;
+
+import com.github.garamflow.streamsettlement.config.StreamingProperties;
+import com.github.garamflow.streamsettlement.entity.stream.Log.MemberContentWatchLog;
+import com.github.garamflow.streamsettlement.entity.stream.Log.StreamingStatus;
+import com.github.garamflow.streamsettlement.repository.log.DailyWatchedContentRepository;
+import com.github.garamflow.streamsettlement.repository.log.MemberContentWatchLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WatchLogWriteBehindBufferTest {
+
+    @Mock
+    private MemberContentWatchLogRepository memberContentWatchLogRepository;
+
+    @Mock
+    private DailyWatchedContentRepository dailyWatchedContentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private StreamingProperties streamingProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private WatchLogWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        streamingProperties = new StreamingProperties();
+        streamingProperties.getWriteBehind().setEnabled(true);
+        streamingProperties.getWriteBehind().setCapacity(3);
+        streamingProperties.getWriteBehind().setFlushSize(100);
+        meterRegistry = new SimpleMeterRegistry();
+
+        buffer = new WatchLogWriteBehindBuffer(
+                memberContentWatchLogRepository,
+                dailyWatchedContentRepository,
+                streamingProperties,
+                transactionManager,
+                taskScheduler,
+                meterRegistry
+        );
+        buffer.init();
+    }
+
+    @Test
+    @DisplayName("같은 회원/컨텐츠 로그는 한 번만 적재된다")
+    void enqueueDeduplicatesSameMemberAndContent() {
+        // given
+        buffer.enqueue(createLog(1L, 10L));
+        buffer.enqueue(createLog(1L, 10L));
+        buffer.enqueue(createLog(2L, 10L));
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<MemberContentWatchLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memberContentWatchLogRepository).bulkInsertLogs(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(buffer.isPending(1L, 10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("버퍼 용량을 초과하면 호출 스레드에서 즉시 flush 한다")
+    void enqueueFlushesWhenCapacityExceeded() {
+        // given
+        buffer.enqueue(createLog(1L, 10L));
+        buffer.enqueue(createLog(2L, 10L));
+        buffer.enqueue(createLog(3L, 10L));
+
+        // when
+        buffer.enqueue(createLog(4L, 10L));
+
+        // then
+        verify(memberContentWatchLogRepository, times(1)).bulkInsertLogs(anyList());
+        assertThat(buffer.isPending(4L, 10L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 로그를 버퍼에 다시 적재한다")
+    void flushRequeuesOnFailure() {
+        // given
+        buffer.enqueue(createLog(1L, 10L));
+        doThrow(new RuntimeException("DB down")).when(memberContentWatchLogRepository).bulkInsertLogs(anyList());
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.isPending(1L, 10L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("flush 중인 로그는 커밋 전까지 대기 중으로 보이고 같은 로그를 다시 적재하지 않는다")
+    void keepsInFlightLogsPendingUntilCommit() {
+        // given
+        buffer.enqueue(createLog(1L, 10L));
+        List<Boolean> pendingDuringFlush = new ArrayList<>();
+        doAnswer(invocation -> {
+            pendingDuringFlush.add(buffer.isPending(1L, 10L));
+            buffer.enqueue(createLog(1L, 10L));
+            return null;
+        }).when(memberContentWatchLogRepository).bulkInsertLogs(anyList());
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(pendingDuringFlush).containsExactly(true);
+        assertThat(buffer.isPending(1L, 10L)).isFalse();
+        verify(memberContentWatchLogRepository, times(1)).bulkInsertLogs(anyList());
+    }
+
+    @Test
+    @DisplayName("flush 실패 시 최초 적재 시각을 유지하여 flush lag 에 반영한다")
+    void flushFailureKeepsOriginalEnqueueTime() throws InterruptedException {
+        // given
+        buffer.enqueue(createLog(1L, 10L));
+        Thread.sleep(20);
+        doThrow(new RuntimeException("DB down")).when(memberContentWatchLogRepository).bulkInsertLogs(anyList());
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(meterRegistry.get("streaming.watch-log.buffer.flush.lag").timeGauge()
+                .value(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("동시에 적재해도 용량을 넘지 않고, flush 가 실패해 가득 찬 동안은 버퍼 대신 직접 저장한다")
+    void concurrentEnqueueNeverExceedsCapacity() throws InterruptedException {
+        // given
+        doThrow(new RuntimeException("DB down")).when(memberContentWatchLogRepository).bulkInsertLogs(anyList());
+        int logCount = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (long memberId = 1; memberId <= logCount; memberId++) {
+            long id = memberId;
+            executor.submit(() -> {
+                start.await();
+                buffer.enqueue(createLog(id, 10L));
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(meterRegistry.get("streaming.watch-log.buffer.size").gauge().value()).isEqualTo(3.0);
+        verify(memberContentWatchLogRepository, times(logCount - 3)).save(any(MemberContentWatchLog.class));
+        assertThat(meterRegistry.get("streaming.watch-log.buffer.overflow").counter().count())
+                .isEqualTo(logCount - 3);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 일일 시청 컨텐츠와 로그를 모두 저장한다")
+    void drainFlushesPendingEntries() {
+        // given
+        LocalDate today = LocalDate.now();
+        buffer.registerDailyContent(10L, today);
+        buffer.registerDailyContent(10L, today);
+        buffer.enqueue(createLog(1L, 10L));
+
+        // when
+        buffer.drain();
+
+        // then
+        verify(dailyWatchedContentRepository, times(1)).save(any());
+        verify(memberContentWatchLogRepository, times(1)).bulkInsertLogs(anyList());
+        assertThat(meterRegistry.get("streaming.watch-log.buffer.flushed").counter().count()).isEqualTo(1.0);
+    }
+
+    private MemberContentWatchLog createLog(Long memberId, Long contentId) {
+        return MemberContentWatchLog.existingBuilder()
+                .memberId(memberId)
+                .contentPostId(contentId)
+                .lastPlaybackPosition(0L)
+                .totalPlaybackTime(0L)
+                .watchedDate(LocalDate.now())
+                .streamingStatus(StreamingStatus.IN_PROGRESS)
+                .build();
+    }
+}